@@ -0,0 +1,78 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark compares the three formats the applications can now send a list of employees in: JSON, CBOR and Smile. For every format the
+time to write and to read a list of "employees" EmployeeDto objects is measured, and the size of the encoded list is printed once in the
+setup, so both the CPU cost and the bytes on the wire of each format can be compared.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"1", "100"})
+    private int employees;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    private List<EmployeeDto> employeeList;
+
+    private byte[] encodedList;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeDto.class);
+        writer = objectMapper.writerFor(listType);
+        reader = objectMapper.readerFor(listType);
+
+        employeeList = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            employeeList.add(new EmployeeDto(String.format("656f3c0a9d1b2c4e5f%06d", i), "Emre", "Ozcan", "emre" + i + "@gmail.com"));
+        }
+        encodedList = writer.writeValueAsBytes(employeeList);
+        System.out.printf("%n%s: %d employees are encoded in %d bytes%n", format, employees, encodedList.length);
+    }
+
+    @Benchmark
+    public byte[] writeEmployees() throws IOException {
+        return writer.writeValueAsBytes(employeeList);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> readEmployees() throws IOException {
+        return reader.readValue(encodedList);
+    }
+}
@@ -0,0 +1,48 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark measures the conversions between Employee and EmployeeDto done by the EmployeeMapper of the WebFlux project.
+Every request of the reactive API goes through one of these conversions.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeMapperBenchmark {
+
+    private Employee employee;
+
+    private EmployeeDto employeeDto;
+
+    @Setup
+    public void setup() {
+        employee = new Employee("656f3c0a9d1b2c4e5f6a7b8c", "Emre", "Ozcan", "emre@gmail.com");
+        employeeDto = new EmployeeDto("656f3c0a9d1b2c4e5f6a7b8c", "Emre", "Ozcan", "emre@gmail.com");
+    }
+
+    @Benchmark
+    public EmployeeDto mapToEmployeeDto() {
+        return EmployeeMapper.mapToEmployeeDto(employee);
+    }
+
+    @Benchmark
+    public Employee mapToEmployee() {
+        return EmployeeMapper.mapToEmployee(employeeDto);
+    }
+}
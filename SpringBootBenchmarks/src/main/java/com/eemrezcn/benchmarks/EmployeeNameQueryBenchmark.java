@@ -0,0 +1,137 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.SpringBootTestingApplication;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark compares the four first name and last name queries of the EmployeeRepository (JPQL and native SQL, with positional and named
+parameters) and the EmployeeNameView projection on an H2 in-memory database filled with one million employees. Every first name and last name
+pair exists exactly once, so every query returns one employee. With "indexed=false" the composite name index is dropped after the table has
+been filled, which shows the cost of the full table scans the queries needed before the index existed. The application context and the table
+are created once per fork, which takes a while for a million rows.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2) //The queries run through Hibernate and H2, which need more warm-up than the other benchmarks.
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class EmployeeNameQueryBenchmark {
+
+    //The number of different first names. The number of different last names is rowCount / FIRST_NAMES.
+    private static final int FIRST_NAMES = 1000;
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    //A prime used as the step between two looked up rows, so consecutive lookups hit different parts of the index.
+    private static final int STEP = 7919;
+
+    @Param({"1000000"})
+    private int rowCount;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeRepository employeeRepository;
+
+    private int nextRow;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .run("--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop");
+        employeeRepository = context.getBean(EmployeeRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int row = 0; row < rowCount; row++) {
+            batch.add(new Object[]{row + 1L, firstName(row), lastName(row), "employee" + row + "@gmail.com"});
+            if (batch.size() == INSERT_BATCH_SIZE || row == rowCount - 1) {
+                jdbcTemplate.batchUpdate("insert into employees (id, first_name, last_name, email) values (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!indexed) {
+            jdbcTemplate.execute("drop index " + Employee.NAME_INDEX);
+        }
+        jdbcTemplate.execute("analyze");
+        nextRow = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Employee findByJPQL() {
+        int row = nextRow();
+        return employeeRepository.findByJPQL(firstName(row), lastName(row));
+    }
+
+    @Benchmark
+    public Employee findByJPQLNamedParams() {
+        int row = nextRow();
+        return employeeRepository.findByJPQLNamedParams(firstName(row), lastName(row));
+    }
+
+    @Benchmark
+    public Employee findByNativeSQL() {
+        int row = nextRow();
+        return employeeRepository.findByNativeSQL(firstName(row), lastName(row));
+    }
+
+    @Benchmark
+    public Employee findByNativeSQLNamed() {
+        int row = nextRow();
+        return employeeRepository.findByNativeSQLNamed(firstName(row), lastName(row));
+    }
+
+    @Benchmark
+    public List<EmployeeNameView> findNamesByFirstNameAndLastName() {
+        int row = nextRow();
+        return employeeRepository.findNamesByFirstNameAndLastName(firstName(row), lastName(row));
+    }
+
+    private int nextRow() {
+        nextRow = (nextRow + STEP) % rowCount;
+        return nextRow;
+    }
+
+    private static String firstName(int row) {
+        return "First" + row % FIRST_NAMES;
+    }
+
+    private static String lastName(int row) {
+        return "Last" + row / FIRST_NAMES;
+    }
+}
@@ -0,0 +1,115 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark measures the EmployeeSearchIndex of the SpringBootTesting project behind GET /api/employees/search with one million employees.
+The names are made of random syllables, so there are a few hundred first names and several thousand last names, and many employees share a
+name prefix. "queryType" selects a type-ahead query for one of the employees: the first letters of the last name, the first name and the start
+of the last name, the last name with a typo, and the start of the email.
+
+"scan" is the baseline without an index: it checks every employee for the query, like a LIKE '%query%' over the table, and only finds exact
+substrings, so it finds nothing for the typo.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class EmployeeSearchIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"em", "re", "oz", "can", "ay", "se", "al", "i", "ve", "li", "ka", "ya", "mu", "rat",
+            "de", "niz", "ser", "kan", "to", "gul", "bu", "rak", "el", "if"};
+
+    private static final int LIMIT = 10;
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    @Param({"prefix", "fullName", "typo", "email"})
+    private String queryType;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    private List<Employee> employees;
+
+    private String query;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EmployeeRepository employeeRepository = InMemoryJpaEmployeeRepository.create();
+        Random random = new Random(42);
+        List<Employee> generated = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            String firstName = name(random, 2);
+            String lastName = name(random, 3);
+            generated.add(Employee.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(firstName.toLowerCase(Locale.ROOT) + "." + lastName.toLowerCase(Locale.ROOT) + i + "@gmail.com")
+                    .build());
+        }
+        employees = employeeRepository.saveAll(generated);
+        employeeSearchIndex = new EmployeeSearchIndex(employeeRepository);
+        employeeSearchIndex.rebuild();
+
+        Employee target = employees.get(employeeCount / 2);
+        String lastName = target.getLastName().toLowerCase(Locale.ROOT);
+        query = switch (queryType) {
+            case "prefix" -> lastName.substring(0, 3);
+            case "fullName" -> target.getFirstName().toLowerCase(Locale.ROOT) + " " + lastName.substring(0, 4);
+            case "typo" -> lastName.substring(0, lastName.length() - 2) + "x" + lastName.charAt(lastName.length() - 1);
+            case "email" -> target.getEmail().substring(0, target.getEmail().indexOf('@') - 2);
+            default -> throw new IllegalArgumentException(queryType);
+        };
+    }
+
+    @Benchmark
+    public List<Employee> search() {
+        return employeeSearchIndex.search(query, LIMIT);
+    }
+
+    //Returns at most LIMIT employees whose name or email contains the query, in id order.
+    @Benchmark
+    public List<Employee> scan() {
+        List<Employee> found = new ArrayList<>(LIMIT);
+        for (Employee employee : employees) {
+            String text = (employee.getFirstName() + " " + employee.getLastName() + " " + employee.getEmail()).toLowerCase(Locale.ROOT);
+            if (text.contains(query)) {
+                found.add(employee);
+                if (found.size() == LIMIT) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static String name(Random random, int syllables) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import com.eemrezcn.education.service.EmployeeService;
+import com.eemrezcn.education.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark measures the EmployeeServiceImpl of the SpringBootTesting project against an in-memory repository, so only the cost of the
+service code itself is measured. The repository is filled again before every iteration, so saved employees do not pile up.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    @Param({"10000"})
+    private int employeeCount;
+
+    private EmployeeService employeeService;
+
+    private long nextId;
+
+    private int nextNewEmployee;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        EmployeeRepository employeeRepository = InMemoryJpaEmployeeRepository.create();
+        EmployeeEmailFilter employeeEmailFilter = new EmployeeEmailFilter(employeeRepository, new SimpleMeterRegistry());
+        employeeService = new EmployeeServiceImpl(employeeRepository, new EmployeeSearchIndex(employeeRepository), employeeEmailFilter);
+        for (int i = 0; i < employeeCount; i++) {
+            employeeRepository.save(employee(i));
+        }
+        employeeEmailFilter.rebuild();
+        nextId = 0;
+        nextNewEmployee = employeeCount;
+    }
+
+    //Every saved employee gets an email that is not taken yet, since the service rejects a known email.
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(employee(nextNewEmployee++));
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return employeeService.getEmployeeById(nextExistingId());
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesAfter() {
+        return employeeService.getEmployeesAfter(nextExistingId(), 50);
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        Employee employee = employee(-1);
+        employee.setId(nextExistingId());
+        return employeeService.updateEmployee(employee);
+    }
+
+    //Returns the ids 1..employeeCount one after the other, so the reads are spread over the whole repository.
+    private long nextExistingId() {
+        nextId = nextId % employeeCount + 1;
+        return nextId;
+    }
+
+    private static Employee employee(int number) {
+        return Employee.builder()
+                .firstName("Emre")
+                .lastName("Ozcan")
+                .email("emre" + number + "@gmail.com")
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeEmail;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*This class creates an EmployeeRepository of the SpringBootTesting project that keeps the employees in a sorted map instead of a database,
+so the service benchmarks measure the service code and not the database. The JpaRepository interface has many methods; only the ones the
+EmployeeServiceImpl calls are implemented, every other method throws an UnsupportedOperationException. Ids are handed out in ascending order,
+like the database sequence does.*/
+final class InMemoryJpaEmployeeRepository {
+
+    private final ConcurrentNavigableMap<Long, Employee> employees = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private InMemoryJpaEmployeeRepository() {
+    }
+
+    static EmployeeRepository create() {
+        InMemoryJpaEmployeeRepository repository = new InMemoryJpaEmployeeRepository();
+        return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class},
+                (proxy, method, args) -> repository.invoke(proxy, method, args));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invoke(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "save", "saveAndFlush":
+                return save((Employee) args[0]);
+            case "saveAll", "saveAllAndFlush":
+                List<Employee> saved = new ArrayList<>();
+                ((Iterable<Employee>) args[0]).forEach(employee -> saved.add(save(employee)));
+                return saved;
+            case "findById":
+                return Optional.ofNullable(employees.get((Long) args[0]));
+            case "existsById":
+                return employees.containsKey((Long) args[0]);
+            case "findAll":
+                if (method.getParameterCount() == 0) {
+                    return new ArrayList<>(employees.values());
+                }
+                break;
+            case "findByIdGreaterThanOrderByIdAsc":
+                return employees.tailMap((Long) args[0], false).values().stream()
+                        .limit(((Pageable) args[1]).getPageSize())
+                        .toList();
+            case "findEmailsByIdGreaterThanOrderByIdAsc":
+                return employees.tailMap((Long) args[0], false).values().stream()
+                        .limit(((Pageable) args[1]).getPageSize())
+                        .map(employee -> new EmployeeEmail(employee.getId(), employee.getEmail()))
+                        .toList();
+            case "findByEmail":
+                return employees.values().stream()
+                        .filter(employee -> employee.getEmail().equals(args[0]))
+                        .findFirst();
+            case "findVersionById":
+                return Optional.ofNullable(employees.get((Long) args[0])).map(Employee::getVersion);
+            case "updateEmployeeById":
+                return update((Long) args[0], (Long) args[1], (String) args[2], (String) args[3], (String) args[4]);
+            case "overwriteEmployeeById":
+                Employee current = employees.get((Long) args[0]);
+                return current == null ? 0 : update(current.getId(), current.getVersion(), (String) args[1], (String) args[2], (String) args[3]);
+            case "count":
+                return (long) employees.size();
+            case "deleteById":
+                employees.remove((Long) args[0]);
+                return null;
+            case "deleteEmployeeById":
+                return employees.remove((Long) args[0]) != null ? 1 : 0;
+            case "deleteEmployeesByIdIn":
+                return (int) ((Collection<Long>) args[0]).stream().filter(id -> employees.remove(id) != null).count();
+            case "deleteAll":
+                if (method.getParameterCount() == 0) {
+                    employees.clear();
+                    return null;
+                }
+                break;
+            case "toString":
+                return "InMemoryJpaEmployeeRepository";
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            default:
+                break;
+        }
+        throw new UnsupportedOperationException(method.toString());
+    }
+
+    //Replaces the employee with a changed copy if it still has the given version, like the update statement of the repository.
+    private int update(long id, long version, String firstName, String lastName, String email) {
+        Employee employee = employees.get(id);
+        if (employee == null || employee.getVersion() != version) {
+            return 0;
+        }
+        Employee updatedEmployee = employee.toBuilder().firstName(firstName).lastName(lastName).email(email).version(version + 1).build();
+        return employees.replace(id, employee, updatedEmployee) ? 1 : 0;
+    }
+
+    private Employee save(Employee employee) {
+        if (employee.getId() == null) {
+            employee.setId(sequence.incrementAndGet());
+        }
+        employees.put(employee.getId(), employee);
+        return employee;
+    }
+}
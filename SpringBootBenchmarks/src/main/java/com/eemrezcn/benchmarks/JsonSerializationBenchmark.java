@@ -0,0 +1,99 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.entity.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark measures how long Jackson needs to write and read the objects that the three applications send over HTTP: the EmployeeDto
+of the WebFlux project, the Employee entity of the SpringBootTesting project and the Student entity of the SpringBootTestContainers project.
+The ObjectMapper is configured by Jackson2ObjectMapperBuilder, like the one Spring Boot creates for the controllers, and the readers and
+writers are created once, as Spring does.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectWriter employeeDtoWriter;
+    private ObjectReader employeeDtoReader;
+    private ObjectWriter employeeWriter;
+    private ObjectReader employeeReader;
+    private ObjectWriter studentWriter;
+    private ObjectReader studentReader;
+
+    private EmployeeDto employeeDto;
+    private Employee employee;
+    private Student student;
+
+    private byte[] employeeDtoJson;
+    private byte[] employeeJson;
+    private byte[] studentJson;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        employeeDtoWriter = objectMapper.writerFor(EmployeeDto.class);
+        employeeDtoReader = objectMapper.readerFor(EmployeeDto.class);
+        employeeWriter = objectMapper.writerFor(Employee.class);
+        employeeReader = objectMapper.readerFor(Employee.class);
+        studentWriter = objectMapper.writerFor(Student.class);
+        studentReader = objectMapper.readerFor(Student.class);
+
+        employeeDto = new EmployeeDto("656f3c0a9d1b2c4e5f6a7b8c", "Emre", "Ozcan", "emre@gmail.com");
+        employee = Employee.builder().id(1L).firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build();
+        student = Student.builder().id(1L).firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build();
+
+        employeeDtoJson = employeeDtoWriter.writeValueAsBytes(employeeDto);
+        employeeJson = employeeWriter.writeValueAsBytes(employee);
+        studentJson = studentWriter.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] writeEmployeeDto() throws IOException {
+        return employeeDtoWriter.writeValueAsBytes(employeeDto);
+    }
+
+    @Benchmark
+    public EmployeeDto readEmployeeDto() throws IOException {
+        return employeeDtoReader.readValue(employeeDtoJson);
+    }
+
+    @Benchmark
+    public byte[] writeEmployee() throws IOException {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee readEmployee() throws IOException {
+        return employeeReader.readValue(employeeJson);
+    }
+
+    @Benchmark
+    public byte[] writeStudent() throws IOException {
+        return studentWriter.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public Student readStudent() throws IOException {
+        return studentReader.readValue(studentJson);
+    }
+}
@@ -0,0 +1,204 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.SpringBootTestingApplication;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import com.eemrezcn.education.service.EmployeeService;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import com.eemrezcn.education.service.impl.EmployeeServiceImpl;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*This benchmark compares the JPA EmployeeServiceImpl of the SpringBootTesting project with its R2DBC variant (the "r2dbc" profile) under high
+concurrency. One operation is a burst of 256 concurrent getEmployeeById calls for different employees on the H2 database of the "embedded" profile.
+The JPA service is blocking, so the burst runs on 200 platform threads, as many as Tomcat uses by default; the ReactiveEmployeeService is called
+directly and all 256 lookups run at once without a thread each. Both connection pools hold 256 connections, so the pools are never the limit.
+
+"dbLatencyMillis" simulates a slow or remote database: every connection is handed out only after that delay, while it is already taken from the
+pool, like the round trip of a query. The JDBC delay blocks the calling thread; the R2DBC delay is a timer that blocks no thread. At 0 ms the
+difference is the cost of the two drivers and frameworks, at 20 ms it is how many lookups each variant keeps in flight.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class R2dbcEmployeeServiceBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 256;
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"jpa", "r2dbc"})
+    private String implementation;
+
+    @Param({"0", "20"})
+    private int dbLatencyMillis;
+
+    @Param({"10000"})
+    private int employeeCount;
+
+    private ConfigurableApplicationContext context;
+
+    private EmployeeService employeeService;
+
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    private ExecutorService platformThreads;
+
+    private long[] employeeIds;
+
+    private int nextIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Duration latency = Duration.ofMillis(dbLatencyMillis);
+        context = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .profiles("embedded", "r2dbc")
+                .initializers(applicationContext -> applicationContext.getBeanFactory().addBeanPostProcessor(new SlowDatabase(latency)))
+                .run("--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.hikari.maximum-pool-size=" + CONCURRENT_REQUESTS,
+                        "--spring.r2dbc.pool.max-size=" + CONCURRENT_REQUESTS);
+
+        //The "r2dbc" profile replaces the EmployeeServiceImpl, so the JPA service is created here on the JPA repository of the same context.
+        EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+        employeeService = new EmployeeServiceImpl(employeeRepository, new EmployeeSearchIndex(employeeRepository),
+                context.getBean(EmployeeEmailFilter.class));
+        reactiveEmployeeService = context.getBean(ReactiveEmployeeService.class);
+        platformThreads = Executors.newFixedThreadPool(PLATFORM_THREADS);
+
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            employees.add(Employee.builder().firstName("Emre").lastName("Ozcan").email("emre" + i + "@gmail.com").build());
+        }
+        employeeIds = employeeRepository.saveAll(employees).stream().mapToLong(Employee::getId).toArray();
+        nextIndex = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformThreads.shutdownNow();
+        context.close();
+    }
+
+    //Returns the number of employees found, which is always CONCURRENT_REQUESTS.
+    @Benchmark
+    public long getEmployeesById() {
+        long[] ids = nextIds();
+        if (implementation.equals("r2dbc")) {
+            return Flux.fromArray(toObjects(ids))
+                    .flatMap(id -> reactiveEmployeeService.getEmployeeById(id), CONCURRENT_REQUESTS)
+                    .count()
+                    .block();
+        }
+        List<CompletableFuture<Optional<Employee>>> lookups = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            lookups.add(CompletableFuture.supplyAsync(() -> employeeService.getEmployeeById(id), platformThreads));
+        }
+        return lookups.stream().map(CompletableFuture::join).filter(Optional::isPresent).count();
+    }
+
+    //Returns the next CONCURRENT_REQUESTS different ids, so no lookup is shared by the single flight of the JPA service.
+    private long[] nextIds() {
+        long[] ids = new long[CONCURRENT_REQUESTS];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = employeeIds[nextIndex];
+            nextIndex = (nextIndex + 1) % employeeIds.length;
+        }
+        return ids;
+    }
+
+    private static Long[] toObjects(long[] ids) {
+        Long[] objects = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            objects[i] = ids[i];
+        }
+        return objects;
+    }
+
+    //Delays every JDBC and R2DBC connection by the given latency after it has been taken from its pool.
+    private record SlowDatabase(Duration latency) implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (latency.isZero()) {
+                return bean;
+            }
+            if (bean instanceof DataSource dataSource) {
+                return slowDataSource(dataSource);
+            }
+            if (bean instanceof ConnectionFactory connectionFactory) {
+                return slowConnectionFactory(connectionFactory);
+            }
+            return bean;
+        }
+
+        private DataSource slowDataSource(DataSource delegate) {
+            return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                    (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(delegate, args);
+                        } catch (InvocationTargetException exception) {
+                            throw exception.getCause();
+                        }
+                        if (method.getName().equals("getConnection")) {
+                            LockSupport.parkNanos(latency.toNanos());
+                        }
+                        return result;
+                    });
+        }
+
+        private ConnectionFactory slowConnectionFactory(ConnectionFactory delegate) {
+            return new ConnectionFactory() {
+
+                @Override
+                public Publisher<? extends Connection> create() {
+                    return Mono.from(delegate.create()).delayElement(latency);
+                }
+
+                @Override
+                public ConnectionFactoryMetadata getMetadata() {
+                    return delegate.getMetadata();
+                }
+            };
+        }
+    }
+}
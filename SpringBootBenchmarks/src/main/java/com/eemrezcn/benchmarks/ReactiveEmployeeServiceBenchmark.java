@@ -0,0 +1,103 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.example.cache.EmployeeCache;
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.repository.InMemoryEmployeeRepository;
+import com.eemrezcn.example.service.EmployeeService;
+import com.eemrezcn.example.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*This benchmark measures the EmployeeServiceImpl of the WebFlux project against the InMemoryEmployeeRepository, so the cost of the reactive
+chains, the mapping, the employee cache and the Micrometer metrics of every pipeline is measured without MongoDB. Each call is blocked on, which returns at once because the
+in-memory repository completes synchronously. The repository and the cache are created again before every iteration.*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReactiveEmployeeServiceBenchmark {
+
+    @Param({"1000"})
+    private int employeeCount;
+
+    private EmployeeService employeeService;
+
+    private EmployeeCache employeeCache;
+
+    private String[] employeeIds;
+
+    private int nextIndex;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        InMemoryEmployeeRepository employeeRepository = new InMemoryEmployeeRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        employeeCache = new EmployeeCache(10_000, Duration.ofMinutes(5), meterRegistry);
+        employeeService = new EmployeeServiceImpl(employeeRepository, employeeCache, meterRegistry,
+                new EmployeeEventPublisher(1000, 256, meterRegistry));
+        employeeIds = new String[employeeCount];
+        for (int i = 0; i < employeeCount; i++) {
+            employeeIds[i] = employeeRepository.save(new Employee(null, "Emre", "Ozcan", "emre" + i + "@gmail.com")).block().getId();
+        }
+        nextIndex = 0;
+    }
+
+    @Benchmark
+    public EmployeeDto saveEmployee() {
+        return employeeService.saveEmployee(new EmployeeDto(null, "Emre", "Ozcan", "emre@gmail.com")).block();
+    }
+
+    //After the first pass over the ids every read is a cache hit.
+    @Benchmark
+    public EmployeeDto getEmployeeCached() {
+        return employeeService.getEmployee(nextExistingId()).block();
+    }
+
+    //The cache entry is removed before the read, so every read loads the employee from the repository.
+    @Benchmark
+    public EmployeeDto getEmployeeCacheMiss() {
+        String employeeId = nextExistingId();
+        employeeCache.invalidate(employeeId);
+        return employeeService.getEmployee(employeeId).block();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> getAllEmployees() {
+        return employeeService.getAllEmployees().collectList().block();
+    }
+
+    @Benchmark
+    public EmployeeDto updateEmployee() {
+        return employeeService.updateEmployee(new EmployeeDto(null, "Ayse", "Ozcan", "ayse@gmail.com"), nextExistingId()).block();
+    }
+
+    @Benchmark
+    public EmployeeDto patchEmployee() {
+        return employeeService.patchEmployee(new EmployeeDto(null, null, null, "ayse@gmail.com"), nextExistingId()).block();
+    }
+
+    private String nextExistingId() {
+        String employeeId = employeeIds[nextIndex];
+        nextIndex = (nextIndex + 1) % employeeIds.length;
+        return employeeId;
+    }
+}
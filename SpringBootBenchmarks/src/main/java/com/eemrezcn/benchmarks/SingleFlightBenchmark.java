@@ -0,0 +1,111 @@
+package com.eemrezcn.benchmarks;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import com.eemrezcn.education.service.EmployeeService;
+import com.eemrezcn.education.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/*This benchmark simulates a storm of concurrent getEmployeeById requests for a few hot ids against a repository whose findById takes
+"dbLatencyMicros", like a query to a remote database. With "coalesced=true" the requests go through the EmployeeServiceImpl, which shares one
+running lookup among all requests for the same id; with "coalesced=false" every request calls the repository itself, as before.
+After each iteration the number of requests and of repository lookups is printed, which shows how many database calls the coalescing saves.*/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class SingleFlightBenchmark {
+
+    @Param({"1", "16"})
+    private int hotIds;
+
+    @Param({"1000"})
+    private int dbLatencyMicros;
+
+    @Param({"true", "false"})
+    private boolean coalesced;
+
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeService employeeService;
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder lookups = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EmployeeRepository inMemoryRepository = InMemoryJpaEmployeeRepository.create();
+        for (int i = 0; i < hotIds; i++) {
+            inMemoryRepository.save(Employee.builder().firstName("Emre").lastName("Ozcan").email("emre" + i + "@gmail.com").build());
+        }
+        employeeRepository = slowFindById(inMemoryRepository);
+        employeeService = new EmployeeServiceImpl(employeeRepository, new EmployeeSearchIndex(employeeRepository),
+                new EmployeeEmailFilter(employeeRepository, new SimpleMeterRegistry()));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCounters() {
+        requests.reset();
+        lookups.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printCounters() {
+        long requestCount = requests.sum();
+        long lookupCount = lookups.sum();
+        System.out.printf("%n%d requests, %d repository lookups (%.3f lookups per request)%n",
+                requestCount, lookupCount, requestCount == 0 ? 0.0 : (double) lookupCount / requestCount);
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        long id = ThreadLocalRandom.current().nextInt(hotIds) + 1L;
+        requests.increment();
+        return coalesced ? employeeService.getEmployeeById(id) : employeeRepository.findById(id);
+    }
+
+    //Wraps the repository so that every findById is counted and takes dbLatencyMicros before it returns.
+    private EmployeeRepository slowFindById(EmployeeRepository delegate) {
+        return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        lookups.increment();
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros));
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException exception) {
+                        throw exception.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,53 @@
+package com.eemrezcn.loadtests;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*This class collects the results of one endpoint during the measurement: the latency of every successful request in nanoseconds,
+the number of failed requests (error status, timeout or connection error) and the number of requests that were not sent because too many
+requests were already waiting for a response.*/
+final class EndpointStats {
+
+    private final String endpoint;
+
+    //The histogram keeps three significant digits and grows as needed, so no latency is clipped.
+    private final Histogram latencies = new ConcurrentHistogram(3);
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void recordSuccess(long latencyNanos) {
+        latencies.recordValue(latencyNanos);
+    }
+
+    void recordError() {
+        errors.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package com.eemrezcn.loadtests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/*This class chooses the record that a keyed operation (for example "GET /api/employees/{id}") works on. With a skew of 0 every record is
+chosen equally often. With a positive skew the records follow a Zipf distribution: the record of rank k is chosen with a probability
+proportional to 1 / k^skew, so with 0.99 the hottest 1% of the records receive roughly half of the requests. The ranks are given to the
+records in a random order, so the hot records are not simply the ones that were created first.*/
+final class KeyChooser {
+
+    private final String[] keys;
+
+    //The cumulative probabilities of the ranks, or null when the keys are chosen uniformly.
+    private final double[] cumulative;
+
+    private KeyChooser(String[] keys, double[] cumulative) {
+        this.keys = keys;
+        this.cumulative = cumulative;
+    }
+
+    static KeyChooser of(List<String> keys, double skew, long seed) {
+        List<String> shuffled = new ArrayList<>(keys);
+        Collections.shuffle(shuffled, new Random(seed));
+        if (skew <= 0 || shuffled.isEmpty()) {
+            return new KeyChooser(shuffled.toArray(String[]::new), null);
+        }
+        double[] cumulative = new double[shuffled.size()];
+        double sum = 0;
+        for (int rank = 1; rank <= cumulative.length; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return new KeyChooser(shuffled.toArray(String[]::new), cumulative);
+    }
+
+    String next(SplittableRandom random) {
+        if (keys.length == 0) {
+            throw new IllegalStateException("There are no records to choose from");
+        }
+        if (cumulative == null) {
+            return keys[random.nextInt(keys.length)];
+        }
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return keys[Math.min(index >= 0 ? index : -index - 1, keys.length - 1)];
+    }
+}
@@ -0,0 +1,69 @@
+package com.eemrezcn.loadtests;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufMono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*This class sends the requests of a load test with the non-blocking Reactor Netty client. The connections are pooled, and requests that find
+no free connection wait in the pool, so the number of open connections never exceeds the given maximum.*/
+final class LoadClient implements AutoCloseable {
+
+    private final ConnectionProvider connectionProvider;
+
+    private final HttpClient httpClient;
+
+    //One configured client per content type, so the headers are not set again for every request.
+    private final Map<String, HttpClient> clientsByContentType = new ConcurrentHashMap<>();
+
+    LoadClient(String baseUrl, int connections) {
+        this.connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .baseUrl(baseUrl)
+                .responseTimeout(Duration.ofSeconds(30));
+    }
+
+    /*This method sends one request and returns the status code once the whole response body has been read.
+    The body is always read, also for error responses, so that the connection can go back to the pool.*/
+    Mono<Integer> exchange(HttpMethod method, String uri, String contentType, String body) {
+        return sender(method, uri, contentType, body)
+                .responseSingle((response, content) -> content.asByteArray()
+                        .then(Mono.just(response.status().code())));
+    }
+
+    //This method sends one request and returns the response body. Error responses end the Mono with an IllegalStateException.
+    Mono<String> exchangeForBody(HttpMethod method, String uri, String contentType, String body) {
+        return sender(method, uri, contentType, body)
+                .responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .flatMap(text -> response.status().code() >= 400
+                                ? Mono.error(new IllegalStateException(method + " " + uri + " returned " + response.status() + ": " + text))
+                                : Mono.just(text)));
+    }
+
+    private HttpClient.ResponseReceiver<?> sender(HttpMethod method, String uri, String contentType, String body) {
+        if (body == null) {
+            return httpClient.request(method).uri(uri);
+        }
+        return clientsByContentType
+                .computeIfAbsent(contentType, type -> httpClient.headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, type)))
+                .request(method)
+                .uri(uri)
+                .send(ByteBufMono.fromString(Mono.just(body)));
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+    }
+}
@@ -0,0 +1,220 @@
+package com.eemrezcn.loadtests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/*This enum describes the three applications that can be load tested: how they are started without their real database, how the records used
+by the keyed operations are created before the test, which operations a traffic mix can contain and which mix is used by default.*/
+enum LoadTarget {
+
+    /*The employee REST API of the SpringBootTesting project, started with the "embedded" profile, which uses an H2 in-memory database instead of MySQL.*/
+    EMPLOYEES("com.eemrezcn.education.SpringBootTestingApplication", "get=80,list=5,create=10,update=5") {
+        @Override
+        String[] profiles() {
+            return new String[]{"embedded"};
+        }
+
+        @Override
+        Map<String, Operation> operations() {
+            Map<String, Operation> operations = new LinkedHashMap<>();
+            operations.put("get", Operation.keyed(HttpMethod.GET, "/api/employees/{id}", null, null));
+            operations.put("list", Operation.of(HttpMethod.GET, "/api/employees"));
+            operations.put("create", Operation.withBody(HttpMethod.POST, "/api/employees", JSON, sequence -> employeeJson("load", sequence)));
+            operations.put("update", Operation.keyed(HttpMethod.PUT, "/api/employees/{id}", JSON, sequence -> employeeJson("update", sequence)));
+            return operations;
+        }
+
+        //The records are created with the batch endpoint, 500 at a time.
+        @Override
+        List<String> seed(LoadClient client, int keys) {
+            return seedInBatches(client, "/api/employees/batch", keys, LoadTarget::employeeJsonArray);
+        }
+    },
+
+    /*The student REST API of the SpringBootTestContainers project, started with the "embedded" profile, which uses an H2 in-memory database
+    instead of MySQL. It has no endpoint that works on a single student, so its operations are not keyed.*/
+    STUDENTS("com.eemrezcn.example.SpringBootTestContainersApplication", "create=80,list=15,export=5") {
+        @Override
+        String[] profiles() {
+            return new String[]{"embedded"};
+        }
+
+        @Override
+        Map<String, Operation> operations() {
+            Map<String, Operation> operations = new LinkedHashMap<>();
+            //The create endpoint binds the student from request parameters, not from a JSON body.
+            operations.put("create", Operation.withBody(HttpMethod.POST, "/api/students", FORM,
+                    sequence -> "firstName=Load&lastName=Test&email=" + email("load", sequence)));
+            operations.put("list", Operation.of(HttpMethod.GET, "/api/students"));
+            operations.put("export", Operation.of(HttpMethod.GET, "/api/students/export"));
+            return operations;
+        }
+
+        @Override
+        List<String> seed(LoadClient client, int keys) {
+            return seedInBatches(client, "/api/students/batch", keys, LoadTarget::employeeJsonArray);
+        }
+    },
+
+    /*The reactive employee REST API of the SpringBootWebFlux project, started with the "embedded" profile, which keeps the employees in memory
+    instead of MongoDB.*/
+    REACTIVE("com.eemrezcn.example.SpringBootWebFluxApplication", "get=80,list=2,create=10,update=5,patch=3") {
+        @Override
+        String[] profiles() {
+            return new String[]{"embedded"};
+        }
+
+        @Override
+        Map<String, Operation> operations() {
+            Map<String, Operation> operations = new LinkedHashMap<>();
+            operations.put("get", Operation.keyed(HttpMethod.GET, "/api/employees/{id}", null, null));
+            operations.put("list", Operation.of(HttpMethod.GET, "/api/employees"));
+            operations.put("create", Operation.withBody(HttpMethod.POST, "/api/employees", JSON, sequence -> employeeJson("load", sequence)));
+            operations.put("update", Operation.keyed(HttpMethod.PUT, "/api/employees/{id}", JSON, sequence -> employeeJson("update", sequence)));
+            operations.put("patch", Operation.keyed(HttpMethod.PATCH, "/api/employees/{id}", JSON,
+                    sequence -> "{\"email\":\"" + email("patch", sequence) + "\"}"));
+            return operations;
+        }
+
+        //There is no batch endpoint, so the records are created one by one, 64 at a time.
+        @Override
+        List<String> seed(LoadClient client, int keys) {
+            return Flux.range(0, keys)
+                    .flatMap(i -> client.exchangeForBody(HttpMethod.POST, "/api/employees", JSON, employeeJson("seed", i)), 64)
+                    .map(body -> readTree(body).get("id").asText())
+                    .collectList()
+                    .block();
+        }
+    };
+
+    static final String JSON = "application/json";
+
+    static final String FORM = "application/x-www-form-urlencoded";
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    //Part of every email, so that several runs against the same running application do not create the same email twice.
+    private static final String RUN_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final String mainClass;
+
+    private final String defaultMix;
+
+    LoadTarget(String mainClass, String defaultMix) {
+        this.mainClass = mainClass;
+        this.defaultMix = defaultMix;
+    }
+
+    //The operations that a traffic mix of this target can contain, by name.
+    abstract Map<String, Operation> operations();
+
+    //Creates the given number of records before the test and returns their ids.
+    abstract List<String> seed(LoadClient client, int keys);
+
+    String[] profiles() {
+        return new String[0];
+    }
+
+    String[] properties() {
+        return new String[0];
+    }
+
+    String defaultMix() {
+        return defaultMix;
+    }
+
+    String mainClass() {
+        return mainClass;
+    }
+
+    //The request whose first successful response ends the startup measurement of StartupBenchmark. Every target can list its records.
+    Operation firstRequest() {
+        return operations().get("list");
+    }
+
+    boolean isOnClasspath() {
+        return ClassUtils.isPresent(mainClass, null);
+    }
+
+    /*This method starts the application in this process on a random free port. The properties are passed as command line arguments,
+    so they take precedence over the application.properties of the application; the extra properties come last and win over the target's own.
+    The logging is reduced to warnings, so the output of the load test stays readable. A database latency greater than zero slows down
+    every SQL statement (see SlowDatabase).*/
+    ConfigurableApplicationContext start(List<String> extraProperties, Duration dbLatency) {
+        if (!isOnClasspath()) {
+            throw new IllegalStateException(mainClass + " is not on the classpath, activate the Maven profile \"" + name().toLowerCase(Locale.ROOT) + "\"");
+        }
+        List<String> arguments = new ArrayList<>();
+        Stream.concat(Stream.of("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                        "logging.level.org.apache.catalina.loader=ERROR"), Stream.concat(Arrays.stream(properties()), extraProperties.stream()))
+                .forEach(property -> arguments.add("--" + property));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ClassUtils.resolveClassName(mainClass, null))
+                .profiles(profiles());
+        if (!dbLatency.isZero()) {
+            builder.initializers(new SlowDatabase(dbLatency));
+        }
+        return builder.run(arguments.toArray(String[]::new));
+    }
+
+    //Returns the only target whose application is on the classpath.
+    static LoadTarget detect() {
+        List<LoadTarget> present = Arrays.stream(values()).filter(LoadTarget::isOnClasspath).toList();
+        if (present.size() != 1) {
+            throw new IllegalStateException("Expected exactly one application on the classpath but found " + present
+                    + ", use --target together with --url or activate one of the Maven profiles employees, students or reactive");
+        }
+        return present.get(0);
+    }
+
+    private static List<String> seedInBatches(LoadClient client, String uri, int keys, BiFunction<Integer, Integer, String> body) {
+        List<String> ids = new ArrayList<>(keys);
+        for (int from = 0; from < keys; from += SEED_BATCH_SIZE) {
+            String response = client.exchangeForBody(HttpMethod.POST, uri, JSON, body.apply(from, Math.min(from + SEED_BATCH_SIZE, keys))).block();
+            readTree(response).forEach(record -> ids.add(record.get("id").asText()));
+        }
+        return ids;
+    }
+
+    //The employees and the students have the same fields, so the same JSON is used for both.
+    private static String employeeJsonArray(int from, int to) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = from; i < to; i++) {
+            json.append(i > from ? "," : "").append(employeeJson("seed", i));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String employeeJson(String prefix, long sequence) {
+        return "{\"firstName\":\"Load\",\"lastName\":\"Test\",\"email\":\"" + email(prefix, sequence) + "\"}";
+    }
+
+    private static String email(String prefix, long sequence) {
+        return prefix + "-" + RUN_ID + "-" + sequence + "@loadtest.com";
+    }
+
+    private static JsonNode readTree(String json) {
+        try {
+            return OBJECT_MAPPER.readTree(json);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Could not read the response " + json, exception);
+        }
+    }
+}
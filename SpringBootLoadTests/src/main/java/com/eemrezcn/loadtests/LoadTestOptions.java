@@ -0,0 +1,77 @@
+package com.eemrezcn.loadtests;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*This record holds the arguments of a load test run. Every argument is optional and is given as "--name=value"; durations can be written
+as "30s", "2m" or "PT30S".
+
+    --target       employees, students or reactive. By default the application found on the classpath (see the Maven profiles).
+    --url          base url of an application that is already running. When it is missing, the application is started in-process.
+    --rate         requests per second that are started, whether the previous ones have finished or not (open loop). Default 500.
+    --duration     how long the requests are measured. Default 30s.
+    --warmup       how long the requests are sent before the measurement starts. Default 10s.
+    --mix          the traffic mix as weighted operations, for example "get=80,update=20". By default the mix of the target.
+    --skew         the Zipf exponent used to choose the record of keyed operations. 0 chooses uniformly, 0.99 makes a few records very hot. Default 0.
+    --keys         how many records are created before the test and used by the keyed operations. Default 1000.
+    --connections  maximum number of HTTP connections. Default 256.
+    --max-in-flight requests that may wait for a response at the same time; further requests are counted as dropped. Default 10000.
+    --hgrm-dir     directory where the full latency distribution of every endpoint is written as an .hgrm file.
+    --app-property a property of the application started in-process, for example "--app-property=threads.virtual.enabled=true". Can be repeated.
+    --db-latency   a delay added to every SQL statement of the application started in-process, to simulate a slow MySQL server. Default 0.*/
+record LoadTestOptions(LoadTarget target, String url, int rate, Duration duration, Duration warmup, String mix, double skew,
+                       int keys, int connections, int maxInFlight, Path hgrmDir, List<String> appProperties, Duration dbLatency) {
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTarget target = null;
+        String url = null;
+        int rate = 500;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        String mix = null;
+        double skew = 0;
+        int keys = 1000;
+        int connections = 256;
+        int maxInFlight = 10_000;
+        Path hgrmDir = null;
+        List<String> appProperties = new ArrayList<>();
+        Duration dbLatency = Duration.ZERO;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Arguments must look like --name=value: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "target" -> target = LoadTarget.valueOf(value.toUpperCase(Locale.ROOT));
+                case "url" -> url = value;
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "mix" -> mix = value;
+                case "skew" -> skew = Double.parseDouble(value);
+                case "keys" -> keys = Integer.parseInt(value);
+                case "connections" -> connections = Integer.parseInt(value);
+                case "max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "hgrm-dir" -> hgrmDir = Path.of(value);
+                case "app-property" -> appProperties.add(value);
+                case "db-latency" -> dbLatency = DurationStyle.detectAndParse(value);
+                default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        if (rate <= 0 || keys <= 0 || connections <= 0 || maxInFlight <= 0) {
+            throw new IllegalArgumentException("rate, keys, connections and max-in-flight must be greater than 0");
+        }
+        if (url != null && (!appProperties.isEmpty() || !dbLatency.isZero())) {
+            throw new IllegalArgumentException("app-property and db-latency can only be used when the application is started in-process (without url)");
+        }
+        return new LoadTestOptions(target, url, rate, duration, warmup, mix, skew, keys, connections, maxInFlight, hgrmDir,
+                List.copyOf(appProperties), dbLatency);
+    }
+}
@@ -0,0 +1,74 @@
+package com.eemrezcn.loadtests;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+
+/*This class prints the result of a load test as a table with one row per endpoint and one row for all endpoints together. The latencies are
+shown in milliseconds. The throughput only counts successful requests of the measurement period. When the application was started by the
+load test, the time it needed to start is printed above the table; it is null when the load test ran against a url.*/
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestReport() {
+    }
+
+    static void print(PrintStream out, LoadTarget target, LoadTestOptions options, Duration startupTime, Collection<EndpointStats> results) {
+        double seconds = options.duration().toNanos() / 1_000_000_000.0;
+        out.printf("%nLoad test of %s: %d req/sec offered for %s (after %s warm-up), skew %.2f over %d records%n",
+                target.name().toLowerCase(Locale.ROOT), options.rate(), format(options.duration()), format(options.warmup()), options.skew(), options.keys());
+        if (!options.dbLatency().isZero() || !options.appProperties().isEmpty()) {
+            out.printf("database latency %s, application properties %s%n", format(options.dbLatency()), options.appProperties());
+        }
+        if (startupTime != null) {
+            out.printf("application started in %d ms%n", startupTime.toMillis());
+        }
+        out.printf("%-32s %9s %7s %8s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "errors", "dropped", "req/sec", "p50", "p90", "p99", "p99.9", "max");
+
+        Histogram all = new Histogram(3);
+        long allErrors = 0;
+        long allDropped = 0;
+        for (EndpointStats stats : results) {
+            printRow(out, stats.endpoint(), stats.latencies(), stats.errors(), stats.dropped(), seconds);
+            all.add(stats.latencies());
+            allErrors += stats.errors();
+            allDropped += stats.dropped();
+        }
+        printRow(out, "all", all, allErrors, allDropped, seconds);
+        out.println("(latencies in ms, measured from the time each request was due)");
+    }
+
+    //Writes the full percentile distribution of every endpoint to "<endpoint>.hgrm", which can be plotted with the HdrHistogram plotter.
+    static void writeHistograms(Path directory, Collection<EndpointStats> results) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats stats : results) {
+            String fileName = stats.endpoint().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                stats.latencies().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static void printRow(PrintStream out, String endpoint, Histogram latencies, long errors, long dropped, double seconds) {
+        out.printf("%-32s %9d %7d %8d %9.0f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                endpoint, latencies.getTotalCount(), errors, dropped, latencies.getTotalCount() / seconds,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99), percentile(latencies, 99.9),
+                latencies.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double percentile(Histogram latencies, double percentile) {
+        return latencies.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    private static String format(Duration duration) {
+        return duration.toString().substring(2).toLowerCase(Locale.ROOT);
+    }
+}
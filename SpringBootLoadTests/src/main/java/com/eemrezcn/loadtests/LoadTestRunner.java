@@ -0,0 +1,64 @@
+package com.eemrezcn.loadtests;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/*This class runs an end-to-end HTTP load test against one of the three applications. Unless a url is given, the application is started in
+this process with its "embedded" profile (H2 for the JPA applications, the in-memory repository for the WebFlux application), so
+no MySQL or MongoDB is needed, and the time the application needed to start is printed with the results. The Maven profile decides which application is on the classpath:
+
+    mvn -Pemployees compile exec:java -Dexec.args="--rate=1000 --duration=60s --skew=0.99"
+    mvn -Pstudents  compile exec:java -Dexec.args="--mix=create=50,list=50"
+    mvn -Preactive  compile exec:java -Dexec.args="--rate=5000 --mix=get=95,patch=5 --hgrm-dir=target/hgrm"
+
+The platform thread pool of Tomcat and the virtual-thread mode (Java 21 or newer) can be compared on a slow database by running the same test twice:
+
+    mvn -Pemployees compile exec:java -Dexec.args="--rate=3000 --db-latency=50ms --app-property=spring.datasource.hikari.maximum-pool-size=500"
+    mvn -Pemployees compile exec:java -Dexec.args="--rate=3000 --db-latency=50ms --app-property=spring.datasource.hikari.maximum-pool-size=500
+        --app-property=threads.virtual.enabled=true"
+
+The arguments are described in LoadTestOptions. The records used by the keyed operations are created before the warm-up, then the requests
+are sent at the given rate (see OpenLoopDriver) and the latency percentiles and throughput are printed per endpoint.*/
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadTarget target = options.target() != null ? options.target() : LoadTarget.detect();
+
+        ConfigurableApplicationContext context = null;
+        Duration startupTime = null;
+        String baseUrl = options.url();
+        if (baseUrl == null) {
+            long startedAt = System.nanoTime();
+            context = target.start(options.appProperties(), options.dbLatency());
+            startupTime = Duration.ofNanos(System.nanoTime() - startedAt);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try (LoadClient client = new LoadClient(baseUrl, options.connections())) {
+            Map<String, Operation> operations = target.operations();
+            TrafficMix mix = TrafficMix.parse(options.mix() != null ? options.mix() : target.defaultMix(), operations);
+            List<String> keys = target.seed(client, options.keys());
+            KeyChooser keyChooser = KeyChooser.of(keys, options.skew(), 42);
+
+            Map<String, EndpointStats> results = new OpenLoopDriver(client, mix, keyChooser, options.rate(), options.maxInFlight())
+                    .run(options.warmup(), options.duration());
+
+            LoadTestReport.print(System.out, target, options, startupTime, results.values());
+            if (options.hgrmDir() != null) {
+                LoadTestReport.writeHistograms(options.hgrmDir(), results.values());
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eemrezcn.loadtests;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/*This class sends the requests of a load test at a fixed rate (open loop): request number i is due at start + i / rate, whether the earlier
+requests have been answered or not, just like independent users do. The latency of a request is measured from the moment it was due and not
+from the moment it was actually sent. When the application (or the pacing thread) falls behind, the waiting time is therefore part of the
+latency, and the percentiles are not too optimistic (no coordinated omission).*/
+final class OpenLoopDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadClient client;
+
+    private final TrafficMix mix;
+
+    private final KeyChooser keys;
+
+    private final int rate;
+
+    private final int maxInFlight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenLoopDriver(LoadClient client, TrafficMix mix, KeyChooser keys, int rate, int maxInFlight) {
+        this.client = client;
+        this.mix = mix;
+        this.keys = keys;
+        this.rate = rate;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /*This method sends requests for the warm-up and the measurement period and returns the results of the measurement period per endpoint,
+    in the order of the traffic mix. It returns after all measured requests have been answered or the drain timeout has passed.*/
+    Map<String, EndpointStats> run(Duration warmup, Duration duration) {
+        Map<String, EndpointStats> results = new LinkedHashMap<>();
+        for (Operation operation : mix.operations()) {
+            results.putIfAbsent(operation.endpoint(), new EndpointStats(operation.endpoint()));
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        long periodNanos = 1_000_000_000L / rate;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        for (long sequence = 0; ; sequence++) {
+            long due = start + sequence * periodNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = mix.next(random);
+            EndpointStats stats = due >= measureStart ? results.get(operation.endpoint()) : null;
+            if (inFlight.get() >= maxInFlight) {
+                if (stats != null) {
+                    stats.recordDropped();
+                }
+                continue;
+            }
+            send(operation, operation.keyed() ? keys.next(random) : null, sequence, due, stats);
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+        }
+        return results;
+    }
+
+    private void send(Operation operation, String key, long sequence, long due, EndpointStats stats) {
+        inFlight.incrementAndGet();
+        String body = operation.body() != null ? operation.body().apply(sequence) : null;
+        client.exchange(operation.method(), operation.uri().apply(key), operation.contentType(), body)
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .subscribe(status -> {
+                    if (stats == null) {
+                        return;
+                    }
+                    if (status >= 400) {
+                        stats.recordError();
+                    } else {
+                        stats.recordSuccess(System.nanoTime() - due);
+                    }
+                }, error -> {
+                    if (stats != null) {
+                        stats.recordError();
+                    }
+                });
+    }
+}
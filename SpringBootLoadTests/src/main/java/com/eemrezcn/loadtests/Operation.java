@@ -0,0 +1,24 @@
+package com.eemrezcn.loadtests;
+
+import io.netty.handler.codec.http.HttpMethod;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/*This record describes one kind of request of a traffic mix. The endpoint is the name under which its latencies are reported. A keyed operation
+works on an existing record: its uri function receives the id chosen by the KeyChooser. The body function receives a sequence number that is
+unique within the run, so that every created record can get a unique email.*/
+record Operation(String endpoint, HttpMethod method, boolean keyed, Function<String, String> uri, String contentType, LongFunction<String> body) {
+
+    static Operation of(HttpMethod method, String path) {
+        return new Operation(method.name() + " " + path, method, false, key -> path, null, null);
+    }
+
+    static Operation keyed(HttpMethod method, String path, String contentType, LongFunction<String> body) {
+        return new Operation(method.name() + " " + path, method, true, key -> path.replace("{id}", key), contentType, body);
+    }
+
+    static Operation withBody(HttpMethod method, String path, String contentType, LongFunction<String> body) {
+        return new Operation(method.name() + " " + path, method, false, key -> path, contentType, body);
+    }
+}
@@ -0,0 +1,79 @@
+package com.eemrezcn.loadtests;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.UnaryOperator;
+
+/*This initializer makes the database of an application that is started in-process slower: every statement sleeps for the given latency before it
+is executed, while it holds its connection, like a query that waits for a slow MySQL server. H2 answers in microseconds, so without it a load test
+can never show how the server threads behave when each request blocks on the database, for example to compare the platform thread pool of Tomcat
+with the virtual-thread mode. The application must have a DataSource bean; for the reactive application the option has no effect.*/
+final class SlowDatabase implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private final long latencyNanos;
+
+    SlowDatabase(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass()) ? slowDataSource(dataSource) : bean;
+            }
+        });
+    }
+
+    /*The connections of the returned data source create slow statements. All other calls, including unwrap, go to the original data source,
+    so the connection pool metrics of the application keep working.*/
+    private DataSource slowDataSource(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, result -> result instanceof Connection connection ? slowConnection(connection) : result);
+    }
+
+    //The statements created by the returned connection wait before each execute... call.
+    private Connection slowConnection(Connection connection) {
+        return proxy(Connection.class, connection, result -> {
+            if (result instanceof CallableStatement statement) {
+                return slowStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return slowStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return slowStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <T extends Statement> T slowStatement(Class<T> type, T statement) {
+        return proxy(type, statement, UnaryOperator.identity());
+    }
+
+    /*Creates a proxy that sleeps before calling an execute... method of a statement and passes every result through the given function.*/
+    private <T> T proxy(Class<T> type, T target, UnaryOperator<Object> resultMapper) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+            try {
+                return resultMapper.apply(method.invoke(target, args));
+            } catch (InvocationTargetException exception) {
+                throw exception.getCause();
+            }
+        }));
+    }
+}
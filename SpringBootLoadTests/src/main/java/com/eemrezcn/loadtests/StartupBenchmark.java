@@ -0,0 +1,279 @@
+package com.eemrezcn.loadtests;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*This class measures how fast one of the three applications starts in four variants: on the plain JIT, with the bean definitions generated by
+Spring AOT, with a class-data sharing (CDS) archive, and with both. Every variant is started "runs" times in its own JVM; the time from starting
+the JVM until the first successful response of the target's list request (time to first request) and the resident memory of the JVM at that
+moment (RSS, read from /proc, so only on Linux) are reported as median, minimum and maximum.
+
+The application must be built with the Maven profile "aot" first, which generates the AOT code and writes its classpath to target/classpath.txt.
+The load test profile must match the application, and the Spring profile of the target ("embedded") must also be given to the AOT build:
+
+    (cd ../SpringBootWebFlux && mvn package -Pembedded,aot -DskipTests)
+    mvn -Preactive compile exec:java -Dexec.mainClass=com.eemrezcn.loadtests.StartupBenchmark -Dexec.args="--app-dir=../SpringBootWebFlux"
+
+The CDS archives are created before the measurement by a training run of the application with startup.training-run=true, which stops the
+application as soon as it is ready, and -XX:ArchiveClassesAtExit. They are written next to the jar, to target/app-cds.jsa and
+target/app-aot-cds.jsa, and are created again on every run of the benchmark, because an archive can only be used with the exact classpath
+and JVM it was created with.
+
+    --target    employees, students or reactive. By default the application found on the classpath (see the Maven profiles).
+    --app-dir   the project directory of the application. Required.
+    --runs      how many times each variant is started. Default 5.
+    --variants  the variants to measure, any of jit, aot, cds and aot-cds. Default all four.
+    --timeout   how long to wait for the first successful response of one start. Default 120s.*/
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final LoadTarget target;
+
+    private final Options options;
+
+    private final String classpath;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private StartupBenchmark(LoadTarget target, Options options, String classpath) {
+        this.target = target;
+        this.options = options;
+        this.classpath = classpath;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Options options = Options.parse(args);
+        LoadTarget target = options.target() != null ? options.target() : LoadTarget.detect();
+        new StartupBenchmark(target, options, classpath(options.appDir())).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        List<Result> results = new ArrayList<>();
+        for (Variant variant : options.variants()) {
+            if (variant.cds) {
+                train(variant);
+            }
+            long[] timesToFirstRequest = new long[options.runs()];
+            long[] residentKilobytes = new long[options.runs()];
+            for (int run = 0; run < options.runs(); run++) {
+                long[] measurement = start(variant);
+                timesToFirstRequest[run] = measurement[0];
+                residentKilobytes[run] = measurement[1];
+            }
+            results.add(new Result(variant, timesToFirstRequest, residentKilobytes));
+        }
+        print(results);
+    }
+
+    /*The training run starts the application like the variant without its archive, but it stops by itself when it is ready, and the JVM writes
+    the classes it has loaded to the archive of the variant when it exits.*/
+    private void train(Variant variant) throws IOException, InterruptedException {
+        Path archive = archive(variant);
+        Files.deleteIfExists(archive);
+        List<String> command = javaCommand(variant.aot ? Variant.AOT : Variant.JIT, freePort(),
+                "-XX:ArchiveClassesAtExit=" + archive, "-Dstartup.training-run=true");
+        Path log = options.appDir().resolve("target").resolve("startup-training.log");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        if (!process.waitFor(options.timeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("The training run of " + variant.name + " did not finish within " + options.timeout() + ", see " + log);
+        }
+        if (process.exitValue() != 0 || !Files.exists(archive)) {
+            throw new IllegalStateException("The training run of " + variant.name + " did not create " + archive + ", see " + log);
+        }
+    }
+
+    //Starts the application once and returns the time to its first successful response in nanoseconds and its resident memory in kilobytes.
+    private long[] start(Variant variant) throws IOException, InterruptedException {
+        int port = freePort();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + target.firstRequest().uri().apply(null)))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(javaCommand(variant, port)).redirectErrorStream(true).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            long deadline = startedAt + options.timeout().toNanos();
+            while (!answers(request)) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("The " + variant.name + " variant stopped with exit code " + process.exitValue() + " before it answered");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("The " + variant.name + " variant did not answer within " + options.timeout());
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+            return new long[]{System.nanoTime() - startedAt, residentKilobytes(process.pid())};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private boolean answers(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException notListeningYet) {
+            return false;
+        }
+    }
+
+    private List<String> javaCommand(Variant variant, int port, String... extraArguments) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (variant.aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (variant.cds) {
+            command.add("-XX:SharedArchiveFile=" + archive(variant));
+            command.add("-Xlog:cds=off");
+        }
+        command.addAll(Arrays.asList(extraArguments));
+        if (target.profiles().length > 0) {
+            command.add("-Dspring.profiles.active=" + String.join(",", target.profiles()));
+        }
+        command.add("-Dserver.port=" + port);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(target.mainClass());
+        return command;
+    }
+
+    private Path archive(Variant variant) {
+        return options.appDir().resolve("target").resolve(variant.aot ? "app-aot-cds.jsa" : "app-cds.jsa");
+    }
+
+    private void print(List<Result> results) {
+        System.out.printf("%nStartup of %s, %d runs per variant%n", target.name().toLowerCase(Locale.ROOT), options.runs());
+        System.out.printf("%-10s %24s %24s %24s%n", "variant", "first request median", "first request min/max", "RSS median");
+        for (Result result : results) {
+            long[] times = result.timesToFirstRequest().clone();
+            long[] resident = result.residentKilobytes().clone();
+            Arrays.sort(times);
+            Arrays.sort(resident);
+            System.out.printf("%-10s %21d ms %15d / %5d ms %21s%n", result.variant().name, millis(median(times)), millis(times[0]),
+                    millis(times[times.length - 1]), resident[0] < 0 ? "n/a" : median(resident) / 1024 + " MB");
+        }
+    }
+
+    //The application jar comes first, then its dependencies as written by the Maven profile "aot". CDS only accepts jar files on the classpath.
+    private static String classpath(Path appDir) throws IOException {
+        Path target = appDir.resolve("target");
+        Path classpathFile = target.resolve("classpath.txt");
+        if (!Files.exists(classpathFile)) {
+            throw new IllegalStateException(classpathFile + " does not exist, build the application with \"mvn package -Pembedded,aot -DskipTests\" first");
+        }
+        Path jar;
+        try (Stream<Path> files = Files.list(target)) {
+            jar = files.filter(file -> file.toString().endsWith(".jar") && !file.toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("There is no application jar in " + target));
+        }
+        return jar.toAbsolutePath() + File.pathSeparator + Files.readString(classpathFile).trim();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    //Reads VmRSS from /proc/<pid>/status; -1 when it is not available, for example on macOS or Windows.
+    private static long residentKilobytes(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", Long.toString(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException | RuntimeException notAvailable) {
+            return -1;
+        }
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private enum Variant {
+        JIT("jit", false, false),
+        AOT("aot", true, false),
+        CDS("cds", false, true),
+        AOT_CDS("aot-cds", true, true);
+
+        private final String name;
+
+        private final boolean aot;
+
+        private final boolean cds;
+
+        Variant(String name, boolean aot, boolean cds) {
+            this.name = name;
+            this.aot = aot;
+            this.cds = cds;
+        }
+
+        static Variant of(String name) {
+            return Arrays.stream(values()).filter(variant -> variant.name.equals(name)).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown variant " + name + ", expected jit, aot, cds or aot-cds"));
+        }
+    }
+
+    private record Result(Variant variant, long[] timesToFirstRequest, long[] residentKilobytes) {
+    }
+
+    private record Options(LoadTarget target, Path appDir, int runs, List<Variant> variants, Duration timeout) {
+
+        static Options parse(String[] args) {
+            LoadTarget target = null;
+            Path appDir = null;
+            int runs = 5;
+            List<Variant> variants = List.of(Variant.values());
+            Duration timeout = Duration.ofSeconds(120);
+
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (!arg.startsWith("--") || separator < 0) {
+                    throw new IllegalArgumentException("Arguments must look like --name=value: " + arg);
+                }
+                String value = arg.substring(separator + 1);
+                switch (arg.substring(2, separator)) {
+                    case "target" -> target = LoadTarget.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "app-dir" -> appDir = Path.of(value);
+                    case "runs" -> runs = Integer.parseInt(value);
+                    case "variants" -> variants = Arrays.stream(value.split(",")).map(String::trim).map(Variant::of).toList();
+                    case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                    default -> throw new IllegalArgumentException("Unknown argument: " + arg);
+                }
+            }
+            if (appDir == null) {
+                throw new IllegalArgumentException("--app-dir is required, for example --app-dir=../SpringBootWebFlux");
+            }
+            if (runs <= 0) {
+                throw new IllegalArgumentException("runs must be greater than 0");
+            }
+            return new Options(target, appDir, runs, variants, timeout);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.eemrezcn.loadtests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/*This class chooses the operation of every request from a weighted list such as "get=80,list=5,create=10,update=5". The weights do not have to
+add up to 100; an operation with weight 80 is simply chosen 80 times as often as one with weight 1.*/
+final class TrafficMix {
+
+    private final List<Operation> operations;
+
+    private final int[] cumulativeWeights;
+
+    private TrafficMix(List<Operation> operations, int[] cumulativeWeights) {
+        this.operations = operations;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static TrafficMix parse(String mix, Map<String, Operation> available) {
+        List<Operation> operations = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split("=");
+            Operation operation = available.get(nameAndWeight[0]);
+            if (operation == null || nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Unknown operation '" + part + "', available operations are " + available.keySet());
+            }
+            int weight = Integer.parseInt(nameAndWeight[1]);
+            if (weight > 0) {
+                operations.add(operation);
+                weights.add(weight);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("The traffic mix '" + mix + "' has no operation with a positive weight");
+        }
+        int[] cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+        return new TrafficMix(operations, cumulativeWeights);
+    }
+
+    Operation next(SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+}
@@ -0,0 +1,23 @@
+package com.eemrezcn.example.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/*This Listener Stops The Student Application As Soon As It Is Ready When startup.training-run=true, So The Jvm Can Write The Classes Loaded
+Until Then To A Class-Data Sharing Archive When It Exits (-XX:ArchiveClassesAtExit=app-cds.jsa). By Then The IdSequenceAlignment Has Already
+Queried The Database, So The Archive Also Holds The Classes Of The Jdbc Driver And The Connection Pool That Every Start Needs. The Property Is Read
+When The Event Arrives, Because @ConditionalOnProperty Would Be Fixed When An Aot-Processed Application Is Built.*/
+@Component
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String PROPERTY = "startup.training-run";
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getEnvironment().getProperty(PROPERTY, Boolean.class, false)) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
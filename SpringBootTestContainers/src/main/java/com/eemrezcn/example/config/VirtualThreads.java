@@ -0,0 +1,42 @@
+package com.eemrezcn.example.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/*This Class Looks Up Thread.ofVirtual() And Executors.newThreadPerTaskExecutor() Through Reflection, So The Student Application Still Compiles
+For Java 17. The VirtualThreadsConfig Uses Them For The Tomcat Requests And For The Student Export, Which Spring Mvc Writes On A Task Executor; If
+The Running Java Version Has No Virtual Threads, An IllegalStateException Names The Property That Turns Them Off.*/
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /*This Method Returns A ThreadFactory That Creates Virtual Threads Named With The Given Prefix Followed By A Counter, For Example "http-vt-0".*/
+    static ThreadFactory factory(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException exception) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer, but the application runs on Java " + Runtime.version().feature()
+                    + ". Set threads.virtual.enabled=false to use platform threads.", exception);
+        } catch (InvocationTargetException exception) {
+            //On Java 19 And 20 Virtual Threads Are A Preview Feature And Thread.ofVirtual() Fails Unless --enable-preview Is Given.
+            throw new IllegalStateException("Virtual threads are not available: " + exception.getCause().getMessage(), exception.getCause());
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Virtual threads are not available", exception);
+        }
+    }
+
+    /*This Method Returns An ExecutorService That Starts A New Thread From The Given Factory For Every Task, Without Any Pooling Or Queueing.*/
+    static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer", exception);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.eemrezcn.example.config;
+
+import com.eemrezcn.example.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+/*This Configuration Class Runs The Student Application On Virtual Threads When threads.virtual.enabled=true (Java 21 Or Newer Is Required).
+Every Request Then Gets Its Own Virtual Thread Instead Of One Of The 200 Tomcat Threads, Which Mostly Matters For The Batch Inserts That Wait For
+Mysql, While The Connection Pool Still Limits The Concurrent Inserts. The Student Export Is Written By The Task Executor For As Long As The Table
+Takes To Read, So It Runs On A Virtual Thread As Well Instead Of Occupying One Of The Few Pooled Task Threads. Exports And Inserts That Block While
+Pinned To Their Carrier Thread Are Reported By The VirtualThreadPinningMonitor.*/
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /*This Bean Creates The Virtual Threads, Named "http-vt-0", "http-vt-1" And So On.*/
+    @Bean
+    public ThreadFactory virtualThreadFactory() {
+        return VirtualThreads.factory("http-vt-");
+    }
+
+    /*This Bean Replaces The Thread Pool Of The Tomcat Connector With An Executor That Starts A New Virtual Thread For Every Request.*/
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ThreadFactory virtualThreadFactory) {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor(virtualThreadFactory));
+    }
+
+    /*This Bean Replaces The Thread Pool Spring Boot Creates For Asynchronous Tasks With An Executor That Runs Every Task On A New Virtual Thread.*/
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(ThreadFactory virtualThreadFactory) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setThreadFactory(virtualThreadFactory);
+        return executor;
+    }
+
+    /*This Bean Records Every Time A Virtual Thread Stays Pinned To Its Carrier Thread For Longer Than threads.virtual.pinned-threshold.*/
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   @Value("${threads.virtual.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
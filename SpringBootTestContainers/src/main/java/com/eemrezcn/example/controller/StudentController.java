@@ -1,11 +1,19 @@
 package com.eemrezcn.example.controller;
 
 import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.entity.StudentVersionView;
 import com.eemrezcn.example.repository.StudentRepository;
+import com.eemrezcn.example.service.StudentExportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /*A Simple Spring Controller Class That Performs The Operations Of Creating And Retrieving Student Records İn A RESTful API*/
@@ -19,6 +27,10 @@ public class StudentController
     @Autowired
     private StudentRepository studentRepository;
 
+    //This Service Writes The Students To The Response As They Are Read From The Database.
+    @Autowired
+    private StudentExportService studentExportService;
+
 
     /*The Purpose Of The Method Is To Save The Incoming Student Information To The Database Upon Receiving An Http Post
     Request And Return The Created Student Object As An Http Response*/
@@ -30,13 +42,51 @@ public class StudentController
         return studentRepository.save(student);
     }
 
+    /*The Purpose Of The Method Is To Save A List Of Students Received In An Http Post Request Together. The Inserts Are Sent To The Database
+    In Jdbc Batches, So Thousands Of Students Are Saved With A Handful Of Statements Instead Of One Round Trip Per Student.*/
+    //http://localhost:8080/api/students/batch
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Student> createStudents(@RequestBody List<Student> students)
+    {
+        return studentRepository.saveAll(students);
+    }
+
     /*The General Purpose Of This Method Is To Fetch All Student Records From The Database Upon Receiving An Http
-    Get Request And Return These Records As A List In The Http Response.*/
+    Get Request And Return These Records As A List In The Http Response.
+    The Response Has An ETag Built From The Ids And Versions Of All Students, Which Are Read First Without The Other Columns. When The Request Has
+    An If-None-Match Header With That ETag, 304 (Not Modified) Is Returned And The Students Are Neither Loaded Nor Sent. A Student Changed Between
+    The Two Queries Only Makes The ETag Older Than The Body, So The Client Receives The List Once More On Its Next Request.*/
     //http://localhost:8080/api/students
     @GetMapping
-    public List<Student> getAllStudents()
+    public ResponseEntity<List<Student>> getAllStudents(WebRequest webRequest)
+    {
+        String eTag = listETag(studentRepository.findAllVersions());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(studentRepository.findAll());
+    }
+
+    /*The Purpose Of This Method Is To Export All Student Records Upon Receiving An Http Get Request Without Building A List In Memory.
+    The Students Are Written To The Response As Newline-Delimited Json (One Student Per Line) While They Are Read From The Database.*/
+    //http://localhost:8080/api/students/export
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStudents()
+    {
+        StreamingResponseBody body = studentExportService::exportStudents;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /*The ETag Of The Student List Is The Md5 Hash Of The "id:version" Pairs Of All Students In The Order Of Their Ids. It Changes When A Student
+    Is Added, Updated Or Deleted.*/
+    private static String listETag(List<StudentVersionView> versions)
     {
-        return studentRepository.findAll();
+        StringBuilder pairs = new StringBuilder(versions.size() * 16);
+        for (StudentVersionView version : versions) {
+            pairs.append(version.getId()).append(':').append(version.getVersion()).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(pairs.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
 }
@@ -17,10 +17,16 @@ And This Class Is Designed To Perform Database Operations Using The Features Pro
 
 public class Student
 {
-    /*The Id Field Is Used As A Column Representing The Primary Key In The Database,
-    And A New Primary Key Value Is Automatically Assigned Each Time A New Record Is Added*/
+    /*The Number Of Ids Hibernate Reserves With One Call Of The 'students_seq' Sequence.*/
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /*The Id Field Is Used As A Column Representing The Primary Key In The Database, And A New Primary Key Value Is Automatically Assigned Each Time
+    A New Record Is Added. The Values Come From A Pooled Sequence That Hands Out 50 Ids Per Database Call, Which Lets Hibernate Group Inserts Into Jdbc
+    Batches. On Mysql, Which Has No Sequences, Hibernate Keeps The Sequence In A Table Named 'students_seq'. The IdSequenceAlignment Moves The
+    Sequence Past The Ids Of Students That Were Saved Before The Sequence Existed.*/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = ID_ALLOCATION_SIZE)
     public Long id;
 
     /*It Will Map The Firstname Field In The Java Class To A Database Column Named "Firstname"
@@ -34,4 +40,9 @@ public class Student
     public String lastName;
 
     public String email;
+
+    /*Hibernate Increases The Version On Every Update Of The Student, So The Ids And Versions Of All Students Change Whenever The Table Changes.
+    The Controller Builds The ETag Of The Student List From Them. It Is A Primitive, So Whether A Student Is New Is Still Decided By Its Id.*/
+    @Version
+    public long version;
 }
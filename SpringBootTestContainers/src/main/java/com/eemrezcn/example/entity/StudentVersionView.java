@@ -0,0 +1,10 @@
+package com.eemrezcn.example.entity;
+
+/*This Interface Is A Projection Of The Student Entity That Only Holds Its Id And Version. Spring Data Selects Only These Two Columns,
+So The Versions Of All Students Can Be Read Without Loading Their Other Fields.*/
+public interface StudentVersionView {
+
+    Long getId();
+
+    long getVersion();
+}
@@ -0,0 +1,31 @@
+package com.eemrezcn.example.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*This Class Counts The Sql Statements That Hibernate Prepares On The Current Thread, Between The start And stop Calls Of The
+StatementCountInterceptor. A Jdbc Batch Of Student Inserts Is Prepared Once And Sent In One Round Trip, So It Is Counted As One Statement.*/
+public class StatementCountingInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENT_COUNT = new ThreadLocal<>();
+
+    /*This Method Starts Counting The Statements Of The Current Thread From Zero.*/
+    public static void start() {
+        STATEMENT_COUNT.set(new int[1]);
+    }
+
+    /*This Method Stops Counting On The Current Thread And Returns The Number Of Statements Since start, Or -1 If Counting Was Not Started.*/
+    public static int stop() {
+        int[] count = STATEMENT_COUNT.get();
+        STATEMENT_COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = STATEMENT_COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package com.eemrezcn.example.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*This Class Reports The Virtual Threads Of The Student Application That Stay Pinned To Their Carrier Thread, Which Happens When A Thread Blocks
+While Holding A Monitor. The Student Export Holds The Mysql Connection For As Long As The Cursor Is Read, So A Pinning There Keeps A Carrier Thread
+Away From The Other Requests For A Long Time. The Jvm Reports Every Pinning Above The Threshold As A "jdk.VirtualThreadPinned" Flight Recorder Event;
+This Class Adds Its Duration To The "jvm.threads.virtual.pinned" Timer And Logs Where It Happened. Without Virtual Threads No Event Is Recorded.*/
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    public static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    //The Number Of Stack Frames That Are Logged For Each Pinning.
+    private static final int LOGGED_FRAMES = 8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Timer pinnedTimer;
+
+    private final Duration threshold;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.pinnedTimer = Timer.builder(METRIC_NAME)
+                .description("Time virtual threads stayed pinned to their carrier thread, above the reporting threshold")
+                .register(meterRegistry);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        if (LOGGER.isWarnEnabled()) {
+            LOGGER.warn("Virtual thread '{}' was pinned for {} ms at:{}", event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    event.getDuration().toMillis(), stackTop(event));
+        }
+    }
+
+    private static String stackTop(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return " (no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\n\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining());
+    }
+}
@@ -1,10 +1,36 @@
 package com.eemrezcn.example.repository;
 
 import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.entity.StudentVersionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 /*This Interface Automatically Provides A Set Of Standard Crud Operations (Create, Read, Update, Delete) For Database Operations Related
 To The Student Class. Spring Data Jpa Simplifies The Implementation Of Basic Database Operations On A Specific Entity Class Using Such Interfaces.
  A Class Implementing This Interface Can Add Or Customize Behavior For Basic Crud Operations.*/
 public interface StudentRepository  extends JpaRepository<Student, Long> {
+
+    //The Number Of Rows Fetched From The Database In One Round Trip While Streaming.
+    int STREAM_FETCH_SIZE = 500;
+
+    /*This Method Walks Over All Student Records With A Forward-Only Database Cursor Instead Of Loading Them Into A List. The Rows Are Fetched From
+    The Database 500 At A Time And Are Not Tracked For Changes, So The Memory Used Does Not Depend On The Number Of Students. The Returned Stream
+    Must Be Consumed Inside A Transaction And Closed Afterwards.*/
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select s from Student s")
+    Stream<Student> streamAll();
+
+    /*This Method Returns The Id And Version Of Every Student, Ordered By Id. It Is Used To Build The ETag Of The Student List.*/
+    @Query("select s.id as id, s.version as version from Student s order by s.id")
+    List<StudentVersionView> findAllVersions();
 }
@@ -0,0 +1,71 @@
+package com.eemrezcn.example.service;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*This Service Writes All Student Records To An Output Stream As Newline-Delimited Json (One Student Per Line). The Students Are Read Through A
+Database Cursor And Written One By One As They Arrive, So The Memory Used Stays The Same No Matter How Many Students Exist, And The First
+Line Is Sent Before The Rest Of The Table Has Been Read.*/
+@Service
+public class StudentExportService
+{
+    //The Output Is Flushed To The Client After The First Student And Then Once Every This Many Students.
+    private static final int FLUSH_INTERVAL = StudentRepository.STREAM_FETCH_SIZE;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectWriter studentWriter;
+
+    public StudentExportService(ObjectMapper objectMapper)
+    {
+        this.studentWriter = objectMapper.writerFor(Student.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /*This Method Streams Every Student To The Given Output Stream. Each Student Is Detached From The Persistence Context Right After It Has Been
+    Written, So Hibernate Does Not Keep A Reference To Rows That Were Already Sent. The Output Stream Itself Is Left Open For The Caller.*/
+    @Transactional(readOnly = true)
+    public void exportStudents(OutputStream outputStream) throws IOException
+    {
+        try (Stream<Student> students = studentRepository.streamAll();
+             JsonGenerator generator = studentWriter.getFactory().createGenerator(outputStream))
+        {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            long count = 0;
+            Iterator<Student> iterator = students.iterator();
+            while (iterator.hasNext())
+            {
+                Student student = iterator.next();
+                studentWriter.writeValue(generator, student);
+                generator.writeRaw('\n');
+                entityManager.detach(student);
+
+                count++;
+                if (count == 1 || count % FLUSH_INTERVAL == 0)
+                {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package com.eemrezcn.example;
 
+import org.springframework.util.StringUtils;
 import org.testcontainers.containers.MySQLContainer;
 
+import java.util.Arrays;
+
 /*This Code Represents A Class Named Abstractcontainerbasetest. Inside This Class, There Is A Code Block That Creates And Starts
-A Mysql Docker Container For Use In Tests. This Enables The Tests To Run Using A Real Mysql Database.*/
+A Mysql Docker Container For Use In Tests. This Enables The Tests To Run Using A Real Mysql Database. When The "embedded" Spring Profile Is Active
+(mvn test -Pembedded), No Container Is Started And The Tests Run On The H2 Database Of That Profile.*/
 public class AbstractContainerBaseTest
 {
     static final MySQLContainer MY_SQL_CONTAINER;
 
     static
     {
-        MY_SQL_CONTAINER = new MySQLContainer("mysql:latest");
+        if (isEmbeddedProfileActive())
+        {
+            MY_SQL_CONTAINER = null;
+        }
+        else
+        {
+            MY_SQL_CONTAINER = new MySQLContainer("mysql:latest");
+
+            MY_SQL_CONTAINER.start();
+        }
+    }
 
-        MY_SQL_CONTAINER.start();
+    //The Profiles Are Read The Same Way Spring Boot Reads Them: From The System Property First, Then From The Environment Variable.
+    static boolean isEmbeddedProfileActive()
+    {
+        String profiles = System.getProperty("spring.profiles.active", System.getenv("SPRING_PROFILES_ACTIVE"));
+        return Arrays.asList(StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(profiles))).contains("embedded");
     }
 }
@@ -0,0 +1,65 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.repository.StudentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This Test Class Starts The Whole Application With The "embedded" Profile, Which Needs Neither Docker Nor A Mysql Server, And Verifies That
+The Students Are Stored In The H2 Database Of That Profile. The Time The Application Needed To Start Is Printed, So It Can Be Compared Between Builds.*/
+@SpringBootTest
+@ActiveProfiles("embedded")
+public class EmbeddedProfileTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    //JUnit Test For Saving A Student In The Embedded Database
+    @DisplayName("JUnit test for save student with the embedded profile")
+    @Test
+    public void givenEmbeddedProfile_whenSaveStudent_thenStudentIsStoredInH2() throws SQLException {
+        // given - precondition or setup
+        Student student = Student.builder().firstName("Emre").lastName("Ozcan").email("embedded@gmail.com").build();
+
+        // when -  action or the behaviour that we are going test
+        Student savedStudent = studentRepository.save(student);
+
+        // then - verify the output
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.getMetaData().getURL()).startsWith("jdbc:h2:mem:demo");
+        }
+        assertThat(studentRepository.findById(savedStudent.getId())).get()
+                .extracting(Student::getEmail).isEqualTo("embedded@gmail.com");
+    }
+
+    //JUnit Test For The Startup Time Of The Application
+    @DisplayName("JUnit test for the startup time with the embedded profile")
+    @Test
+    public void givenEmbeddedProfile_whenApplicationIsReady_thenStartupTimeIsRecorded() {
+        // when -  action or the behaviour that we are going test
+        TimeGauge readyTime = meterRegistry.find("application.ready.time").timeGauge();
+
+        // then - verify the output
+        assertThat(readyTime).isNotNull();
+        assertThat(readyTime.value(TimeUnit.MILLISECONDS)).isPositive();
+        System.out.printf("The application started with the embedded profile in %.0f ms%n", readyTime.value(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,101 @@
+package com.eemrezcn.example.controller;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hamcrest.CoreMatchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*This Test Class Posts Thousands Of Students To The '/api/students/batch' Endpoint Against An Embedded H2 Database And Measures The Rows Per Second.
+Hibernate Statistics Are Enabled So That The Number Of Prepared Statements Can Be Compared With The Number Of Saved Rows.*/
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+class StudentControllerBatchTests {
+
+    private static final int STUDENT_COUNT = 2_000;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        studentRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /*This Code Represents A Test Method That Saves The Same Number Of Students Once With A Separate save Call Per Row And Once With A Single Request
+    To The Batch Endpoint. The Rows Per Second Of Both Paths Are Printed, And The Batched Path Must Need Far Fewer Prepared Statements Than Rows.*/
+    @Test
+    public void givenThousandsOfStudents_whenCreateStudents_thenInsertsAreBatched() throws Exception {
+
+        long singleStart = System.nanoTime();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            studentRepository.save(newStudent("single", i));
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+        long singleStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            students.add(newStudent("batch", i));
+        }
+        String content = objectMapper.writeValueAsString(students);
+
+        //when-action
+        long batchStart = System.nanoTime();
+        ResultActions response = mockMvc.perform(MockMvcRequestBuilders.post("/api/students/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content));
+        long batchNanos = System.nanoTime() - batchStart;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("single inserts:  %d statements, %.0f rows/sec%n", singleStatements, rowsPerSecond(singleNanos));
+        System.out.printf("batched inserts: %d statements, %.0f rows/sec%n", batchStatements, rowsPerSecond(batchNanos));
+
+        //then-verify the output
+        response.andExpect(MockMvcResultMatchers.status().isCreated());
+        response.andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(STUDENT_COUNT)));
+        Assertions.assertEquals(2L * STUDENT_COUNT, studentRepository.count());
+        Assertions.assertTrue(batchStatements < STUDENT_COUNT / 10);
+    }
+
+    private static Student newStudent(String prefix, int index) {
+        return Student.builder().firstName("Emre")
+                .lastName("Ozcan").email(prefix + index + "@hotmail.com").build();
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return STUDENT_COUNT / (nanos / 1_000_000_000.0);
+    }
+}
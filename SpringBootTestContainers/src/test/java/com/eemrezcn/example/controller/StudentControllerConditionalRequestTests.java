@@ -0,0 +1,67 @@
+package com.eemrezcn.example.controller;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.repository.StudentRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+/*This Test Class Reads The Student List With Conditional Requests Against An Embedded H2 Database.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+class StudentControllerConditionalRequestTests {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        studentRepository.deleteAllInBatch();
+    }
+
+    /*This Code Represents A Test Method That Reads The Students With The ETag Of The Previous Response. As Long As No Student Changes, The Response
+    Is 304 (Not Modified) Without A Body; After One Student Is Updated, The List Is Sent Again With A New ETag.*/
+    @Test
+    public void givenStudentListETag_whenGetAllStudents_thenNotModifiedUntilAStudentChanges() throws Exception {
+
+        List<Student> students = studentRepository.saveAll(List.of(
+                Student.builder().firstName("Emre").lastName("Ozcan").email("eozcan@hotmail.com").build(),
+                Student.builder().firstName("Ayse").lastName("Ozcan").email("aozcan@hotmail.com").build()));
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/api/students"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotNull(eTag);
+
+        //when-action
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/students").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                //then-verify the output
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        Student student = students.get(0);
+        student.setFirstName("Emre Can");
+        Assertions.assertEquals(1, studentRepository.save(student).getVersion());
+
+        String newETag = mockMvc.perform(MockMvcRequestBuilders.get("/api/students").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].firstName").value("Emre Can"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Assertions.assertNotEquals(eTag, newETag);
+    }
+}
@@ -0,0 +1,109 @@
+package com.eemrezcn.example.controller;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/*This Test Class Exports The Students Table Through The '/api/students/export' Endpoint Against An Embedded H2 Database.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+class StudentControllerExportTests {
+
+    //More Students Than The Fetch Size, So That The Cursor Has To Fetch Several Times.
+    private static final int STUDENT_COUNT = 1_234;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setup() {
+        studentRepository.deleteAllInBatch();
+    }
+
+    /*This Code Represents A Test Method That Saves Students To The Database And Exports Them. It Verifies That The Response Is Newline-Delimited
+    Json, That Every Line Holds Exactly One Student And That Every Saved Student Is Exported Exactly Once.*/
+    @Test
+    public void givenStudents_whenExportStudents_thenOneJsonLinePerStudent() throws Exception {
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            students.add(Student.builder().firstName("Emre" + i).lastName("Ozcan").email("eozcan" + i + "@hotmail.com").build());
+        }
+        studentRepository.saveAll(students);
+
+        //when-action
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/students/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        //then-verify the output
+        String content = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        Assertions.assertEquals(STUDENT_COUNT, lines.length);
+        Assertions.assertTrue(content.endsWith("\n"));
+
+        Set<Long> exportedIds = new HashSet<>();
+        for (String line : lines) {
+            Student student = objectMapper.readValue(line, Student.class);
+            Assertions.assertNotNull(student.getEmail());
+            exportedIds.add(student.getId());
+        }
+        Assertions.assertEquals(STUDENT_COUNT, exportedIds.size());
+    }
+
+    /*This Code Represents A Test Method That Exports An Empty Students Table And Verifies That The Response Is Empty.*/
+    @Test
+    public void givenNoStudents_whenExportStudents_thenEmptyResponse() throws Exception {
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/students/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    /*This Code Represents A Test Method That Starts An Export And Verifies That The Response Is Streamed Under The Configured Timeout Of
+    30 Minutes Instead Of The Default Timeout Of 30 Seconds, Which Would Cut Off The Export Of A Large Table.*/
+    @Test
+    public void givenExport_whenStarted_thenLongAsyncTimeoutIsConfigured() throws Exception {
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/students/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+}
@@ -0,0 +1,90 @@
+package com.eemrezcn.example.controller;
+
+import com.eemrezcn.example.entity.Student;
+import com.eemrezcn.example.metrics.StatementCountInterceptor;
+import com.eemrezcn.example.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*This Test Class Starts The Whole Application On An Embedded H2 Database And Verifies That The Number Of Sql Statements Per Request
+Is Recorded And That The Metrics Are Published At /actuator/prometheus.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+@AutoConfigureObservability //"This Annotation Enables The Prometheus Registry, Which Spring Boot Switches Off In Tests By Default."
+class StudentControllerMetricsTests {
+
+    private static final int STUDENT_COUNT = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setup() {
+        studentRepository.deleteAllInBatch();
+    }
+
+    /*This Test Posts A Batch Of Students And Verifies That The Request Is Recorded With Far Fewer Sql Statements Than Students,
+    Because The Inserts Are Sent In Jdbc Batches.*/
+    @Test
+    void givenBatchOfStudents_whenCreateStudents_thenStatementCountIsRecorded() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            students.add(Student.builder().firstName("Emre").lastName("Ozcan").email("emre" + i + "@gmail.com").build());
+        }
+
+        mockMvc.perform(post("/api/students/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(students)))
+                .andExpect(status().isCreated());
+
+        DistributionSummary statements = meterRegistry.get(StatementCountInterceptor.METRIC_NAME)
+                .tag("method", "POST")
+                .tag("uri", "/api/students/batch")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.max()).isBetween(1.0, STUDENT_COUNT / 10.0);
+    }
+
+    /*This Test Verifies That The Prometheus Endpoint Publishes The Endpoint Latency Histogram, The Repository Timers And The Statement Counts.*/
+    @Test
+    void givenRequest_whenScrapePrometheus_thenMetricsArePublished() throws Exception {
+        mockMvc.perform(get("/api/students"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")))
+                .andExpect(content().string(containsString("hibernate_statements_per_request_statements_count{method=\"GET\",uri=\"/api/students\",}")));
+    }
+}
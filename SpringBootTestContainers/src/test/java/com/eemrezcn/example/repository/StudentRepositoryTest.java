@@ -1,6 +1,7 @@
 package com.eemrezcn.example.repository;
 
 import com.eemrezcn.example.AbstractContainerBaseTest;
+import com.eemrezcn.example.config.IdSequenceAlignment;
 import com.eemrezcn.example.entity.Student;
 import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
 import org.junit.jupiter.api.Assertions;
@@ -8,17 +9,31 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest //"This Java Spring Boot Annotation Is Used To Test Database Operations Based On Jpa (Java Persistence Api)."
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) //"This Java Spring Boot Annotation Is Used To Automatically Configure The Test Database Setup."
+@Import(IdSequenceAlignment.class) //"This Annotation Adds The IdSequenceAlignment, Which Is Not Part Of A Jpa Test Slice, To The Test Context."
 class StudentRepositoryTest extends AbstractContainerBaseTest {
 
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private IdSequenceAlignment idSequenceAlignment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /*This Code Represents A Test Method For Saving A Student Object To The Database. The Test Creates A Student Object (With The Name 'emre',
     Last Name 'ozcan', And Email 'eozcan@hotmail.com'), Saves This Student Object To The Database, And Then Confirms That The Saved
     Student Object Is Not Null And Has An Assigned Identifier. During The Testing Process, Expected Outputs Are Verified Using Assertions.*/
@@ -51,4 +66,29 @@ class StudentRepositoryTest extends AbstractContainerBaseTest {
         Assertions.assertNotNull(studentDB);
 
     }
-}
\ No newline at end of file
+
+    /*This Code Represents A Test Method For A Students Table That Already Holds A Student With A Higher Id Than The Sequence, Like A Table Whose
+    Ids Came From The Auto-Increment Column Before The Sequence Was Added. After The Sequence Is Aligned, More Students Than One Block Of Ids Are
+    Saved, So Hibernate Has To Read The Sequence Again, And None Of Them May Get An Id That Is Already Used. The Test Runs Without A Transaction,
+    Because Hibernate Reads The Sequence On Its Own Connection.*/
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenStudentWithIdAboveSequence_whenAlignAndSaveStudents_thenIdsDoNotCollide() {
+        jdbcTemplate.update("insert into students (id, first_name, last_name, email, version) values (1000, 'Emre', 'Ozcan', 'eozcan@hotmail.com', 0)");
+        try {
+            //when-action or the testing
+            idSequenceAlignment.align("students", "students_seq", Student.ID_ALLOCATION_SIZE);
+            List<Student> students = new ArrayList<>();
+            for (int i = 0; i <= Student.ID_ALLOCATION_SIZE; i++) {
+                students.add(Student.builder().firstName("Emre" + i).lastName("Ozcan").email("eozcan" + i + "@hotmail.com").build());
+            }
+            List<Student> savedStudents = studentRepository.saveAllAndFlush(students);
+
+            //then-very output
+            Assertions.assertTrue(savedStudents.stream().noneMatch(student -> student.getId() == 1000L));
+            Assertions.assertTrue(savedStudents.stream().anyMatch(student -> student.getId() > 1000L));
+        } finally {
+            studentRepository.deleteAllInBatch();
+        }
+    }
+}
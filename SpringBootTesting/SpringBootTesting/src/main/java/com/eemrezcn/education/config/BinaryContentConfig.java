@@ -0,0 +1,27 @@
+package com.eemrezcn.education.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/*This Configuration Class Lets The Employee Endpoints Read And Write Cbor (application/cbor) And Smile (application/x-jackson-smile) Next To Json,
+As Chosen By The Content-Type And Accept Headers; Json Stays The Default When The Client Accepts Any Format. The Binary Formats Mostly Pay Off For
+The Large Bodies, Such As A Page Of 500 Employees Or A Batch Posted To /api/employees/batch. The Converters Copy The ObjectMapper Of Spring Boot,
+So The Employees Keep The Same Properties As In Json.*/
+@Configuration
+public class BinaryContentConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.eemrezcn.education.config;
+
+import com.eemrezcn.education.model.Employee;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*This Component Makes Sure The 'employees_seq' Sequence Never Hands Out An Id That Is Already Used. The Ids Of The Employees Were Generated By The
+Auto-Increment Column Of The 'employees' Table Before They Came From The Sequence, And Hibernate Creates The Sequence (On Mysql A Table With One
+'next_val' Row) Starting At 1 When It Updates An Existing Schema, So Without This Check New Employees Would Get The Ids Of Existing Ones.
+The Check Runs Once All Beans, And With Them The Updated Schema, Are Created And Before The Web Server Accepts Requests. It Moves The Sequence
+Forward To The Highest Id Plus One Block Of Ids And Never Moves It Back, So It Changes Nothing On Later Starts.*/
+@Component
+public class IdSequenceAlignment implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAlignment(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align("employees", "employees_seq", Employee.ID_ALLOCATION_SIZE);
+    }
+
+    /*This Method Moves The Given Sequence Forward So That The Next Block Of Ids It Hands Out Starts Above The Highest Id Of The Given Table.
+    The Pooled Optimizer Of Hibernate Uses The Ids From 'value - allocationSize + 1' To 'value' For A Value Read From The Sequence, So The Next
+    Value Must Be At Least The Highest Id Plus The Allocation Size. On Mysql This Is A Single Update Statement.*/
+    public void align(String table, String sequence, int allocationSize) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        switch (database) {
+            case "MySQL", "MariaDB" -> jdbcTemplate.update("update " + sequence + " set next_val = greatest(next_val, (select coalesce(max(id), 0) from "
+                    + table + ") + ?)", allocationSize);
+            case "H2" -> {
+                long lowest = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class) + allocationSize;
+                List<Long> next = jdbcTemplate.queryForList("select base_value from information_schema.sequences where lower(sequence_name) = ?",
+                        Long.class, sequence);
+                if (!next.isEmpty() && next.get(0) < lowest) {
+                    jdbcTemplate.execute("alter sequence " + sequence + " restart with " + lowest);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.eemrezcn.education.config;
+
+import com.eemrezcn.education.metrics.StatementCountInterceptor;
+import com.eemrezcn.education.metrics.StatementCountingInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/*This Configuration Class Adds The Metrics That Spring Boot Does Not Record By Itself: The Number Of Sql Statements Per Http Request
+And The Latency Of The Service Methods Annotated With @Timed. The Latency Of Every Endpoint (http.server.requests) And Of Every Repository
+Method (spring.data.repository.invocations) Is Recorded By Spring Boot Actuator.*/
+@Configuration
+public class MetricsConfig {
+
+    /*This Bean Registers The StatementCountingInspector With Hibernate, So Every Prepared Sql Statement Passes Through It.*/
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+    }
+
+    /*This Bean Adds The StatementCountInterceptor To Every Controller Endpoint.*/
+    @Bean
+    public WebMvcConfigurer statementCountConfigurer(MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new StatementCountInterceptor(meterRegistry));
+            }
+        };
+    }
+
+    /*This Bean Makes The @Timed Annotation Work On Spring Beans, So The Annotated Methods Are Recorded As Micrometer Timers.*/
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
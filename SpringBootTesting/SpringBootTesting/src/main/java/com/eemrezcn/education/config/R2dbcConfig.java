@@ -0,0 +1,24 @@
+package com.eemrezcn.education.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*This Configuration Class Is Only Active With The "r2dbc" Profile. Spring Boot Does Not Create A Jdbc DataSource When An R2dbc ConnectionFactory
+Exists, But Hibernate Still Needs One To Create The Schema And The 'employees_seq' Sequence, And The Jpa EmployeeRepository Stays Available For
+The Tests And Tools That Use It. So The DataSource Is Created Here From The Same spring.datasource.* Properties As Without The Profile.*/
+@Configuration
+@Profile("r2dbc")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
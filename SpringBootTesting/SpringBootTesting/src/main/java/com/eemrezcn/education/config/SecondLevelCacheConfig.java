@@ -0,0 +1,105 @@
+package com.eemrezcn.education.config;
+
+import com.eemrezcn.education.model.Employee;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.HibernateMetrics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/*This Configuration Class Enables The Hibernate Second-Level Cache For The Employee Entity And The Query Cache For findByEmail When
+employee.cache.enabled=true. The Caches Are Caffeine Caches Created Through Jcache, With The Size And Ttl Taken From The employee.cache.* Properties.
+Hibernate Keeps Them Consistent By Itself: Saving, Updating Or Deleting An Employee Updates Or Removes Its Cached Copy, And Any Change To The
+'employees' Table Invalidates The Cached Query Results. The Hits And Misses Of Every Region Are Published As Micrometer Metrics.*/
+@Configuration
+@ConditionalOnProperty(name = "employee.cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    /*This Bean Creates A Jcache CacheManager That Belongs Only To This Application Context, So Several Contexts In The Same Jvm (For Example In Tests)
+    Do Not Share Their Caches. It Contains The Employee Region, The Email Query Region, The Default Query Region Of Hibernate And The Region In Which
+    Hibernate Records When Each Table Was Last Changed. That Last Region Must Never Lose Entries, Otherwise Outdated Query Results Could Be Returned,
+    So It Has No Size Limit Or Ttl.*/
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${employee.cache.maximum-size}") long maximumSize,
+                                              @Value("${employee.cache.ttl}") Duration ttl,
+                                              @Value("${employee.cache.query-maximum-size}") long queryMaximumSize) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("ems-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(Employee.CACHE_REGION, regionConfiguration(OptionalLong.of(maximumSize), OptionalLong.of(ttl.toNanos())));
+        cacheManager.createCache(Employee.EMAIL_QUERY_CACHE_REGION, regionConfiguration(OptionalLong.of(queryMaximumSize), OptionalLong.of(ttl.toNanos())));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, regionConfiguration(OptionalLong.of(queryMaximumSize), OptionalLong.of(ttl.toNanos())));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, regionConfiguration(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    /*This Bean Tells Hibernate To Use The Caches Of The CacheManager Above And To Collect The Statistics From Which The Hit Ratios Are Calculated.
+    Hibernate Fails At Startup If It Needs A Region That Was Not Created Above, Instead Of Silently Creating An Unbounded One.*/
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /*This Bean Publishes The Hibernate Statistics As Micrometer Metrics, Among Them "hibernate.second.level.cache.requests" And
+    "hibernate.cache.query.requests" With A Hit And Miss Result Tag. It Also Publishes "ems.employee.cache.hit.ratio" For Each Of The Two Regions,
+    Which Is The Share Of Cache Lookups That Were Hits Since The Application Started.*/
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return meterRegistry -> {
+            SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            new HibernateMetrics(sessionFactory, "entityManagerFactory", Tags.empty()).bindTo(meterRegistry);
+            Statistics statistics = sessionFactory.getStatistics();
+            bindRegion(meterRegistry, statistics, Employee.CACHE_REGION);
+            bindRegion(meterRegistry, statistics, Employee.EMAIL_QUERY_CACHE_REGION);
+        };
+    }
+
+    private static void bindRegion(MeterRegistry meterRegistry, Statistics statistics, String region) {
+        Gauge.builder("ems.employee.cache.hit.ratio", statistics, s -> hitRatio(s.getCacheRegionStatistics(region)))
+                .tag("region", region)
+                .description("The share of lookups in the cache region that were hits")
+                .register(meterRegistry);
+    }
+
+    //The statistics of a region only exist once Hibernate has used it, until then the ratio is 0.
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return 0.0;
+        }
+        long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return lookups == 0 ? 0.0 : (double) regionStatistics.getHitCount() / lookups;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(OptionalLong maximumSize, OptionalLong expireAfterWriteNanos) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(maximumSize)
+                .setExpireAfterWrite(expireAfterWriteNanos)
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,24 @@
+package com.eemrezcn.education.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/*This Listener Stops The Employee Application As Soon As It Is Ready When startup.training-run=true, So The Jvm Can Write The Classes Loaded
+Until Then To A Class-Data Sharing Archive When It Exits (-XX:ArchiveClassesAtExit=app-cds.jsa). StartupBenchmark Runs It Before Measuring The
+"employees" Target, Whose First Request Lists The Employees. The EmployeeSearchIndex And The EmployeeEmailFilter Only Start Filling In The
+Background On The Same Event, So The Training Run Does Not Wait For Them, Just As The First Request Does Not. The Property Is Read When The
+Event Arrives And Not With @ConditionalOnProperty, Because The Conditions Of An Aot-Processed Application Are Fixed When It Is Built.*/
+@Component
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String PROPERTY = "startup.training-run";
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getEnvironment().getProperty(PROPERTY, Boolean.class, false)) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.eemrezcn.education.config;
+
+import com.eemrezcn.education.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+
+/*This Configuration Class Switches The Employee Application To Virtual Threads When threads.virtual.enabled=true (Java 21 Or Newer Is Required).
+Tomcat Then Runs Every Request On Its Own Virtual Thread Instead Of A Pool Of At Most 200 Platform Threads, So An EmployeeController Request That
+Waits For Mysql, Or For The Lock Of A Cache Miss, No Longer Holds A Scarce Thread. The Connection Pool (spring.datasource.hikari.maximum-pool-size)
+Still Limits How Many Of Them Reach The Database At Once. The Ndjson Stream Of The ReactiveEmployeeController Is Written On The Task Executor, Which
+Then Also Starts Virtual Threads. Pinned Virtual Threads, For Example In A 'synchronized' Method Of The Mysql Driver, Are Reported By The
+VirtualThreadPinningMonitor.*/
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /*This Bean Creates The Virtual Threads, Named "http-vt-0", "http-vt-1" And So On.*/
+    @Bean
+    public ThreadFactory virtualThreadFactory() {
+        return VirtualThreads.factory("http-vt-");
+    }
+
+    /*This Bean Replaces The Thread Pool Of The Tomcat Connector With An Executor That Starts A New Virtual Thread For Every Request.*/
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ThreadFactory virtualThreadFactory) {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor(virtualThreadFactory));
+    }
+
+    /*This Bean Replaces The Thread Pool Spring Boot Creates For Asynchronous Tasks With An Executor That Runs Every Task On A New Virtual Thread.*/
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public SimpleAsyncTaskExecutor applicationTaskExecutor(ThreadFactory virtualThreadFactory) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setThreadFactory(virtualThreadFactory);
+        return executor;
+    }
+
+    /*This Bean Records Every Time A Virtual Thread Stays Pinned To Its Carrier Thread For Longer Than threads.virtual.pinned-threshold.*/
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   @Value("${threads.virtual.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
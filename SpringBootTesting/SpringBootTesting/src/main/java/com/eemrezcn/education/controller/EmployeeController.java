@@ -2,15 +2,34 @@ package com.eemrezcn.education.controller;
 
 import com.eemrezcn.education.model.Employee;
 import com.eemrezcn.education.service.EmployeeService;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController /*It Is Used To Define A Controller Class In The Spring Framework*/
 @RequestMapping("/api/employees") /*It Is Used To Map A Url Path To A Method In A Spring Controller.*/
 public class EmployeeController {
+
+    //The Name Of The Response Header That Carries The Cursor Of The Next Page.
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    //The Page Size Used When The Request Does Not Specify A Limit, And The Largest Page Size A Request May Ask For.
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    //The Number Of Search Results Returned When The Request Does Not Specify A Limit, And The Largest Number A Request May Ask For.
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
+    //The Largest Number Of Ids A Bulk Delete Request May Contain, So One Delete Statement Never Gets An Unbounded In List.
+    public static final int MAX_DELETE_IDS = 500;
+
     private EmployeeService employeeService;
 
     public EmployeeController(EmployeeService employeeService) {
@@ -26,57 +45,162 @@ public class EmployeeController {
         return employeeService.saveEmployee(employee);
     }
 
-    /*This Method, Annotated With @GetMapping, Performs An Operation To List All Employee Objects When An Http Get Request Is Received And Returns
-    A List Containing These Objects As The Result.*/
-    //http://localhost:8080/api/employees
+    /*This Method, Annotated With @PostMapping("/batch"), Takes A List Of Employee Objects Received In An Http Post Request And Saves Them Together.
+    The Inserts Are Sent To The Database In Jdbc Batches, So Thousands Of Employees Are Saved With A Handful Of Statements.*/
+    //http://localhost:8080/api/employees/batch
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Employee> createEmployees(@RequestBody List<Employee> employees) {
+        return employeeService.saveEmployees(employees);
+    }
+
+    /*This Method, Annotated With @GetMapping, Performs An Operation To List Employee Objects When An Http Get Request Is Received. The Employees Are
+    Returned One Page At A Time, Ordered By Id: 'after' Is The Last Id Of The Previous Page And 'limit' Is The Page Size, Which Is Capped At 500.
+    When The Page Is Full, The Id Of Its Last Employee Is Returned In The 'X-Next-Cursor' Header And Can Be Passed As 'after' To Read The Next Page.
+    The Whole Table Is Only Returned In One Response When The Caller Explicitly Asks For It With 'all=true'.*/
+    //http://localhost:8080/api/employees?after=0&limit=50
     @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    public ResponseEntity<List<Employee>> getAllEmployees(@RequestParam(name = "after", defaultValue = "0") long after,
+                                                          @RequestParam(name = "limit", defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                          @RequestParam(name = "all", defaultValue = "false") boolean all) {
+        if (all) {
+            return ResponseEntity.ok(employeeService.getAllEmployees());
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Employee> page = employeeService.getEmployeesAfter(after, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageSize) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    /*This Method, Annotated With @GetMapping("/search"), Serves The Type-Ahead Search Of The User Interface. It Returns The Employees Whose First Name,
+    Last Name Or Email Starts With The Words Of The Query 'q', Or Whose Name Is Similar To Them, Best Matches First. The Employees Are Found In An
+    In-Memory Index, So No Query With "Like '%...%'" Scans The Table; 'limit' Is Capped At 100.*/
+    //http://localhost:8080/api/employees/search?q=emre%20oz&limit=10
+    @GetMapping("/search")
+    public List<Employee> searchEmployees(@RequestParam("q") String query,
+                                          @RequestParam(name = "limit", defaultValue = "" + DEFAULT_SEARCH_LIMIT) int limit) {
+        return employeeService.searchEmployees(query, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
     }
 
     /*This Method, Annotated With @GetMapping("{id}"), Performs An Operation To Retrieve A Specific Employee By Its Identifier When An Http Get Request Is Received.
      If The Operation Is Successful, It Returns A ResponsEntity Containing The Found Employee Object; Otherwise,
-     It Returns A ResponsEntity With An Error Status Indicating "Not Found."*/
+     It Returns A ResponsEntity With An Error Status Indicating "Not Found."
+     The Version Of The Employee Is Sent As Its ETag. When The Request Has An If-None-Match Header, Only The Version Is Read First, And If The ETag
+     Is Still Current, 304 (Not Modified) Is Returned Without Loading And Sending The Employee.*/
     //http://localhost:8080/api/employees/1
     @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId) {
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = employeeService.getEmployeeVersion(employeeId);
+            if (version.isPresent() && webRequest.checkNotModified(eTag(version.get()))) {
+                return null;
+            }
+        }
         return employeeService.getEmployeeById(employeeId)
-                .map(ResponseEntity::ok)
+                .map(employee -> ResponseEntity.ok().eTag(eTag(employee.getVersion())).body(employee))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /*This Method Is Used To Update The Information Of A Specific Employee At The Specified Url.The {id} Placeholder Represents The Id Of A Specific Employee
     In The Url. This Annotation Maps An Http Put Request To The Specified Url. The Corresponding Method Updates The Information Of The Employee With The Specified Id
     And Returns The Updated Employee As A Responseentity Object.If An Employee With The Specified Id Cannot Be Found, An Http Status Code Indicating "Not Found"
-    Is Returned*/
+    Is Returned. When The Request Has An If-Match Header That Is Not The Current ETag Of The Employee, Or The Employee Is Changed By Another Request
+    Before This Update Is Saved, The Employee Is Not Updated And 412 (Precondition Failed) Is Returned.
+    The Employee Is Not Loaded: It Is Changed With A Single Update Statement That Only Applies To The Expected Version. If The If-Match Header Is
+    The ETag Of One Version, That Statement Is The Only One. Without An If-Match Header The Update Has No Version Condition, Whether The Employee
+    Exists Is Told By The Number Of Changed Rows, And Only The New Version Is Read Afterwards For The ETag. Any Other If-Match Header Is Compared
+    With The Current Version, Which Is Read Before.*/
     //http://localhost:8080/api/employees/1
     @PutMapping("{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
-                                                   @RequestBody Employee employee) {
-        return employeeService.getEmployeeById(employeeId)
-                .map(savedEmployee -> {
-
-                    savedEmployee.setFirstName(employee.getFirstName());
-                    savedEmployee.setLastName(employee.getLastName());
-                    savedEmployee.setEmail(employee.getEmail());
-
-                    Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-                    return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
-
-                })
-                .orElseGet(() -> ResponseEntity.notFound().build());
+                                                   @RequestBody Employee employee,
+                                                   WebRequest webRequest) {
+        String ifMatch = webRequest.getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch == null) {
+            return employeeService.updateEmployee(employeeId, employee)
+                    .map(updatedEmployee -> ResponseEntity.ok().eTag(eTag(updatedEmployee.getVersion())).body(updatedEmployee))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        }
+
+        Long version = version(ifMatch);
+        if (version == null) {
+            Optional<Long> currentVersion = employeeService.getEmployeeVersion(employeeId);
+            if (currentVersion.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            //For A Put Request, checkNotModified Answers With 412 (Precondition Failed) When The If-Match Header Does Not Match The ETag.
+            if (webRequest.checkNotModified(eTag(currentVersion.get()))) {
+                return null;
+            }
+            version = currentVersion.get();
+        }
+
+        try {
+            return employeeService.updateEmployee(employeeId, version, employee)
+                    .map(updatedEmployee -> ResponseEntity.ok().eTag(eTag(updatedEmployee.getVersion())).body(updatedEmployee))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (OptimisticLockingFailureException exception) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
     }
 
     /*This Method Accepts An Http Delete Request To Delete A Specific Employee And Calls The Corresponding Service Method.
-    It Then Returns A Responseentity Object Based On Whether The Deletion Was Successful. */
+    It Then Returns A Responseentity Object Based On Whether The Deletion Was Successful. If No Employee With The Specified Id Exists,
+    An Http Status Code Indicating "Not Found" Is Returned.*/
     //http://localhost:8080/api/employees/1
     @DeleteMapping("{id}")
     public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId) {
 
-        employeeService.deleteEmployee(employeeId);
+        if (!employeeService.deleteEmployee(employeeId)) {
+            return ResponseEntity.notFound().build();
+        }
 
         return new ResponseEntity<String>("Employee deleted successfully!.", HttpStatus.OK);
 
     }
 
+    /*This Method Accepts An Http Delete Request With A List Of Employee Ids And Deletes All Of Them With A Single Delete Statement. It Returns How Many
+    Employees Were Deleted, Or "Not Found" If None Of The Ids Belongs To An Employee. A Request Without Ids Or With More Than 500 Ids Is Rejected
+    With 400 (Bad Request).*/
+    //http://localhost:8080/api/employees?ids=1,2,3
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<String> deleteEmployees(@RequestParam("ids") List<Long> employeeIds) {
+
+        if (employeeIds.isEmpty() || employeeIds.size() > MAX_DELETE_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
+        if (deletedEmployees == 0) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return new ResponseEntity<String>(deletedEmployees + " employees deleted successfully!.", HttpStatus.OK);
+
+    }
+
+    /*The Strong ETag Of An Employee Is Its Version In Quotes. The Url Already Identifies The Employee, So The Version Alone Is Enough.*/
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /*This Method Returns The Version In An If-Match Header That Holds Exactly One Strong ETag Of An Employee, And Null For A Missing Header, "*",
+    A Weak ETag Or A List Of ETags, Which Are Compared With The Current Version By checkNotModified Instead.*/
+    static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.length() < 3 || ifMatch.charAt(0) != '"' || ifMatch.charAt(ifMatch.length() - 1) != '"') {
+            return null;
+        }
+        try {
+            return Long.parseLong(ifMatch.substring(1, ifMatch.length() - 1));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
 }
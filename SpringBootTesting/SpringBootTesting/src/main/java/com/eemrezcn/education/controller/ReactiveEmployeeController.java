@@ -0,0 +1,115 @@
+package com.eemrezcn.education.controller;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/*This Controller Serves The Employees Of The "r2dbc" Profile Under /api/reactive/employees Directly From The ReactiveEmployeeService. Its Methods
+Return A Mono Or A Flux, So Spring Mvc Releases The Request Thread As Soon As The Database Call Has Been Sent And Writes The Response When The
+Database Has Answered; Unlike Under /api/employees, Where The EmployeeController Waits For Every Answer Through The R2dbcEmployeeServiceImpl, No Tomcat
+Thread Is Held While The Database Works. The Answers Follow Those Of The EmployeeController, But A Put Only Accepts No If-Match Header Or The ETag Of
+One Version.*/
+@RestController
+@RequestMapping("/api/reactive/employees")
+@Profile("r2dbc")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService reactiveEmployeeService;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService reactiveEmployeeService) {
+        this.reactiveEmployeeService = reactiveEmployeeService;
+    }
+
+    //http://localhost:8080/api/reactive/employees
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<Employee> createEmployee(@RequestBody Employee employee) {
+        return reactiveEmployeeService.saveEmployee(employee);
+    }
+
+    /*This Method Returns One Page Of Employees Ordered By Id, With The Cursor Of The Next Page In The 'X-Next-Cursor' Header Like The
+    EmployeeController. A Page Has At Most 500 Employees, So It Is Collected Before The Headers Are Written.*/
+    //http://localhost:8080/api/reactive/employees?after=0&limit=50
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<Employee>>> getEmployees(@RequestParam(name = "after", defaultValue = "0") long after,
+                                                             @RequestParam(name = "limit", defaultValue = "" + EmployeeController.DEFAULT_PAGE_SIZE) int limit) {
+        int pageSize = Math.max(1, Math.min(limit, EmployeeController.MAX_PAGE_SIZE));
+        return reactiveEmployeeService.getEmployeesAfter(after, pageSize).collectList().map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.size() == pageSize) {
+                response.header(EmployeeController.NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+            }
+            return response.body(page);
+        });
+    }
+
+    /*This Method Streams All Employees As Newline-Delimited Json, One Line Per Employee, Which Is Written As Soon As Its Row Has Been Read, So The
+    Table Is Never Held In Memory As A Whole.*/
+    //http://localhost:8080/api/reactive/employees (Accept: application/x-ndjson)
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> streamEmployees() {
+        return reactiveEmployeeService.getAllEmployees();
+    }
+
+    //http://localhost:8080/api/reactive/employees/search?q=emre%20oz&limit=10
+    @GetMapping("/search")
+    public Flux<Employee> searchEmployees(@RequestParam("q") String query,
+                                          @RequestParam(name = "limit", defaultValue = "" + EmployeeController.DEFAULT_SEARCH_LIMIT) int limit) {
+        return reactiveEmployeeService.searchEmployees(query, Math.max(1, Math.min(limit, EmployeeController.MAX_SEARCH_LIMIT)));
+    }
+
+    //http://localhost:8080/api/reactive/employees/1
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable("id") long employeeId) {
+        return reactiveEmployeeService.getEmployeeById(employeeId)
+                .map(employee -> ResponseEntity.ok().eTag(eTag(employee.getVersion())).body(employee))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /*This Method Changes The Employee With A Single Update Statement. Without An If-Match Header The Update Has No Version Condition; With The ETag
+    Of One Version It Only Applies To That Version And Otherwise Answers With 412 (Precondition Failed), Like Any Other If-Match Header.*/
+    //http://localhost:8080/api/reactive/employees/1
+    @PutMapping("{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(@PathVariable("id") long employeeId,
+                                                         @RequestBody Employee employee,
+                                                         @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Mono<Employee> updatedEmployee;
+        if (ifMatch == null) {
+            updatedEmployee = reactiveEmployeeService.updateEmployee(employeeId, employee);
+        } else {
+            Long version = EmployeeController.version(ifMatch);
+            if (version == null) {
+                return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+            }
+            updatedEmployee = reactiveEmployeeService.updateEmployee(employeeId, version, employee);
+        }
+        return updatedEmployee
+                .map(updated -> ResponseEntity.ok().eTag(eTag(updated.getVersion())).body(updated))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(OptimisticLockingFailureException.class,
+                        exception -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()));
+    }
+
+    //http://localhost:8080/api/reactive/employees/1
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<String>> deleteEmployee(@PathVariable("id") long employeeId) {
+        return reactiveEmployeeService.deleteEmployee(employeeId)
+                .map(deleted -> deleted
+                        ? ResponseEntity.ok("Employee deleted successfully!.")
+                        : ResponseEntity.<String>notFound().build());
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+}
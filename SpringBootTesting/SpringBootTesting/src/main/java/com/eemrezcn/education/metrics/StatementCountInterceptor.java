@@ -0,0 +1,52 @@
+package com.eemrezcn.education.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/*This Interceptor Records How Many Sql Statements Every Http Request Sends To The Database. The Counts Are Published As The
+"hibernate.statements.per.request" Distribution Summary, Tagged With The Http Method And The Uri Pattern Of The Endpoint (For Example
+"/api/employees/{id}"), So An Endpoint That Suddenly Needs More Queries (For Example Because Of An N+1 Problem) Can Be Found Quickly. A Read
+Answered From The Second-Level Cache Is Recorded With 0 Statements, And So Is Every Request Of The "r2dbc" Profile, Whose Queries Are Sent By
+The R2dbc Driver Instead Of Hibernate.*/
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String METRIC_NAME = "hibernate.statements.per.request";
+
+    private final MeterRegistry meterRegistry;
+
+    public StatementCountInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = StatementCountingInspector.stop();
+        if (statements < 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Number of SQL statements sent to the database while handling one HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    /*When A Request Continues Asynchronously, The Request Thread Is Released Here, So Its Counter Is Removed.*/
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCountingInspector.stop();
+    }
+}
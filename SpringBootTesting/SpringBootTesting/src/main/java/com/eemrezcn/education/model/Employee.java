@@ -2,20 +2,50 @@ package com.eemrezcn.education.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Setter/*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
 @Getter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
 @AllArgsConstructor /*It Is An Annotation That Comes From The Lombok Library And Adds A Constructor (Constructor Method) To A Class That Includes All Fields.*/
 @NoArgsConstructor /*It Is An Annotation From The Lombok Library And Adds A Parameterless Constructor (Constructor Method) To A Class.*/
-@Builder /*It Is An Annotation From The Lombok Library And Is Used Specifically To Simplify The Process Of Object Creation*/
+@Builder(toBuilder = true) /*It Is An Annotation From The Lombok Library And Is Used Specifically To Simplify The Process Of Object Creation. toBuilder Also Lets An Employee Be Copied.*/
 @Entity /*This Annotation Signifies That The Class Corresponds To A Database Table And That Objects Of This Class Can Be Stored In The Database*/
-@Table(name = "employees") /*It Is A Java Persistence Api (Jpa) Annotation That Specifies Which Table In The Database Corresponds To A Class.*/
+@Table(name = "employees", /*It Is A Java Persistence Api (Jpa) Annotation That Specifies Which Table In The Database Corresponds To A Class.*/
+        /*The Unique Index On The 'email' Column Lets The Database Reject Duplicate Emails On Insert, So No Lookup Is Needed Before Saving.*/
+        uniqueConstraints = @UniqueConstraint(name = Employee.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        /*The Composite Index On ('last_name', 'first_name') Serves All Lookups By First Name And Last Name Without A Full Table Scan, And Also
+        Lookups By Last Name Alone, Because 'last_name' Is Its Leading Column. On Mysql Every Secondary Index Also Contains The Primary Key,
+        So Queries That Only Select The Id, First Name And Last Name (See EmployeeNameView) Are Answered From The Index Without Reading The Rows.*/
+        indexes = @Index(name = Employee.NAME_INDEX, columnList = "last_name, first_name"))
+@Cacheable /*This Annotation Allows Hibernate To Keep Employees In The Second-Level Cache When It Is Enabled With employee.cache.enabled=true.*/
+/*The Cached Employees Are Stored In The 'employees' Region. The Read-Write Strategy Updates Or Removes The Cached Copy When An Employee Is Updated
+Or Deleted, And Locks It While The Transaction Is Running, So Other Requests Never Read A Stale Employee From The Cache.*/
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Employee.CACHE_REGION)
 public class Employee
 {
-    /*The Id Field Is Used As A Column Representing The Primary Key In The Database,
-    And A New Primary Key Value Is Automatically Assigned Each Time A New Record Is Added*/
+    /*The Name Of The Unique Index On The 'email' Column, Used To Recognize Duplicate Email Violations Reported By The Database.*/
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_employees_email";
+
+    /*The Name Of The Composite Index On The 'last_name' And 'first_name' Columns.*/
+    public static final String NAME_INDEX = "idx_employees_last_name_first_name";
+
+    /*The Name Of The Second-Level Cache Region Of The Employees.*/
+    public static final String CACHE_REGION = "employees";
+
+    /*The Name Of The Query Cache Region Of The Lookups By Email.*/
+    public static final String EMAIL_QUERY_CACHE_REGION = "employees-by-email";
+
+    /*The Number Of Ids Hibernate Reserves With One Call Of The 'employees_seq' Sequence.*/
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /*The Id Field Is Used As A Column Representing The Primary Key In The Database, And A New Primary Key Value Is Automatically Assigned Each Time
+    A New Record Is Added. The Values Come From A Pooled Sequence That Hands Out 50 Ids Per Database Call, Which Lets Hibernate Group Inserts Into Jdbc
+    Batches. On Mysql, Which Has No Sequences, Hibernate Keeps The Sequence In A Table Named 'employees_seq'. The IdSequenceAlignment Moves The
+    Sequence Past The Ids Of Employees That Were Saved Before The Sequence Existed.*/
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /*This Annotation Allows Mapping A Field To A Database Column. The 'name' Parameter Specifies The Name Of The Column In The Corresponding Database Table.
@@ -37,4 +67,11 @@ public class Employee
     A Column In The Database, And It Is Specified That This Column Cannot Be Empty."*/
     @Column(nullable = false)
     private String email;
+
+    /*The Version Is Increased By Hibernate On Every Update And Is Checked In The Where Clause Of That Update, So Saving A Copy Of The Employee That
+    Was Read Before Another Change Fails With An Optimistic Locking Exception Instead Of Overwriting That Change. The Controller Also Sends It As
+    The ETag Of The Employee. It Is A Primitive, So Whether An Employee Is New Is Still Decided By Its Id, And Rows That Existed Before The Column
+    Was Added Start At Version 0.*/
+    @Version
+    private long version;
 }
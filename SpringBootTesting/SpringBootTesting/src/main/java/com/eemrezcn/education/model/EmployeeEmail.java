@@ -0,0 +1,6 @@
+package com.eemrezcn.education.model;
+
+/*This Record Is A Spring Data Projection Of The Employee Entity That Contains Only The Id And The Email. Repository Methods That Return It
+Select Only These Two Columns, So The Emails Of All Employees Can Be Read Without Building Employee Objects.*/
+public record EmployeeEmail(Long id, String email) {
+}
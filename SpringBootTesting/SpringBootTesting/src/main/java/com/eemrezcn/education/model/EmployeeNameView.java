@@ -0,0 +1,12 @@
+package com.eemrezcn.education.model;
+
+/*This Interface Is A Spring Data Projection Of The Employee Entity That Contains Only The Id, First Name And Last Name.
+Repository Methods That Return It Select Only These Columns, Which Are All Part Of The Composite Name Index Of The 'employees' Table.*/
+public interface EmployeeNameView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+}
@@ -1,18 +1,40 @@
 package com.eemrezcn.education.repository;
 
 import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeEmail;
+import com.eemrezcn.education.model.EmployeeNameView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+/*The Single-Statement Updates And Deletes And The Prefix Search Are Declared In The EmployeeRepositoryCustom.*/
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
 
     /*"This Method Defines A Custom Spring Data Jpa Query That Searches For A Record In The Employee Table Based On An Email,
     And If Found, Returns That Record Wrapped In An Optional."*/
+    /*When The Caches Are Enabled, The Id Found For An Email Is Kept In The Query Cache And The Employee Itself Is Read From The Second-Level Cache.
+    Hibernate Discards The Cached Result As Soon As Any Employee Is Inserted, Updated Or Deleted.*/
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Employee.EMAIL_QUERY_CACHE_REGION)
+    })
     Optional<Employee> findByEmail(String email);
 
+    /*This Method Defines A Custom Spring Data Jpa Query That Returns The Employees Whose Id Is Greater Than The Given Id, Ordered By Id.
+    The Size Of The Page Is Taken From The Pageable, So Each Call Reads Only One Bounded Slice Of The Table Using The Primary Key Index (Keyset Pagination).*/
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /*This Method Reads One Page Of Ids And Emails In The Same Order As The Method Above. It Is Used To Fill The EmployeeEmailFilter, Which Reads
+    The Whole Table Page By Page And Only Needs The Emails.*/
+    List<EmployeeEmail> findEmailsByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
 
     /*This Method Defines A Custom Jpql Query That Searches For A Record In The 'employee' Table Based On Specified Values For First Name And Last Name,
     And Returns The Corresponding 'employee' Object If Found.*/
@@ -35,4 +57,17 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     @Query(value = "select * from employees e where e.first_name =:firstName and e.last_name =:lastName", nativeQuery = true)
     Employee findByNativeSQLNamed(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
+    /*This Method Searches For The Employees With The Given First Name And Last Name Like The Queries Above, But Returns Only Their Id, First Name
+    And Last Name As An EmployeeNameView. Spring Data Selects Only These Three Columns, So The Query Is Answered From The Composite Name Index Alone.*/
+    List<EmployeeNameView> findNamesByFirstNameAndLastName(String firstName, String lastName);
+
+    /*This Method Returns The Id, First Name And Last Name Of All Employees With The Given Last Name, Ordered By First Name. Both The Filter And
+    The Order Are Served By The Composite Name Index, So No Sorting Is Needed.*/
+    List<EmployeeNameView> findNamesByLastNameOrderByFirstNameAsc(String lastName);
+
+    /*This Method Returns Only The Version Of The Employee With The Given Id, Which Is Read From The Row Through The Primary Key Without Building
+    An Employee Object. It Is Used To Answer Conditional Requests Whose ETag Is Still Current Without Loading The Whole Employee.*/
+    @Query("select e.version from Employee e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
+
 }
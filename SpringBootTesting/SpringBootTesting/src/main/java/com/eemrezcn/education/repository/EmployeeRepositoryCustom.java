@@ -0,0 +1,34 @@
+package com.eemrezcn.education.repository;
+
+import com.eemrezcn.education.model.Employee;
+
+import java.util.Collection;
+import java.util.List;
+
+/*This Interface Defines The Single-Statement Changes Of The Employees That Are Not Run As Jpql Statements, And A Search Whose Query Depends On The
+Number Of Words. It Is Combined With The EmployeeRepository, So These Methods Are Available On The Same Repository Bean, And Implemented By The
+EmployeeRepositoryCustomImpl.*/
+public interface EmployeeRepositoryCustom {
+
+    /*This Method Changes The First Name, Last Name And Email Of The Employee With The Given Id And Increases Its Version With A Single Update Statement,
+    Without Loading The Employee First, But Only If The Row Still Has The Given Version. It Returns The Number Of Changed Rows, Which Is 0 If No Such
+    Employee Exists Or It Has Another Version. Only The Cached Copy Of This Employee Leaves The Second-Level Cache.*/
+    int updateEmployeeById(long id, long version, String firstName, String lastName, String email);
+
+    /*This Method Works Like updateEmployeeById, But Changes The Employee Whatever Its Version Is. It Returns 0 Only If No Such Employee Exists.*/
+    int overwriteEmployeeById(long id, String firstName, String lastName, String email);
+
+    /*This Method Deletes The Employee With The Given Id With A Single Delete Statement, Without Loading It First Like deleteById Does, And Returns
+    The Number Of Deleted Rows, Which Is 0 If No Such Employee Exists. Only The Cached Copy Of This Employee Leaves The Second-Level Cache.*/
+    int deleteEmployeeById(long id);
+
+    /*This Method Deletes All Employees With The Given Ids With A Single Delete Statement And Returns The Number Of Deleted Rows. Ids Of
+    Employees That Do Not Exist Are Ignored.*/
+    int deleteEmployeesByIdIn(Collection<Long> ids);
+
+    /*This Method Returns At Most 'limit' Employees Whose Last Name Or Email Starts With One Of The Given Words. Each Word Is One Range Of The
+    Composite Name Index, Whose Leading Column Is 'last_name', Or Of The Unique Index On 'email', So No Row Is Read That Does Not Match. The Columns
+    Are Compared As Their Collation Does, Which Ignores Case On Mysql; For Databases That Do Not, The Last Names Are Also Compared With The Word
+    Capitalized, Like Names Are Written. First Names Are Not Compared, Because No Index Starts With Them.*/
+    List<Employee> findByLastNameOrEmailStartingWith(Collection<String> words, int limit);
+}
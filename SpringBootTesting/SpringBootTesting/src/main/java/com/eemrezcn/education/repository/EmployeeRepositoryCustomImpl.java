@@ -0,0 +1,155 @@
+package com.eemrezcn.education.repository;
+
+import com.eemrezcn.education.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/*This Class Implements The EmployeeRepositoryCustom Operations. Spring Data Finds It By The "Impl" Suffix And Uses It For The Custom Methods Of The
+EmployeeRepository. The Update And Delete Statements Are Not Run As Jpql Update Or Delete Statements, Because Hibernate Can Not Tell Which Rows Such A Bulk Statement
+Changes, So After Each Of Them It Drops The Whole 'employees' Region Of The Second-Level Cache. Instead They Are Sent Through The Jdbc Connection Of
+The Hibernate Session, Which Still Logs And Counts Them, And Only The Cached Copies Of The Given Ids Are Locked Until The Transaction Ends, As Hibernate
+Does When It Updates Or Deletes A Loaded Employee. Reads Of These Employees Meanwhile Go To The Database, And After The Commit The Next Read Caches
+Them Again. The Cached Results Of The Email Lookups Are Still Discarded, Because Any Change To The 'employees' Table Can Change Them.*/
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateEmployeeById(long id, long version, String firstName, String lastName, String email) {
+        return execute("update employees set first_name = ?, last_name = ?, email = ?, version = version + 1 where id = ? and version = ?",
+                List.of(id), statement -> {
+                    bindFields(statement, id, firstName, lastName, email);
+                    statement.setLong(5, version);
+                });
+    }
+
+    @Override
+    @Transactional
+    public int overwriteEmployeeById(long id, String firstName, String lastName, String email) {
+        return execute("update employees set first_name = ?, last_name = ?, email = ?, version = version + 1 where id = ?",
+                List.of(id), statement -> bindFields(statement, id, firstName, lastName, email));
+    }
+
+    @Override
+    @Transactional
+    public int deleteEmployeeById(long id) {
+        return execute("delete from employees where id = ?", List.of(id), statement -> statement.setLong(1, id));
+    }
+
+    @Override
+    @Transactional
+    public int deleteEmployeesByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return execute("delete from employees where id in (" + placeholders + ")", ids, statement -> {
+            int index = 1;
+            for (Long id : ids) {
+                statement.setLong(index++, id);
+            }
+        });
+    }
+
+    @Override
+    public List<Employee> findByLastNameOrEmailStartingWith(Collection<String> words, int limit) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        List<String> conditions = new ArrayList<>();
+        List<String> patterns = new ArrayList<>();
+        for (String word : words) {
+            //The Wildcards Of 'like' Are Escaped, So A '%' Or '_' In A Word Only Matches Itself.
+            String prefix = word.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+            String capitalized = prefix.isEmpty() ? prefix : Character.toUpperCase(prefix.charAt(0)) + prefix.substring(1);
+            startsWith(conditions, patterns, "e.lastName", capitalized);
+            if (!capitalized.equals(prefix)) {
+                startsWith(conditions, patterns, "e.lastName", prefix);
+            }
+            startsWith(conditions, patterns, "e.email", prefix);
+        }
+        TypedQuery<Employee> query = entityManager.createQuery("select e from Employee e where " + String.join(" or ", conditions), Employee.class)
+                .setMaxResults(limit);
+        for (int i = 0; i < patterns.size(); i++) {
+            query.setParameter(i + 1, patterns.get(i));
+        }
+        return query.getResultList();
+    }
+
+    private static void startsWith(List<String> conditions, List<String> patterns, String column, String prefix) {
+        patterns.add(prefix + "%");
+        conditions.add(column + " like ?" + patterns.size() + " escape '!'");
+    }
+
+    private static void bindFields(PreparedStatement statement, long id, String firstName, String lastName, String email) throws SQLException {
+        statement.setString(1, firstName);
+        statement.setString(2, lastName);
+        statement.setString(3, email);
+        statement.setLong(4, id);
+    }
+
+    /*This Method Runs One Update Or Delete Statement That Changes At Most The Employees With The Given Ids. Changes That Are Still Waiting In The
+    Session Are Flushed First, Like Hibernate Does Before A Jpql Statement, So The Statement Sees Them.*/
+    private int execute(String sql, Collection<Long> ids, Parameters parameters) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        session.flush();
+        lockCachedEmployees(session, ids);
+        JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+        PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement(sql);
+        try {
+            parameters.bind(statement);
+            return jdbcCoordinator.getResultSetReturn().executeUpdate(statement, sql);
+        } catch (SQLException exception) {
+            throw session.getJdbcServices().getSqlExceptionHelper().convert(exception, "Could not bind the parameters", sql);
+        } finally {
+            jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+            jdbcCoordinator.afterStatementExecution();
+        }
+    }
+
+    /*The Cached Copies Of The Given Employees Are Replaced By Locks, Which Keep Other Transactions From Caching The Old Rows Again, And Released
+    Once The Transaction Has Ended. The Email Lookups Cached Before The Commit Are Invalidated The Same Way.*/
+    private static void lockCachedEmployees(SessionImplementor session, Collection<Long> ids) {
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(Employee.class);
+        if (factory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            String[] tables = persister.getSynchronizedQuerySpaces();
+            TimestampsCache timestampsCache = factory.getCache().getTimestampsCache();
+            timestampsCache.preInvalidate(tables, session);
+            session.getActionQueue().registerProcess((success, completedSession) -> timestampsCache.invalidate(tables, completedSession));
+        }
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cache = persister.getCacheAccessStrategy();
+        for (Long id : ids) {
+            Object key = cache.generateCacheKey(id, persister, factory, session.getTenantIdentifier());
+            SoftLock lock = cache.lockItem(session, key, null);
+            session.getActionQueue().registerProcess((success, completedSession) -> cache.unlockItem(completedSession, key, lock));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Parameters {
+
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+}
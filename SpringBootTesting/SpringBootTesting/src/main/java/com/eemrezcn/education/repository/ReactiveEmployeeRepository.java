@@ -0,0 +1,277 @@
+package com.eemrezcn.education.repository;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*This Repository Reads And Writes The Employees Of The 'employees' Table With R2dbc, So No Thread Waits While The Database Answers. It Offers The
+Same Queries As The EmployeeRepository, Written As Sql, Because Spring Data R2dbc Does Not Understand The Jpa Annotations Of The Employee.
+It Only Exists With The "r2dbc" Profile; The Schema Is Still Created By Hibernate.*/
+@Repository
+@Profile("r2dbc")
+public class ReactiveEmployeeRepository {
+
+    /*The Number Of Ids Reserved By One Call Of The 'employees_seq' Sequence. It Is The allocationSize Of The Employee Id, So The Ids Handed Out
+    Here Never Collide With The Ids Hibernate Reserves From The Same Sequence.*/
+    static final int ID_ALLOCATION_SIZE = Employee.ID_ALLOCATION_SIZE;
+
+    //The Employees Of One Multi-Row Insert, The Same Number As The Jdbc Batch Size Of Hibernate.
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    private static final String COLUMNS = "id, first_name, last_name, email, version";
+
+    private final DatabaseClient databaseClient;
+
+    private final TransactionalOperator transactionalOperator;
+
+    private final String nextIdBlockSql;
+
+    private final AtomicReference<IdBlock> idBlock = new AtomicReference<>(IdBlock.EMPTY);
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient, TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.nextIdBlockSql = nextIdBlockSql(databaseClient.getConnectionFactory().getMetadata().getName());
+    }
+
+    /*This Method Inserts A New Employee With The Next Free Id And Version 0 And Returns A Copy Of It With These Values. A Duplicate Email Is
+    Rejected By The Unique Index With A DataIntegrityViolationException.*/
+    public Mono<Employee> insert(Employee employee) {
+        return nextId().flatMap(id -> insertRows(List.of(withNewId(employee, id))).single());
+    }
+
+    /*This Method Inserts All Employees In One Transaction, With One Multi-Row Insert Statement Per 50 Employees. The Ids Are Reserved Before The
+    Transaction Starts, Because On Mysql They Are Taken From A Table That Must Not Stay Locked Until The Inserts Are Committed.*/
+    public Flux<Employee> insertAll(List<Employee> employees) {
+        return Flux.fromIterable(employees)
+                .concatMap(employee -> nextId().map(id -> withNewId(employee, id)))
+                .buffer(INSERT_BATCH_SIZE)
+                .collectList()
+                .flatMapMany(batches -> Flux.fromIterable(batches).concatMap(this::insertRows).as(transactionalOperator::transactional));
+    }
+
+    public Mono<Employee> findById(long id) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::employee)
+                .one();
+    }
+
+    public Flux<Employee> findAll() {
+        return databaseClient.sql("select " + COLUMNS + " from employees")
+                .map(ReactiveEmployeeRepository::employee)
+                .all();
+    }
+
+    /*This Method Returns At Most 'limit' Employees Whose Id Is Greater Than The Given Id, Ordered By Id (Keyset Pagination).*/
+    public Flux<Employee> findByIdGreaterThanOrderByIdAsc(long id, int limit) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where id > :id order by id limit :limit")
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::employee)
+                .all();
+    }
+
+    /*This Method Searches For The Employee With The Given Email, Using The Unique Index On The Email Column.*/
+    public Mono<Employee> findByEmail(String email) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where email = :email")
+                .bind("email", email)
+                .map(ReactiveEmployeeRepository::employee)
+                .one();
+    }
+
+    /*This Method Searches For The Employees With The Given First Name And Last Name, Like The Jpql And Native Queries Of The EmployeeRepository.*/
+    public Flux<Employee> findByFirstNameAndLastName(String firstName, String lastName) {
+        return databaseClient.sql("select " + COLUMNS + " from employees where first_name = :firstName and last_name = :lastName")
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .map(ReactiveEmployeeRepository::employee)
+                .all();
+    }
+
+    /*This Method Returns Only The Id, First Name And Last Name Of The Employees With The Given First Name And Last Name, Which Are Read From The
+    Composite Name Index Alone.*/
+    public Flux<EmployeeNameView> findNamesByFirstNameAndLastName(String firstName, String lastName) {
+        return databaseClient.sql("select id, first_name, last_name from employees where first_name = :firstName and last_name = :lastName")
+                .bind("firstName", firstName)
+                .bind("lastName", lastName)
+                .map(ReactiveEmployeeRepository::nameView)
+                .all();
+    }
+
+    /*This Method Returns The Id, First Name And Last Name Of All Employees With The Given Last Name, Ordered By First Name.*/
+    public Flux<EmployeeNameView> findNamesByLastNameOrderByFirstNameAsc(String lastName) {
+        return databaseClient.sql("select id, first_name, last_name from employees where last_name = :lastName order by first_name")
+                .bind("lastName", lastName)
+                .map(ReactiveEmployeeRepository::nameView)
+                .all();
+    }
+
+    public Mono<Long> findVersionById(long id) {
+        return databaseClient.sql("select version from employees where id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    /*This Method Changes The First Name, Last Name And Email Of The Employee And Increases Its Version, But Only If The Row Still Has The Version
+    Of The Given Employee. It Returns The Number Of Changed Rows, Which Is 0 If The Employee Was Changed Or Deleted In The Meantime.*/
+    public Mono<Long> update(Employee employee) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("update employees set first_name = :firstName, last_name = :lastName, email = :email, "
+                        + "version = version + 1 where id = :id and version = :version")
+                .bind("id", employee.getId())
+                .bind("version", employee.getVersion());
+        spec = bind(spec, "firstName", employee.getFirstName());
+        spec = bind(spec, "lastName", employee.getLastName());
+        spec = bind(spec, "email", employee.getEmail());
+        return spec.fetch().rowsUpdated();
+    }
+
+    /*This Method Changes The First Name, Last Name And Email Of The Employee And Increases Its Version Whatever The Version Is, And Returns The New
+    Version, Which Is Read In The Same Transaction Because An Update Does Not Return It. It Completes Empty If No Such Employee Exists.*/
+    public Mono<Long> overwrite(long id, Employee employee) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("update employees set first_name = :firstName, last_name = :lastName, email = :email, "
+                        + "version = version + 1 where id = :id")
+                .bind("id", id);
+        spec = bind(spec, "firstName", employee.getFirstName());
+        spec = bind(spec, "lastName", employee.getLastName());
+        spec = bind(spec, "email", employee.getEmail());
+        return spec.fetch().rowsUpdated()
+                .flatMap(updatedRows -> updatedRows == 0 ? Mono.<Long>empty() : findVersionById(id))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Long> deleteById(long id) {
+        return databaseClient.sql("delete from employees where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /*This Method Deletes All Employees With The Given Ids With One Statement And Returns The Number Of Deleted Rows. The List Of Ids Is Expanded
+    Into One Parameter Per Id.*/
+    public Mono<Long> deleteAllById(List<Long> ids) {
+        return databaseClient.sql("delete from employees where id in (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Flux<Employee> insertRows(List<Employee> employees) {
+        StringBuilder sql = new StringBuilder("insert into employees (" + COLUMNS + ") values ");
+        for (int i = 0; i < employees.size(); i++) {
+            sql.append(i > 0 ? ", " : "").append("(:id").append(i).append(", :firstName").append(i).append(", :lastName").append(i)
+                    .append(", :email").append(i).append(", 0)");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            spec = spec.bind("id" + i, employee.getId());
+            spec = bind(spec, "firstName" + i, employee.getFirstName());
+            spec = bind(spec, "lastName" + i, employee.getLastName());
+            spec = bind(spec, "email" + i, employee.getEmail());
+        }
+        return spec.fetch().rowsUpdated().thenMany(Flux.fromIterable(employees));
+    }
+
+    /*This Method Hands Out The Ids Of The Current Block And Reserves The Next Block From The Sequence When It Is Used Up, Like The Pooled
+    Optimizer Of Hibernate: A Sequence Value V Reserves The Ids V - 49 To V. When Two Blocks Are Reserved At The Same Time, Both Are Used.
+    The Very First Value Of A New Sequence (1) Is Skipped, Because Hibernate Treats It As The Start Of A Larger First Block.*/
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = idBlock.get().next();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+            return nextIdBlockEnd()
+                    .flatMap(end -> end < ID_ALLOCATION_SIZE ? nextIdBlockEnd() : Mono.just(end))
+                    .map(end -> {
+                        IdBlock block = new IdBlock(end - ID_ALLOCATION_SIZE + 1, end);
+                        long first = block.next();
+                        idBlock.set(block);
+                        return first;
+                    });
+        });
+    }
+
+    /*Reads The Next Value Of The 'employees_seq' Sequence On Its Own Connection, Outside Of Any Transaction. On Mysql, Which Has No Sequences,
+    Hibernate Keeps The Value In The 'next_val' Column Of A Table; It Is Increased With LAST_INSERT_ID, And The Value Before The Increase Is Then
+    Read With A Second Statement On The Same Connection. The Update Returns No Rows, So Only Its Row Count Is Consumed.*/
+    private Mono<Long> nextIdBlockEnd() {
+        return databaseClient.inConnection(connection -> {
+            if (!nextIdBlockSql.startsWith("update")) {
+                return readLong(connection, nextIdBlockSql);
+            }
+            return Flux.from(connection.createStatement(nextIdBlockSql).execute())
+                    .concatMap(Result::getRowsUpdated)
+                    .then(Mono.defer(() -> readLong(connection, "select last_insert_id() - " + ID_ALLOCATION_SIZE)));
+        });
+    }
+
+    private static Mono<Long> readLong(Connection connection, String sql) {
+        return Flux.from(connection.createStatement(sql).execute())
+                .concatMap(result -> result.map(row -> ((Number) row.get(0)).longValue()))
+                .last();
+    }
+
+    private static String nextIdBlockSql(String databaseName) {
+        return switch (databaseName.toLowerCase(Locale.ROOT)) {
+            case "h2" -> "select next value for employees_seq";
+            case "mysql", "mariadb" -> "update employees_seq set next_val = last_insert_id(next_val + " + ID_ALLOCATION_SIZE + ")";
+            default -> throw new IllegalStateException("The employee ids cannot be reserved on " + databaseName + ", only H2 and MySQL are supported");
+        };
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, String.class);
+    }
+
+    private static Employee withNewId(Employee employee, long id) {
+        return employee.toBuilder().id(id).version(0).build();
+    }
+
+    private static Employee employee(Readable row) {
+        return Employee.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static EmployeeNameView nameView(Readable row) {
+        return new NameView(row.get("id", Long.class), row.get("first_name", String.class), row.get("last_name", String.class));
+    }
+
+    private record NameView(Long getId, String getFirstName, String getLastName) implements EmployeeNameView {
+    }
+
+    //A Block Of Reserved Ids. next() Returns 0 When All Ids Of The Block Have Been Handed Out.
+    private record IdBlock(AtomicLong nextId, long end) {
+
+        static final IdBlock EMPTY = new IdBlock(1, 0);
+
+        IdBlock(long first, long end) {
+            this(new AtomicLong(first), end);
+        }
+
+        long next() {
+            long id = nextId.getAndIncrement();
+            return id <= end ? id : 0;
+        }
+    }
+}
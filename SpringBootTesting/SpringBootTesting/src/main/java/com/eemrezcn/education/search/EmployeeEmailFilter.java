@@ -0,0 +1,266 @@
+package com.eemrezcn.education.search;
+
+import com.eemrezcn.education.model.EmployeeEmail;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/*This Filter Remembers The Emails Of All Employees In A Bloom Filter: A Bit Array In Which Every Email Sets A Few Bits Chosen By Its Hashes. If One
+Of The Bits Of An Email Is Not Set, No Employee Has That Email And The Database Is Not Asked. If All Of Them Are Set, The Email Probably Exists, But
+About One Email In A Hundred Finds Its Bits Set By Other Emails, So The Database Is Asked. The Unique Index On The Email Column Still Decides Whether
+An Email Is Taken; The Filter Only Saves The Lookups Of Emails That Do Not Exist, Which Are Nearly All Emails Of New Employees.
+
+The Filter Is Filled From The Database In The Background Once The Application Is Ready, Page By Page, And Every Saved Or Updated Email Is Added By The Employee Service.
+Bits Can Not Be Removed, So The Emails Of Deleted Employees Stay Until The Filter Is Built Again. That Happens In The Background Once As Many Emails
+Were Added Or Removed As The Filter Has Room For, And Each New Filter Has Room For Twice As Many Employees As There Are. Until The First Fill Has
+Finished, Every Email Is Looked Up In The Database.
+
+Every Lookup Is Counted In The "ems.employee.email.filter.lookups" Counter: result=skipped When The Database Was Not Asked, result=found When It Knew
+The Email And result=false_positive When It Did Not. "ems.employee.email.filter.false.positive.ratio" Is The Share Of The Unknown Emails That Were
+Still Looked Up.*/
+@Component
+public class EmployeeEmailFilter implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String LOOKUPS_METRIC = "ems.employee.email.filter.lookups";
+
+    //The Number Of Emails Read From The Database In One Query While The Filter Is Filled.
+    static final int LOAD_PAGE_SIZE = 1000;
+
+    //The Smallest Number Of Emails A Filter Has Room For, So A Small Table Does Not Need A New Filter After A Few Saves.
+    static final long MIN_CAPACITY = 1024;
+
+    //The Share Of Unknown Emails That A Filter Holding As Many Emails As It Has Room For Still Reports As Possibly Existing.
+    static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeEmailFilter.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
+    //The Filter In Use, Which Is Null Until The First Fill Has Finished.
+    private volatile BloomFilter current;
+
+    //The Filter That Is Being Filled, Which Also Receives Every Added Email, So None Is Missing When It Replaces The Current One.
+    private volatile BloomFilter next;
+
+    private final Counter skippedLookups;
+
+    private final Counter foundLookups;
+
+    private final Counter falsePositiveLookups;
+
+    public EmployeeEmailFilter(EmployeeRepository employeeRepository, MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.skippedLookups = lookupCounter(meterRegistry, "skipped", "Email lookups the database was not asked for, because no employee has the email");
+        this.foundLookups = lookupCounter(meterRegistry, "found", "Email lookups that found an employee in the database");
+        this.falsePositiveLookups = lookupCounter(meterRegistry, "false_positive", "Email lookups that found no employee in the database");
+        Gauge.builder("ems.employee.email.filter.false.positive.ratio", this, EmployeeEmailFilter::falsePositiveRatio)
+                .description("The share of lookups of unknown emails that still asked the database")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder(LOOKUPS_METRIC).tag("result", result).description(description).register(meterRegistry);
+    }
+
+    /*The Filter Is Filled On Another Thread, So The Application Starts Serving Requests Without Waiting For The Scan Of The 'employees' Table.*/
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        rebuildInBackground();
+    }
+
+    /*This Method Builds A New Filter From The Emails Of All Employees, Read In Pages Ordered By Id, And Then Replaces The Current One. Emails Added
+    Meanwhile Go Into Both Filters; The Database Commits Them Before They Are Added, So An Email Is Either Read By The Scan Or Added To The New Filter.*/
+    public void rebuild() {
+        rebuilding.lock();
+        try {
+            BloomFilter filter = new BloomFilter(Math.max(MIN_CAPACITY, 2 * employeeRepository.count()), FALSE_POSITIVE_PROBABILITY);
+            next = filter;
+            long after = 0;
+            List<EmployeeEmail> page;
+            do {
+                page = employeeRepository.findEmailsByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(LOAD_PAGE_SIZE));
+                page.forEach(employee -> filter.add(key(employee.email())));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).id();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            current = filter;
+            next = null;
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    /*This Method Looks The Email Up In The Database Only If The Filter Does Not Rule It Out, And Otherwise Returns An Empty Optional At Once.*/
+    public <T> Optional<T> lookup(String email, Function<String, Optional<T>> database) {
+        BloomFilter filter = current;
+        if (filter != null && !filter.mightContain(key(email))) {
+            skippedLookups.increment();
+            return Optional.empty();
+        }
+        Optional<T> result = database.apply(email);
+        if (filter != null) {
+            (result.isPresent() ? foundLookups : falsePositiveLookups).increment();
+        }
+        return result;
+    }
+
+    /*This Method Does The Same As The Method Above For A Non-Blocking Lookup, Which Is Only Subscribed To If The Filter Does Not Rule The Email Out.*/
+    public <T> Mono<T> lookupReactive(String email, Function<String, Mono<T>> database) {
+        return Mono.defer(() -> {
+            BloomFilter filter = current;
+            if (filter != null && !filter.mightContain(key(email))) {
+                skippedLookups.increment();
+                return Mono.empty();
+            }
+            return database.apply(email).doOnSuccess(found -> {
+                if (filter != null) {
+                    (found != null ? foundLookups : falsePositiveLookups).increment();
+                }
+            });
+        });
+    }
+
+    /*This Method Adds The Email Of A Saved Or Updated Employee. The Filter Being Filled Is Read First: Once It Is Null, It Has Already Become The
+    Current One.*/
+    public void add(String email) {
+        BloomFilter building = next;
+        BloomFilter filter = current;
+        if (building != null) {
+            building.add(key(email));
+        }
+        if (filter != null && filter != building) {
+            filter.add(key(email));
+            rebuildIfFull(filter);
+        }
+    }
+
+    /*This Method Records That The Given Number Of Employees Were Deleted. Their Emails Stay In The Filter Until It Is Built Again, So They Only
+    Count Towards The Room Of The Filter.*/
+    public void removed(long count) {
+        BloomFilter filter = current;
+        if (filter != null && count > 0) {
+            filter.changes.addAndGet(count);
+            rebuildIfFull(filter);
+        }
+    }
+
+    private void rebuildIfFull(BloomFilter filter) {
+        if (filter.changes.get() > filter.capacity && next == null) {
+            rebuildInBackground();
+        }
+    }
+
+    //At Most One Rebuild Is Scheduled At A Time.
+    private void rebuildInBackground() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::rebuild)
+                    .whenComplete((result, exception) -> {
+                        rebuildScheduled.set(false);
+                        if (exception != null) {
+                            LOGGER.warn("Rebuilding the employee email filter failed", exception);
+                        }
+                    });
+        }
+    }
+
+    //Before The First Fill Nothing Is Ruled Out, So There Are No Unknown Emails To Count And The Ratio Is 0.
+    private double falsePositiveRatio() {
+        double falsePositives = falsePositiveLookups.count();
+        double unknownEmails = falsePositives + skippedLookups.count();
+        return unknownEmails == 0 ? 0.0 : falsePositives / unknownEmails;
+    }
+
+    //The Unique Index On Mysql Compares Emails Case-Insensitively, So The Filter Does As Well.
+    private static String key(String email) {
+        return email == null ? "" : email.toLowerCase(Locale.ROOT);
+    }
+
+    /*A Bloom Filter With Room For 'capacity' Emails. Its Size Follows From The Usual Formulas: -n ln(p) / ln(2)^2 Bits For n Emails And A False Positive
+    Probability p, And (Bits / n) ln(2) Hashes. The Hashes Are Derived From Two 64-Bit Hashes Of The Email, And Bits Are Set Without A Lock.*/
+    private static final class BloomFilter {
+
+        private final long capacity;
+
+        private final AtomicLongArray words;
+
+        private final long bitCount;
+
+        private final int hashCount;
+
+        //The Emails Added Since The Filter Was Created, Including The Ones Read From The Database, And The Deleted Ones.
+        private final AtomicLong changes = new AtomicLong();
+
+        BloomFilter(long capacity, double falsePositiveProbability) {
+            this.capacity = capacity;
+            long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            this.words = new AtomicLongArray((int) ((bits + Long.SIZE - 1) / Long.SIZE));
+            this.bitCount = (long) words.length() * Long.SIZE;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        }
+
+        void add(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                words.accumulateAndGet((int) (bit / Long.SIZE), 1L << bit, (word, mask) -> word | mask);
+            }
+            changes.incrementAndGet();
+        }
+
+        boolean mightContain(String key) {
+            long hash1 = hash(key);
+            long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit / Long.SIZE)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        //The 64-Bit Fnv-1a Hash Of The Characters, Mixed So That Similar Emails Get Unrelated Bits.
+        private static long hash(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        //The Final Step Of The Murmur3 Hash, Which Spreads Every Input Bit Over All Output Bits.
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,450 @@
+package com.eemrezcn.education.search;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*This Index Keeps The First Name, Last Name And Email Of Every Employee In Memory, So The Type-Ahead Search Never Scans The 'employees' Table.
+Every Word Of The Names And Every Email Is Kept In A Sorted Map, Which Finds All Words Starting With A Prefix Directly, And Every Name Word Is Also
+Listed Under Its Trigrams (Its Groups Of Three Letters), Which Finds Similar Words For Queries With A Typo.
+
+A Query Is Split Into Words, And An Employee Is Found When Every Word Of The Query Matches One Of Its Names Or Its Email. An Exact Match Of A Word
+Counts 3 Points, A Prefix Match 2 And A Similar Name 1; The Employees With The Most Points Come First. Only The Employees Found For The Most Selective
+Query Word Are Scored, At Most 200 Of Them, So A Search Takes The Same Short Time However Many Employees There Are. The Exact Matches Of That Word
+Are Collected First And Its Prefix Matches In Alphabetical Order; Only When Every Query Word Matches More Employees Than That Can A Better Match
+Be Left Out, And Typing One More Letter Narrows The Query Again.
+
+The Index Is Filled From The Database In The Background Once The Application Is Ready, Page By Page, And Is Kept Up To Date By The Employee Service
+After Every Save, Update And Delete. Until The Fill Has Finished, Searches Read The Employees From The Database Instead. Changes Are Applied One At
+A Time, While Searches Run Without Any Lock. The Ids Of Removed Employees Are Remembered For A While, So A Save Or Update That Reaches The Index
+After The Delete Of The Same Employee Does Not Bring It Back.*/
+@Component
+public class EmployeeSearchIndex implements ApplicationListener<ApplicationReadyEvent> {
+
+    //The Number Of Employees Read From The Database In One Query While The Index Is Filled.
+    static final int LOAD_PAGE_SIZE = 1000;
+
+    //The Largest Number Of Employees That Are Scored For One Query.
+    static final int MAX_CANDIDATES = 200;
+
+    //The Least Similarity (Dice Coefficient Of The Trigrams) Between A Query Word And A Name Word That Still Counts As A Match.
+    static final double MIN_SIMILARITY = 0.4;
+
+    //How Long The Id Of A Removed Employee Is Remembered. A Save Or Update Reaches The Index Far Sooner After Its Commit, And Ids Are Never Reused.
+    static final long TOMBSTONE_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private static final int EXACT_MATCH = 3;
+
+    private static final int PREFIX_MATCH = 2;
+
+    private static final int SIMILAR_MATCH = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReentrantLock changes = new ReentrantLock();
+
+    private final ReentrantLock rebuilding = new ReentrantLock();
+
+    //Whether The Index Holds All Employees, Which Is False Until The First Fill And During Every Later One Has Finished.
+    private volatile boolean ready;
+
+    //The Ids Of The Removed Employees With The Time Of Their Removal, Oldest First. It Is Only Used While The Changes Lock Is Held.
+    private final LinkedHashMap<Long, Long> tombstones = new LinkedHashMap<>();
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+
+    //Every Name Word With The Employees Having It, By Id, So A Search Reaches Their Documents Without Another Lookup.
+    private final ConcurrentNavigableMap<String, Map<Long, Document>> nameWords = new ConcurrentSkipListMap<>();
+
+    //Emails Are Unique, So Every Email Belongs To Exactly One Employee.
+    private final ConcurrentNavigableMap<String, Document> emails = new ConcurrentSkipListMap<>();
+
+    private final Map<String, Set<String>> trigrams = new ConcurrentHashMap<>();
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /*The Index Is Filled On Another Thread, So The Application Starts Serving Requests Without Waiting For The Scan Of The 'employees' Table.*/
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        CompletableFuture.runAsync(this::rebuild)
+                .whenComplete((result, exception) -> {
+                    if (exception != null) {
+                        LOGGER.warn("Filling the employee search index failed", exception);
+                    }
+                });
+    }
+
+    /*This Method Empties The Index And Fills It Again With All Employees Of The Database, Read In Pages Ordered By Id. The Changes Lock Is Only Held
+    While A Page Is Added, So Saves, Updates And Deletes Do Not Wait For The Whole Scan; A Page Never Replaces A Newer Copy Of An Employee Or Brings
+    Back A Removed One. Searches Read The Database Until The Rebuild Has Finished.*/
+    public void rebuild() {
+        rebuilding.lock();
+        try {
+            changes.lock();
+            try {
+                ready = false;
+                documents.clear();
+                nameWords.clear();
+                emails.clear();
+                trigrams.clear();
+            } finally {
+                changes.unlock();
+            }
+            long after = 0;
+            List<Employee> page;
+            do {
+                page = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(LOAD_PAGE_SIZE));
+                changes.lock();
+                try {
+                    page.forEach(this::putIfNewer);
+                } finally {
+                    changes.unlock();
+                }
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            ready = true;
+        } finally {
+            rebuilding.unlock();
+        }
+    }
+
+    /*This Method Adds A Saved Employee Or Replaces The Indexed Copy Of An Updated One. A Copy With A Lower Version Than The Indexed One Is Ignored,
+    Because Two Updates Of The Same Employee Can Reach The Index In The Opposite Order Of Their Commits, And So Is A Copy Of A Removed Employee.*/
+    public void put(Employee employee) {
+        if (employee.getId() == null) {
+            return;
+        }
+        changes.lock();
+        try {
+            putIfNewer(employee);
+        } finally {
+            changes.unlock();
+        }
+    }
+
+    /*This Method Removes The Employee And Remembers Its Id, So A Copy That Was Saved Before The Delete But Reaches The Index Later Is Ignored.*/
+    public void remove(long id) {
+        changes.lock();
+        try {
+            long now = System.nanoTime();
+            forgetExpiredTombstones(now);
+            tombstones.put(id, now);
+            Document current = documents.get(id);
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            changes.unlock();
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /*This Method Returns At Most 'limit' Employees Matching Every Word Of The Query, Best Matches First, And Among Equal Matches Ordered By Last Name,
+    First Name And Id. The Returned Employees Are New Objects Built From The Index, So The Database Is Not Queried Once The Index Is Ready.*/
+    public List<Employee> search(String query, int limit) {
+        List<QueryWord> queryWords = words(query).stream().map(QueryWord::new).toList();
+        if (queryWords.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (!ready) {
+            return searchDatabase(queryWords, limit);
+        }
+
+        //The Query Word With The Fewest Matching Employees Decides Which Employees Are Scored.
+        Set<Document> candidates = null;
+        for (QueryWord queryWord : queryWords) {
+            Set<Document> matches = candidates(queryWord);
+            if (candidates == null || matches.size() < candidates.size()) {
+                candidates = matches;
+            }
+        }
+        return best(candidates, queryWords, limit);
+    }
+
+    /*Until The Index Is Filled, The Employees Whose Last Name Or Email Starts With One Of The Query Words Are Read From The Database Through Its
+    Indexes, At Most MAX_CANDIDATES Of Them, And Scored And Ranked Like Indexed Ones, So The Other Words May Still Match Their First Names. An
+    Employee Is Only Found Once One Of The Words Matches The Beginning Of Its Last Name Or Email, And Similar Names Only Among These Employees.*/
+    private List<Employee> searchDatabase(List<QueryWord> queryWords, int limit) {
+        List<String> words = queryWords.stream().map(QueryWord::word).distinct().toList();
+        List<Document> candidates = employeeRepository.findByLastNameOrEmailStartingWith(words, MAX_CANDIDATES).stream()
+                .map(Document::of)
+                .toList();
+        return best(candidates, queryWords, limit);
+    }
+
+    //Only The Best 'limit' Matches Are Kept, In A Heap Whose Head Is The Worst Of Them, So The Candidates Are Never Sorted As A Whole.
+    private static List<Employee> best(Collection<Document> candidates, List<QueryWord> queryWords, int limit) {
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Match.RANKING.reversed());
+        for (Document document : candidates) {
+            int score = document.score(queryWords);
+            //A Match With Fewer Points Than The Worst Of The Full Heap Can Never Be Among The Best.
+            if (score > 0 && (best.size() < limit || score >= best.peek().score())) {
+                best.add(new Match(document, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+        return best.stream()
+                .sorted(Match.RANKING)
+                .map(match -> match.document().toEmployee())
+                .toList();
+    }
+
+    /*Collects The Employees With A Name Word Or Email Starting With The Query Word, Then The Employees With A Similar Name Word, Up To MAX_CANDIDATES.
+    The Documents Are Compared By Identity, Because The Index Holds Exactly One Document Per Employee.*/
+    private Set<Document> candidates(QueryWord queryWord) {
+        Set<Document> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        String end = queryWord.word() + Character.MAX_VALUE;
+        for (Map<Long, Document> employees : nameWords.subMap(queryWord.word(), end).values()) {
+            if (addAll(candidates, employees.values())) {
+                return candidates;
+            }
+        }
+        if (addAll(candidates, emails.subMap(queryWord.word(), end).values())) {
+            return candidates;
+        }
+        for (String similarWord : queryWord.similarWords()) {
+            Map<Long, Document> employees = nameWords.get(similarWord);
+            if (employees != null && addAll(candidates, employees.values())) {
+                return candidates;
+            }
+        }
+        return candidates;
+    }
+
+    //Adds The Documents Until There Are MAX_CANDIDATES Candidates And Returns Whether That Limit Was Reached.
+    private static boolean addAll(Set<Document> candidates, Collection<Document> documents) {
+        for (Document document : documents) {
+            candidates.add(document);
+            if (candidates.size() >= MAX_CANDIDATES) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*Counts For Every Name Word How Many Trigrams It Shares With The Query Word, And Returns The Words That Are Similar Enough. Only Query Words
+    Of At Least Three Letters And Nothing Else Are Compared, Because Parts Of An Email With Dots Or Digits Are Not Misspelled Names.*/
+    private Set<String> similarNameWords(String queryWord) {
+        if (queryWord.length() < 3 || !queryWord.chars().allMatch(Character::isLetter)) {
+            return Set.of();
+        }
+        List<String> queryTrigrams = trigrams(queryWord);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : new HashSet<>(queryTrigrams)) {
+            for (String word : trigrams.getOrDefault(trigram, Set.of())) {
+                sharedTrigrams.merge(word, 1, Integer::sum);
+            }
+        }
+        Set<String> similarWords = new HashSet<>();
+        sharedTrigrams.forEach((word, shared) -> {
+            //A Word Has As Many Trigrams As Letters.
+            if (2.0 * shared / (queryTrigrams.size() + word.length()) >= MIN_SIMILARITY) {
+                similarWords.add(word);
+            }
+        });
+        return similarWords;
+    }
+
+    private void putIfNewer(Employee employee) {
+        if (tombstones.containsKey(employee.getId())) {
+            return;
+        }
+        Document current = documents.get(employee.getId());
+        if (current != null) {
+            if (current.version() > employee.getVersion()) {
+                return;
+            }
+            remove(current);
+        }
+        add(employee);
+    }
+
+    //The Tombstones Are Kept In The Order Of Their Removal, So The Expired Ones Are At The Head.
+    private void forgetExpiredTombstones(long now) {
+        Iterator<Long> removedAt = tombstones.values().iterator();
+        while (removedAt.hasNext() && now - removedAt.next() > TOMBSTONE_NANOS) {
+            removedAt.remove();
+        }
+    }
+
+    private void add(Employee employee) {
+        Document document = Document.of(employee);
+        documents.put(document.id(), document);
+        for (String word : document.nameWords()) {
+            nameWords.computeIfAbsent(word, newWord -> {
+                trigrams(newWord).forEach(trigram -> trigrams.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(newWord));
+                return new ConcurrentHashMap<>();
+            }).put(document.id(), document);
+        }
+        if (!document.emailWord().isEmpty()) {
+            emails.put(document.emailWord(), document);
+        }
+    }
+
+    private void remove(Document document) {
+        documents.remove(document.id());
+        for (String word : document.nameWords()) {
+            Map<Long, Document> employees = nameWords.get(word);
+            if (employees != null && employees.remove(document.id()) != null && employees.isEmpty()) {
+                nameWords.remove(word);
+                for (String trigram : trigrams(word)) {
+                    Set<String> words = trigrams.get(trigram);
+                    if (words != null && words.remove(word) && words.isEmpty()) {
+                        trigrams.remove(trigram);
+                    }
+                }
+            }
+        }
+        emails.remove(document.emailWord(), document);
+    }
+
+    //The Lower-Case Words Of A Name Or Query, Separated By Whitespace.
+    static List<String> words(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).trim().split("\\s+")).filter(word -> !word.isEmpty()).toList();
+    }
+
+    /*The Trigrams Of A Word Are Its Groups Of Three Neighbouring Letters, With '$' Marking The Start And The End, So "ozcan" Has The Trigrams
+    "$oz", "ozc", "zca", "can" And "an$". A Word Of n Letters Has n Trigrams; A Typo Changes At Most Three Of Them.*/
+    static List<String> trigrams(String word) {
+        String marked = "$" + word + "$";
+        List<String> trigrams = new ArrayList<>(word.length());
+        for (int i = 0; i + 3 <= marked.length(); i++) {
+            trigrams.add(marked.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    //A Query Word With The Name Words That Are Similar To It, Which Are Only Looked Up When They Are Needed And At Most Once Per Search.
+    private final class QueryWord {
+
+        private final String word;
+
+        private Set<String> similarWords;
+
+        QueryWord(String word) {
+            this.word = word;
+        }
+
+        String word() {
+            return word;
+        }
+
+        Set<String> similarWords() {
+            if (similarWords == null) {
+                similarWords = similarNameWords(word);
+            }
+            return similarWords;
+        }
+
+        /*Returns The Points Of The Best Match Of This Query Word With One Of The Name Words Or The Email, Or 0 If None Matches. The Email Is Only
+        Read When No Name Word Matches, Because A Whole Email Contains An '@' And Never Starts A Name Word.*/
+        int score(List<String> nameWords, String emailWord) {
+            int score = 0;
+            for (String nameWord : nameWords) {
+                if (nameWord.equals(word)) {
+                    return EXACT_MATCH;
+                }
+                if (nameWord.startsWith(word)) {
+                    score = PREFIX_MATCH;
+                }
+            }
+            if (score == 0 && emailWord.startsWith(word)) {
+                return emailWord.equals(word) ? EXACT_MATCH : PREFIX_MATCH;
+            }
+            if (score == 0) {
+                for (String nameWord : nameWords) {
+                    if (similarWords().contains(nameWord)) {
+                        return SIMILAR_MATCH;
+                    }
+                }
+            }
+            return score;
+        }
+    }
+
+    /*The Indexed Copy Of One Employee, With Its Lower-Case Name Words And Email, And Its Lower-Case Last And First Name As One Key For The Ranking,
+    Which Is Compared Far More Often Than It Is Built.*/
+    private record Document(long id, String firstName, String lastName, String email, long version, List<String> nameWords, String emailWord,
+                            String sortName) {
+
+        static Document of(Employee employee) {
+            List<String> nameWords = new ArrayList<>(words(employee.getFirstName()));
+            words(employee.getLastName()).stream().filter(word -> !nameWords.contains(word)).forEach(nameWords::add);
+            String emailWord = employee.getEmail() == null ? "" : employee.getEmail().toLowerCase(Locale.ROOT);
+            String sortName = (Objects.toString(employee.getLastName(), "") + '\u0000' + Objects.toString(employee.getFirstName(), ""))
+                    .toLowerCase(Locale.ROOT);
+            return new Document(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(), employee.getVersion(),
+                    List.copyOf(nameWords), emailWord, sortName);
+        }
+
+        //The Sum Of The Points Of All Query Words, Or 0 If One Of Them Does Not Match.
+        int score(List<QueryWord> queryWords) {
+            int total = 0;
+            for (QueryWord queryWord : queryWords) {
+                int score = queryWord.score(nameWords, emailWord);
+                if (score == 0) {
+                    return 0;
+                }
+                total += score;
+            }
+            return total;
+        }
+
+        Employee toEmployee() {
+            return Employee.builder().id(id).firstName(firstName).lastName(lastName).email(email).version(version).build();
+        }
+    }
+
+    private record Match(Document document, int score) {
+
+        static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score).reversed()
+                .thenComparing(match -> match.document().sortName())
+                .thenComparingLong(match -> match.document().id());
+    }
+}
@@ -11,15 +11,42 @@ public interface EmployeeService
     /*It Is Used To Save An Employee Object To The Database. It Saves The Provided Employee Object As A Record And Returns The Saved Employee Object.*/
     Employee saveEmployee(Employee employee);
 
+    /*It Is Used To Save Many Employee Objects To The Database At Once. The Inserts Are Sent In Jdbc Batches And Either All Employees Are Saved Or None.*/
+    List<Employee> saveEmployees(List<Employee> employees);
+
     /*It Is Used To Retrieve All Employee Objects From The Database. It Returns All Employees As A List.*/
     List<Employee> getAllEmployees();
 
+    /*It Is Used To Retrieve One Page Of Employee Objects From The Database. It Returns At Most 'limit' Employees Whose Id Is Greater Than 'after', Ordered By Id.*/
+    List<Employee> getEmployeesAfter(long after, int limit);
+
     /*It Is Used To Retrieve An Employee Object From The Database With The Specified Id. It Returns The Employee Object With The Given Id Inside An Optional<employee>.*/
     Optional<Employee> getEmployeeById(Long id);
 
-    /*It Is Used To Save An Updated Employee Object To The Database. It Saves The Provided Updated Employee Object As A Record And Returns The Saved Employee Object.*/
+    /*It Is Used To Retrieve Only The Version Of The Employee With The Specified Id. It Returns An Empty Optional If No Such Employee Exists.*/
+    Optional<Long> getEmployeeVersion(long id);
+
+    /*It Is Used To Find Employees By The Beginning Of Their First Name, Last Name Or Email, Or By A Similar Name. It Returns At Most 'limit'
+    Employees Matching Every Word Of The Query, Best Matches First, From An In-Memory Index Instead Of The Database.*/
+    List<Employee> searchEmployees(String query, int limit);
+
+    /*It Is Used To Save An Updated Employee Object To The Database. It Saves The Provided Updated Employee Object As A Record And Returns The Saved Employee Object.
+    If The Employee Was Changed Since The Provided Object Was Read, An OptimisticLockingFailureException Is Thrown.*/
     Employee updateEmployee(Employee updatedEmployee);
 
-    /*It Is Used To Delete An Employee Object From The Database With The Specified Id. It Deletes The Employee Object With The Given Id As A Parameter.*/
-    void deleteEmployee(long id);
+    /*It Is Used To Change The First Name, Last Name And Email Of The Employee With The Specified Id To Those Of The Provided Employee Object Without Loading
+    The Employee First. It Returns The Updated Employee, Or An Empty Optional If No Employee With The Specified Id Exists. If The Employee No Longer Has
+    The Specified Version, An OptimisticLockingFailureException Is Thrown.*/
+    Optional<Employee> updateEmployee(long id, long version, Employee updatedEmployee);
+
+    /*It Is Used To Change The First Name, Last Name And Email Of The Employee With The Specified Id Like The Method Above, But Whatever Its Version Is.
+    It Returns The Updated Employee With Its New Version, Or An Empty Optional If No Employee With The Specified Id Exists.*/
+    Optional<Employee> updateEmployee(long id, Employee updatedEmployee);
+
+    /*It Is Used To Delete An Employee Object From The Database With The Specified Id. It Returns False If No Employee With The Given Id Exists.*/
+    boolean deleteEmployee(long id);
+
+    /*It Is Used To Delete The Employee Objects With The Specified Ids From The Database At Once. It Returns The Number Of Deleted Employees;
+    Ids Of Employees That Do Not Exist Are Ignored.*/
+    int deleteEmployees(List<Long> ids);
 }
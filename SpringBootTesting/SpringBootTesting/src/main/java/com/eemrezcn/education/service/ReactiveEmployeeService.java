@@ -0,0 +1,61 @@
+package com.eemrezcn.education.service;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/*This Interface Is The Non-Blocking Counterpart Of The EmployeeService. Every Method Does The Same As The Method Of The Same Name There, But It
+Returns A Mono Or A Flux That Completes When The Database Has Answered, Instead Of Waiting For The Answer. It Is Only Available With The "r2dbc" Profile.*/
+public interface ReactiveEmployeeService
+{
+    /*It Is Used To Save An Employee Object To The Database. If An Employee With The Same Email Exists, It Fails With A ResourceNotFoundException.*/
+    Mono<Employee> saveEmployee(Employee employee);
+
+    /*It Is Used To Save Many Employee Objects To The Database At Once. Either All Employees Are Saved Or None.*/
+    Flux<Employee> saveEmployees(List<Employee> employees);
+
+    /*It Is Used To Retrieve All Employee Objects From The Database.*/
+    Flux<Employee> getAllEmployees();
+
+    /*It Is Used To Retrieve At Most 'limit' Employees Whose Id Is Greater Than 'after', Ordered By Id.*/
+    Flux<Employee> getEmployeesAfter(long after, int limit);
+
+    /*It Is Used To Retrieve The Employee With The Specified Id. It Completes Empty If No Such Employee Exists.*/
+    Mono<Employee> getEmployeeById(long id);
+
+    /*It Is Used To Retrieve Only The Version Of The Employee With The Specified Id. It Completes Empty If No Such Employee Exists.*/
+    Mono<Long> getEmployeeVersion(long id);
+
+    /*It Is Used To Retrieve The Employee With The Specified Email. It Completes Empty If No Such Employee Exists.*/
+    Mono<Employee> getEmployeeByEmail(String email);
+
+    /*It Is Used To Retrieve The Id, First Name And Last Name Of The Employees With The Specified First Name And Last Name.*/
+    Flux<EmployeeNameView> getEmployeeNames(String firstName, String lastName);
+
+    /*It Is Used To Retrieve The Id, First Name And Last Name Of The Employees With The Specified Last Name, Ordered By First Name.*/
+    Flux<EmployeeNameView> getEmployeeNamesByLastName(String lastName);
+
+    /*It Is Used To Find Employees By The Beginning Of Their First Name, Last Name Or Email, Or By A Similar Name, Best Matches First.*/
+    Flux<Employee> searchEmployees(String query, int limit);
+
+    /*It Is Used To Save An Updated Employee Object To The Database. If The Employee Was Changed Or Deleted Since The Provided Object Was Read,
+    It Fails With An OptimisticLockingFailureException.*/
+    Mono<Employee> updateEmployee(Employee updatedEmployee);
+
+    /*It Is Used To Change The First Name, Last Name And Email Of The Employee With The Specified Id If It Still Has The Specified Version. It Completes
+    Empty If No Employee With The Specified Id Exists, And With An OptimisticLockingFailureException If The Employee Has Another Version.*/
+    Mono<Employee> updateEmployee(long id, long version, Employee updatedEmployee);
+
+    /*It Is Used To Change The First Name, Last Name And Email Of The Employee With The Specified Id Whatever Its Version Is. It Emits The Updated
+    Employee With Its New Version, And Completes Empty If No Employee With The Specified Id Exists.*/
+    Mono<Employee> updateEmployee(long id, Employee updatedEmployee);
+
+    /*It Is Used To Delete The Employee With The Specified Id. It Emits False If No Employee With The Given Id Exists.*/
+    Mono<Boolean> deleteEmployee(long id);
+
+    /*It Is Used To Delete The Employees With The Specified Ids At Once. It Emits The Number Of Deleted Employees.*/
+    Mono<Long> deleteEmployees(List<Long> ids);
+}
@@ -3,52 +3,215 @@ package com.eemrezcn.education.service.impl;
 import com.eemrezcn.education.exception.ResourceNotFoundException;
 import com.eemrezcn.education.model.Employee;
 import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
 import com.eemrezcn.education.service.EmployeeService;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /*"This Code Represents A Spring Service Class Named 'employeeserviceimpl' That Implements The 'employeeservice' Interface."*/
 @Service
+@Profile("!r2dbc") //With The "r2dbc" Profile The R2dbcEmployeeServiceImpl Takes Its Place.
+/*This Annotation Records The Duration Of Every Public Method As The "ems.employee.service" Timer, Tagged With The Class And Method Name.*/
+@Timed("ems.employee.service")
 public class EmployeeServiceImpl implements EmployeeService {
 
     private EmployeeRepository employeeRepository;
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    //The In-Memory Index Of The Names And Emails, Which Is Updated After Every Successful Save, Update And Delete.
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    //The In-Memory Filter Of The Known Emails, Which Rules Out Most New Emails Without Asking The Database.
+    private EmployeeEmailFilter employeeEmailFilter;
+
+    /*Concurrent Lookups Of The Same Id Share One Query. Every Waiting Request Gets Its Own Copy Of The Employee, Because The Controller Changes
+    The Returned Employee Before Updating It.*/
+    private final SingleFlight<Long, Optional<Employee>> employeeLookups =
+            new SingleFlight<>(employee -> employee.map(found -> found.toBuilder().build()));
+
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeSearchIndex employeeSearchIndex, EmployeeEmailFilter employeeEmailFilter) {
         this.employeeRepository = employeeRepository;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.employeeEmailFilter = employeeEmailFilter;
     }
 
-    /*This Method Encompasses A Procedure For Saving An Employee Object. Initially, It Checks Whether The Email Address Of The Employee Object Already
-    Exists In The Database. If The Email Address Is Already Present, It Throws A ResourceNotFoundException Exception With An Error Message Indicating
-     That An Employee Already Exists With The Given Email. If The Email Address Is Not Already In Use, The Employee Object Is Saved To The Database*/
+    /*This Method Encompasses A Procedure For Saving An Employee Object, Usually In A Single Round Trip. Only If The EmployeeEmailFilter Can Not Rule
+    The Email Out Is It Looked Up First, So A Known Email Is Rejected Without An Insert. Otherwise The Employee Is Inserted Directly And The Unique Index
+    On The Email Column Decides Whether The Email Address Already Exists, Which Also Holds When Several Requests Try To Save The Same Email At Once.
+    In Both Cases It Throws A ResourceNotFoundException Exception With An Error Message Indicating That An Employee Already Exists With The Given Email.*/
     @Override
     public Employee saveEmployee(Employee employee) {
 
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if (savedEmployee.isPresent()) {
+        if (employeeEmailFilter.lookup(employee.getEmail(), employeeRepository::findByEmail).isPresent()) {
             throw new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail());
         }
-        return employeeRepository.save(employee);
+        try {
+            Employee savedEmployee = employeeRepository.saveAndFlush(employee);
+            employeeSearchIndex.put(savedEmployee);
+            employeeEmailFilter.add(savedEmployee.getEmail());
+            return savedEmployee;
+        } catch (DataIntegrityViolationException exception) {
+            if (isDuplicateEmail(exception)) {
+                throw new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail(), exception);
+            }
+            throw exception;
+        }
     }
+
+    /*This Method Saves A List Of Employee Objects In One Transaction. Because Ids Come From A Pooled Sequence, Hibernate Sends The Inserts
+    In Jdbc Batches Instead Of One Round Trip Per Employee. If Any Email Already Exists, Nothing Is Saved And A ResourceNotFoundException Is Thrown.
+    Like For A Single Employee, Only The Emails The EmployeeEmailFilter Can Not Rule Out Are Looked Up Before.*/
+    @Override
+    public List<Employee> saveEmployees(List<Employee> employees) {
+
+        for (Employee employee : employees) {
+            if (employeeEmailFilter.lookup(employee.getEmail(), employeeRepository::findByEmail).isPresent()) {
+                throw new ResourceNotFoundException("Employee already exist with one of the given emails");
+            }
+        }
+        try {
+            List<Employee> savedEmployees = employeeRepository.saveAllAndFlush(employees);
+            savedEmployees.forEach(savedEmployee -> {
+                employeeSearchIndex.put(savedEmployee);
+                employeeEmailFilter.add(savedEmployee.getEmail());
+            });
+            return savedEmployees;
+        } catch (DataIntegrityViolationException exception) {
+            if (isDuplicateEmail(exception)) {
+                throw new ResourceNotFoundException("Employee already exist with one of the given emails", exception);
+            }
+            throw exception;
+        }
+    }
+
+    /*This Method Checks Whether The Violated Constraint Is The Unique Index On The Email Column. The Constraint Name Is Compared Case-Insensitively
+    Because Each Database Reports It In Its Own Format (For Example 'employees.uk_employees_email' On Mysql Or 'PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_A' On H2).*/
+    private static boolean isDuplicateEmail(DataIntegrityViolationException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof ConstraintViolationException constraintViolation && constraintViolation.getConstraintName() != null) {
+            return constraintViolation.getConstraintName().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+        }
+        return false;
+    }
+
     /*"This Method Retrieves All Employee Objects From The Database And Returns Them As A List."*/
     @Override
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
-    /*"This Method Retrieves The Employee Object With The Specified Id From The Database."*/
+    /*"This Method Retrieves One Page Of Employee Objects Following The Given Id From The Database And Returns Them As A List."*/
+    @Override
+    public List<Employee> getEmployeesAfter(long after, int limit) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(limit));
+    }
+    /*"This Method Retrieves The Employee Object With The Specified Id From The Database." When Many Requests Ask For The Same Id At The Same
+    Time, Only One Of Them Queries The Database And The Others Receive Its Result, Or Its Exception If The Query Failed.*/
     @Override
     public Optional<Employee> getEmployeeById(Long id) {
-        return employeeRepository.findById(id);
+        return employeeLookups.load(id, employeeRepository::findById);
     }
-    /*"This Method Is Used To Save An Updated Employee Object."*/
+    /*This Method Searches The In-Memory Index, So A Type-Ahead Request Never Reaches The Database.*/
+    @Override
+    public List<Employee> searchEmployees(String query, int limit) {
+        return employeeSearchIndex.search(query, limit);
+    }
+    /*This Method Reads Only The Version Of The Employee, So A Conditional Request Can Be Answered Without Loading The Employee.*/
+    @Override
+    public Optional<Long> getEmployeeVersion(long id) {
+        return employeeRepository.findVersionById(id);
+    }
+    /*"This Method Is Used To Save An Updated Employee Object." Hibernate Compares The Version Of The Object With The Version Of The Row.*/
     @Override
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee savedEmployee = employeeRepository.save(updatedEmployee);
+        employeeSearchIndex.put(savedEmployee);
+        employeeEmailFilter.add(savedEmployee.getEmail());
+        return savedEmployee;
+    }
+    /*This Method Changes The Employee With A Single Update Statement That Is Only Applied If The Row Still Has The Given Version. Only If No Row Was
+    Changed Is The Version Read, To Tell An Employee That Does Not Exist From One That Was Changed In The Meantime.*/
+    @Override
+    public Optional<Employee> updateEmployee(long id, long version, Employee updatedEmployee) {
+        int updatedRows = employeeRepository.updateEmployeeById(id, version,
+                updatedEmployee.getFirstName(), updatedEmployee.getLastName(), updatedEmployee.getEmail());
+        if (updatedRows == 0) {
+            if (employeeRepository.findVersionById(id).isEmpty()) {
+                return Optional.empty();
+            }
+            throw new OptimisticLockingFailureException("Employee " + id + " was changed by another request");
+        }
+        Employee savedEmployee = updatedEmployee.toBuilder().id(id).version(version + 1).build();
+        employeeSearchIndex.put(savedEmployee);
+        employeeEmailFilter.add(savedEmployee.getEmail());
+        return Optional.of(savedEmployee);
+    }
+    /*This Method Changes The Employee With A Single Update Statement Without A Version Condition, So The Number Of Changed Rows Alone Tells Whether
+    The Employee Exists. The New Version Is Then Read In The Same Transaction: Mysql Does Not Return Changed Values From An Update, And The Update
+    Keeps The Row Locked Until The Transaction Ends, So The Version That Is Read Is The One This Update Wrote. Like After The Other Updates, The
+    Index And The Email Filter Only Learn About The Change Once It Is Committed, So A Rebuild Running Meanwhile Can Not Miss It And A Change That Is
+    Rolled Back Is Never Shown.*/
+    @Override
+    @Transactional
+    public Optional<Employee> updateEmployee(long id, Employee updatedEmployee) {
+        int updatedRows = employeeRepository.overwriteEmployeeById(id,
+                updatedEmployee.getFirstName(), updatedEmployee.getLastName(), updatedEmployee.getEmail());
+        if (updatedRows == 0) {
+            return Optional.empty();
+        }
+        long version = employeeRepository.findVersionById(id).orElseThrow();
+        Employee savedEmployee = updatedEmployee.toBuilder().id(id).version(version).build();
+        afterCommit(() -> {
+            employeeSearchIndex.put(savedEmployee);
+            employeeEmailFilter.add(savedEmployee.getEmail());
+        });
+        return Optional.of(savedEmployee);
+    }
+    /*This Method Is Used To Delete The Employee Object With The Specified Id. The Row Is Deleted With A Single Statement Without Loading The Employee
+    First, And The Number Of Deleted Rows Tells Whether The Employee Existed.*/
+    @Override
+    public boolean deleteEmployee(long id) {
+        int deletedRows = employeeRepository.deleteEmployeeById(id);
+        if (deletedRows == 0) {
+            return false;
+        }
+        employeeSearchIndex.remove(id);
+        employeeEmailFilter.removed(deletedRows);
+        return true;
     }
-    /*This Method Is Used To Delete The Employee Object With The Specified Id.*/
+    /*This Method Is Used To Delete The Employee Objects With The Specified Ids With A Single Statement.*/
     @Override
-    public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+    public int deleteEmployees(List<Long> ids) {
+        int deletedRows = employeeRepository.deleteEmployeesByIdIn(ids);
+        if (deletedRows > 0) {
+            ids.forEach(employeeSearchIndex::remove);
+            employeeEmailFilter.removed(deletedRows);
+        }
+        return deletedRows;
+    }
+
+    /*Runs The Given Work Once The Current Transaction Has Been Committed, And Not At All If It Is Rolled Back. Without A Transaction It Runs At Once.*/
+    private static void afterCommit(Runnable work) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            work.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                work.run();
+            }
+        });
     }
 }
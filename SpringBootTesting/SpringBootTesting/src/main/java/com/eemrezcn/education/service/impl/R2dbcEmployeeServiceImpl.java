@@ -0,0 +1,92 @@
+package com.eemrezcn.education.service.impl;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.service.EmployeeService;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/*This Service Is A Compatibility Shim: It Replaces The EmployeeServiceImpl With The "r2dbc" Profile, So The EmployeeController Works Unchanged On
+Top Of The ReactiveEmployeeService. The Controller Is A Blocking Spring Mvc Controller, So Each Method Blocks The Request Thread Here Until The
+Reactive Service Has Answered; No Jdbc Connection Is Held Meanwhile, But A Tomcat Thread Is, As With Jpa. getAllEmployees Also Collects The
+Whole Table Into One List. The Non-Blocking Way To The Same Service Is The ReactiveEmployeeController Under /api/reactive/employees.*/
+@Service
+@Profile("r2dbc")
+/*This Annotation Records The Duration Of Every Public Method As The "ems.employee.service" Timer, Like For The EmployeeServiceImpl.*/
+@Timed("ems.employee.service")
+public class R2dbcEmployeeServiceImpl implements EmployeeService {
+
+    private final ReactiveEmployeeService reactiveEmployeeService;
+
+    //Concurrent Lookups Of The Same Id Share One Query, Like In The EmployeeServiceImpl.
+    private final SingleFlight<Long, Optional<Employee>> employeeLookups =
+            new SingleFlight<>(employee -> employee.map(found -> found.toBuilder().build()));
+
+    public R2dbcEmployeeServiceImpl(ReactiveEmployeeService reactiveEmployeeService) {
+        this.reactiveEmployeeService = reactiveEmployeeService;
+    }
+
+    @Override
+    public Employee saveEmployee(Employee employee) {
+        return reactiveEmployeeService.saveEmployee(employee).block();
+    }
+
+    @Override
+    public List<Employee> saveEmployees(List<Employee> employees) {
+        return reactiveEmployeeService.saveEmployees(employees).collectList().block();
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return reactiveEmployeeService.getAllEmployees().collectList().block();
+    }
+
+    @Override
+    public List<Employee> getEmployeesAfter(long after, int limit) {
+        return reactiveEmployeeService.getEmployeesAfter(after, limit).collectList().block();
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(Long id) {
+        return employeeLookups.load(id, key -> reactiveEmployeeService.getEmployeeById(key).blockOptional());
+    }
+
+    @Override
+    public List<Employee> searchEmployees(String query, int limit) {
+        return reactiveEmployeeService.searchEmployees(query, limit).collectList().block();
+    }
+
+    @Override
+    public Optional<Long> getEmployeeVersion(long id) {
+        return reactiveEmployeeService.getEmployeeVersion(id).blockOptional();
+    }
+
+    @Override
+    public Employee updateEmployee(Employee updatedEmployee) {
+        return reactiveEmployeeService.updateEmployee(updatedEmployee).block();
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, long version, Employee updatedEmployee) {
+        return reactiveEmployeeService.updateEmployee(id, version, updatedEmployee).blockOptional();
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee updatedEmployee) {
+        return reactiveEmployeeService.updateEmployee(id, updatedEmployee).blockOptional();
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return Boolean.TRUE.equals(reactiveEmployeeService.deleteEmployee(id).block());
+    }
+
+    @Override
+    public int deleteEmployees(List<Long> ids) {
+        return Math.toIntExact(reactiveEmployeeService.deleteEmployees(ids).blockOptional().orElse(0L));
+    }
+}
@@ -0,0 +1,178 @@
+package com.eemrezcn.education.service.impl;
+
+import com.eemrezcn.education.exception.ResourceNotFoundException;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
+import com.eemrezcn.education.repository.ReactiveEmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Locale;
+
+/*This Service Implements The ReactiveEmployeeService With The ReactiveEmployeeRepository. It Follows The Rules Of The EmployeeServiceImpl: The Unique
+Index Decides Whether An Email Already Exists, And An Update Only Succeeds If The Employee Still Has The Version It Was Read With.*/
+@Service
+@Profile("r2dbc")
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+
+    //The In-Memory Index Of The Names And Emails, Which Is Updated After Every Successful Save, Update And Delete, Like In The EmployeeServiceImpl.
+    private final EmployeeSearchIndex employeeSearchIndex;
+
+    //The In-Memory Filter Of The Known Emails, Which Rules Out Most New Emails Without Asking The Database, Like In The EmployeeServiceImpl.
+    private final EmployeeEmailFilter employeeEmailFilter;
+
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository, EmployeeSearchIndex employeeSearchIndex,
+                                       EmployeeEmailFilter employeeEmailFilter) {
+        this.employeeRepository = employeeRepository;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.employeeEmailFilter = employeeEmailFilter;
+    }
+
+    /*This Method Looks The Email Up Only If The EmployeeEmailFilter Can Not Rule It Out And Then Inserts The Employee, Like The EmployeeServiceImpl.
+    A Known Email And A Rejection By The Unique Index On The Email Column Both End In A ResourceNotFoundException With The Same Message.*/
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return employeeEmailFilter.lookupReactive(employee.getEmail(), employeeRepository::findByEmail)
+                .flatMap(existing -> Mono.<Employee>error(new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail())))
+                .switchIfEmpty(Mono.defer(() -> employeeRepository.insert(employee)))
+                .doOnNext(this::indexSaved)
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail,
+                        exception -> new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail(), exception));
+    }
+
+    @Override
+    public Flux<Employee> saveEmployees(List<Employee> employees) {
+        return Flux.fromIterable(employees)
+                .concatMap(employee -> employeeEmailFilter.lookupReactive(employee.getEmail(), employeeRepository::findByEmail))
+                .next()
+                .flatMap(existing -> Mono.<List<Employee>>error(new ResourceNotFoundException("Employee already exist with one of the given emails")))
+                .switchIfEmpty(Mono.defer(() -> employeeRepository.insertAll(employees).collectList()))
+                .doOnNext(savedEmployees -> savedEmployees.forEach(this::indexSaved))
+                .flatMapIterable(savedEmployees -> savedEmployees)
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail,
+                        exception -> new ResourceNotFoundException("Employee already exist with one of the given emails", exception));
+    }
+
+    private void indexSaved(Employee savedEmployee) {
+        employeeSearchIndex.put(savedEmployee);
+        employeeEmailFilter.add(savedEmployee.getEmail());
+    }
+
+    /*R2dbc Reports The Violated Constraint Only In The Message Of The Exception, Which Contains Its Name In The Format Of The Database
+    (For Example 'employees.uk_employees_email' On Mysql Or 'PUBLIC.UK_EMPLOYEES_EMAIL_INDEX_A' On H2), So The Message Is Compared Case-Insensitively.*/
+    private static boolean isDuplicateEmail(Throwable exception) {
+        return exception instanceof DataIntegrityViolationException && exception.getMessage() != null
+                && exception.getMessage().toLowerCase(Locale.ROOT).contains(Employee.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return employeeRepository.findAll();
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesAfter(long after, int limit) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(after, limit);
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Long> getEmployeeVersion(long id) {
+        return employeeRepository.findVersionById(id);
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeByEmail(String email) {
+        return employeeEmailFilter.lookupReactive(email, employeeRepository::findByEmail);
+    }
+
+    @Override
+    public Flux<EmployeeNameView> getEmployeeNames(String firstName, String lastName) {
+        return employeeRepository.findNamesByFirstNameAndLastName(firstName, lastName);
+    }
+
+    @Override
+    public Flux<EmployeeNameView> getEmployeeNamesByLastName(String lastName) {
+        return employeeRepository.findNamesByLastNameOrderByFirstNameAsc(lastName);
+    }
+
+    /*Until The EmployeeSearchIndex Is Filled, It Searches With The Blocking EmployeeRepository, So The Search Then Runs On A Thread That May Block.*/
+    @Override
+    public Flux<Employee> searchEmployees(String query, int limit) {
+        Flux<Employee> employees = Flux.defer(() -> Flux.fromIterable(employeeSearchIndex.search(query, limit)));
+        return employeeSearchIndex.isReady() ? employees : employees.subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /*This Method Saves An Employee Without An Id As A New Employee, Like The save Method Of Spring Data. Otherwise The Row Is Only Changed If It
+    Still Has The Version Of The Given Employee; If No Row Was Changed, The Employee Was Changed Or Deleted In The Meantime.*/
+    @Override
+    public Mono<Employee> updateEmployee(Employee updatedEmployee) {
+        if (updatedEmployee.getId() == null) {
+            return saveEmployee(updatedEmployee);
+        }
+        return employeeRepository.update(updatedEmployee)
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? Mono.error(new OptimisticLockingFailureException("Employee " + updatedEmployee.getId() + " was changed or deleted by another request"))
+                        : Mono.just(updatedEmployee.toBuilder().version(updatedEmployee.getVersion() + 1).build()))
+                .doOnNext(this::indexSaved);
+    }
+
+    /*This Method Changes The Row With The Same Single Update As Above. If No Row Was Changed, The Version Is Read To Tell An Employee That Does Not
+    Exist, For Which Nothing Is Emitted, From One That Was Changed In The Meantime.*/
+    @Override
+    public Mono<Employee> updateEmployee(long id, long version, Employee updatedEmployee) {
+        Employee employee = updatedEmployee.toBuilder().id(id).version(version).build();
+        return employeeRepository.update(employee)
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? employeeRepository.findVersionById(id)
+                                .flatMap(currentVersion -> Mono.<Employee>error(new OptimisticLockingFailureException("Employee " + id + " was changed by another request")))
+                        : Mono.just(employee.toBuilder().version(version + 1).build()))
+                .doOnNext(this::indexSaved);
+    }
+
+    /*This Method Changes The Row Without A Version Condition; The Repository Reads The New Version In The Same Transaction.*/
+    @Override
+    public Mono<Employee> updateEmployee(long id, Employee updatedEmployee) {
+        return employeeRepository.overwrite(id, updatedEmployee)
+                .map(version -> updatedEmployee.toBuilder().id(id).version(version).build())
+                .doOnNext(this::indexSaved);
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(long id) {
+        return employeeRepository.deleteById(id)
+                .doOnNext(deletedRows -> {
+                    if (deletedRows > 0) {
+                        employeeSearchIndex.remove(id);
+                        employeeEmailFilter.removed(deletedRows);
+                    }
+                })
+                .map(deletedRows -> deletedRows > 0);
+    }
+
+    @Override
+    public Mono<Long> deleteEmployees(List<Long> ids) {
+        return employeeRepository.deleteAllById(ids)
+                .doOnNext(deletedRows -> {
+                    if (deletedRows > 0) {
+                        ids.forEach(employeeSearchIndex::remove);
+                        employeeEmailFilter.removed(deletedRows);
+                    }
+                });
+    }
+}
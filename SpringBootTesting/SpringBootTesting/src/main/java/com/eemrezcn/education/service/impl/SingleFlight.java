@@ -0,0 +1,64 @@
+package com.eemrezcn.education.service.impl;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/*This Class Shares One Running Lookup Among All Threads That Ask For The Same Key At The Same Time. The First Thread Runs The Loader Itself,
+And Every Thread That Asks For The Key While It Is Running Waits For Its Result Instead Of Running Its Own Query. Nothing Is Kept After The
+Lookup Has Finished, So The Next Request For The Key Runs A New Lookup And Never Sees An Outdated Result.
+If The Loader Throws, The Same Exception Is Thrown To Every Waiting Thread. A Waiting Thread That Is Interrupted Stops Waiting With A
+CancellationException, While The Lookup Goes On For The Others.*/
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /*The Waiting Threads Receive The Result Through This Function, So Each Of Them Can Get Its Own Copy Of A Mutable Result.*/
+    private final UnaryOperator<V> share;
+
+    public SingleFlight(UnaryOperator<V> share) {
+        this.share = share;
+    }
+
+    public V load(K key, Function<K, V> loader) {
+        CompletableFuture<V> ownLoad = new CompletableFuture<>();
+        CompletableFuture<V> runningLoad = inFlight.putIfAbsent(key, ownLoad);
+        if (runningLoad != null) {
+            return share.apply(await(runningLoad));
+        }
+        /*The Lookup Is Removed Before The Waiting Threads Are Released, So A Request That Arrives After The Lookup Has Finished Runs A New One
+        Instead Of Receiving The Finished Result.*/
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error exception) {
+            inFlight.remove(key, ownLoad);
+            ownLoad.completeExceptionally(exception);
+            throw exception;
+        }
+        inFlight.remove(key, ownLoad);
+        ownLoad.complete(value);
+        return value;
+    }
+
+    private static <V> V await(CompletableFuture<V> runningLoad) {
+        try {
+            return runningLoad.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            CancellationException cancellation = new CancellationException("Interrupted while waiting for a shared lookup");
+            cancellation.initCause(exception);
+            throw cancellation;
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw (Error) cause;
+        }
+    }
+}
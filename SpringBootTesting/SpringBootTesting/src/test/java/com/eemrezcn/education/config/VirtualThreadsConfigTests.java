@@ -0,0 +1,72 @@
+package com.eemrezcn.education.config;
+
+import com.eemrezcn.education.metrics.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*This Test Class Verifies The VirtualThreadsConfig Without Starting A Web Server. Which Tests Run Depends On The Java Version: Virtual Threads
+Only Exist From Java 21 On, And On Older Versions Enabling Them Must Stop The Application With A Clear Message.*/
+public class VirtualThreadsConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(VirtualThreadsConfig.class);
+
+    /*This Test Verifies That The Virtual-Thread Beans Are Not Created Unless The Mode Is Enabled, So Tomcat Keeps Its Platform Thread Pool.*/
+    @DisplayName("JUnit test for the default platform thread mode")
+    @Test
+    public void givenNoProperty_whenContextStarts_thenNoVirtualThreadBeansAreCreated() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class);
+            assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class);
+        });
+    }
+
+    /*This Test Enables The Virtual-Thread Mode On A Java Version Without Virtual Threads And Verifies That The Context Fails With A Message
+    That Explains How To Go Back To Platform Threads.*/
+    @DisplayName("JUnit test for the virtual thread mode before Java 21")
+    @Test
+    public void givenJavaBefore21_whenVirtualThreadsEnabled_thenContextFailsWithMessage() {
+        assumeTrue(Runtime.version().feature() < 21);
+
+        contextRunner.withPropertyValues("threads.virtual.enabled=true").run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure()).hasStackTraceContaining("Set threads.virtual.enabled=false");
+        });
+    }
+
+    /*This Test Enables The Virtual-Thread Mode On Java 21 Or Newer And Verifies That The Asynchronous Tasks Run On Virtual Threads
+    And That The Pinning Monitor Is Running.*/
+    @DisplayName("JUnit test for the virtual thread mode on Java 21")
+    @Test
+    public void givenJava21_whenVirtualThreadsEnabled_thenTasksRunOnVirtualThreads() {
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        contextRunner.withPropertyValues("threads.virtual.enabled=true").run(context -> {
+            SimpleAsyncTaskExecutor executor = context.getBean(SimpleAsyncTaskExecutor.class);
+            CompletableFuture<Object> isVirtual = new CompletableFuture<>();
+            executor.execute(() -> {
+                try {
+                    isVirtual.complete(Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+                } catch (ReflectiveOperationException exception) {
+                    isVirtual.completeExceptionally(exception);
+                }
+            });
+
+            assertThat(isVirtual.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+            assertThat(context).hasSingleBean(TomcatProtocolHandlerCustomizer.class);
+            assertThat(context.getBean(VirtualThreadPinningMonitor.class).isRunning()).isTrue();
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package com.eemrezcn.education.controller;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*This Test Class Starts The Whole Application On An Embedded H2 Database And Verifies The ETags Of The Employees: A Conditional Get With A Current
+ETag Is Answered With 304 Without Loading The Employee, And A Put With An Outdated If-Match Header Or From An Outdated Copy Is Rejected.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+public class EmployeeControllerConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    //This Code Wraps The Real EmployeeService, So The Test Can Verify Which Of Its Methods The Controller Called.
+    @SpyBean
+    private EmployeeService employeeService;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAllInBatch();
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Emre")
+                .lastName("Ozcan")
+                .email("emre@gmail.com")
+                .build());
+    }
+
+    //JUnit Test For A Conditional Get With The Current ETag
+    @DisplayName("JUnit test for get employee by id with a current If-None-Match header")
+    @Test
+    public void givenCurrentETag_whenGetEmployeeById_thenReturnNotModifiedWithoutLoadingEmployee() throws Exception {
+        // given - precondition or setup
+        String eTag = mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(employeeService);
+
+        // when -  action or the behaviour that we are going test
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+
+        // then - verify the output
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        verify(employeeService).getEmployeeVersion(employee.getId());
+        verify(employeeService, never()).getEmployeeById(anyLong());
+    }
+
+    //JUnit Test For Put With If-Match And A Conditional Get After The Update
+    @DisplayName("JUnit test for update employee with a current and an outdated If-Match header")
+    @Test
+    public void givenIfMatchHeader_whenUpdateEmployee_thenOnlyTheCurrentVersionIsUpdated() throws Exception {
+        // given - precondition or setup
+        Employee updatedEmployee = Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build();
+        String body = objectMapper.writeValueAsString(updatedEmployee);
+
+        // when -  action or the behaviour that we are going test
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+
+        // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.firstName", is("Ram")));
+
+        mockMvc.perform(put("/api/employees/{id}", employee.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Employee.builder().firstName("Old").lastName("Copy").email("old@gmail.com").build())))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.firstName", is("Ram")));
+    }
+
+    //JUnit Test For Saving An Outdated Copy Of An Employee
+    @DisplayName("JUnit test for update employee from an outdated copy")
+    @Test
+    public void givenOutdatedCopy_whenUpdateEmployee_thenThrowsOptimisticLockingFailure() {
+        // given - precondition or setup
+        Employee firstCopy = employeeService.getEmployeeById(employee.getId()).orElseThrow();
+        Employee secondCopy = employeeService.getEmployeeById(employee.getId()).orElseThrow();
+        firstCopy.setFirstName("First");
+        employeeService.updateEmployee(firstCopy);
+
+        // when -  action or the behaviour that we are going test
+        secondCopy.setFirstName("Second");
+
+        // then - verify the output
+        assertThatThrownBy(() -> employeeService.updateEmployee(secondCopy))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(employeeRepository.findById(employee.getId()).orElseThrow().getFirstName()).isEqualTo("First");
+    }
+}
@@ -0,0 +1,112 @@
+package com.eemrezcn.education.controller;
+
+import com.eemrezcn.education.config.BinaryContentConfig;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.service.EmployeeService;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*This Test Class Verifies That The EmployeeController Reads And Writes Cbor And Smile Bodies When The Client Asks For Them With The Content-Type
+And Accept Headers, And That A Client Which Accepts Any Format Still Gets Json.*/
+@WebMvcTest(EmployeeController.class)
+@Import(BinaryContentConfig.class)
+public class EmployeeControllerContentNegotiationTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    private final SmileMapper smileMapper = new SmileMapper();
+
+    //JUnit Test For Reading All Employees As Cbor
+    @Test
+    @DisplayName("JUnit test for get all employees as CBOR")
+    public void givenCborAccept_whenGetAllEmployees_thenReturnCborBody() throws Exception {
+
+        // given - precondition or setup
+        given(employeeService.getAllEmployees()).willReturn(List.of(
+                Employee.builder().id(1L).firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build(),
+                Employee.builder().id(2L).firstName("Tony").lastName("Stark").email("tony@gmail.com").build()));
+
+        // when -  action or the behaviour that we are going test
+        byte[] body = mockMvc.perform(get("/api/employees").param("all", "true").accept(MediaType.APPLICATION_CBOR))
+
+        // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(cborMapper.readValue(body, Employee[].class))
+                .extracting(Employee::getEmail)
+                .containsExactly("emre@gmail.com", "tony@gmail.com");
+    }
+
+    //JUnit Test For Saving An Employee Sent As Smile
+    @Test
+    @DisplayName("JUnit test for create employee with a Smile body")
+    public void givenSmileBody_whenCreateEmployee_thenReturnSmileBody() throws Exception {
+
+        // given - precondition or setup
+        Employee employee = Employee.builder().firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build();
+        given(employeeService.saveEmployee(ArgumentMatchers.any(Employee.class)))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        // when -  action or the behaviour that we are going test
+        byte[] body = mockMvc.perform(post("/api/employees")
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(smileMapper.writeValueAsBytes(employee)))
+
+        // then - verify the output
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(smileMapper.readValue(body, Employee.class).getEmail()).isEqualTo("emre@gmail.com");
+    }
+
+    //JUnit Test For Json Being The Default Format
+    @Test
+    @DisplayName("JUnit test for get employee by id accepting any format")
+    public void givenAnyAccept_whenGetEmployeeById_thenReturnJsonBody() throws Exception {
+
+        // given - precondition or setup
+        given(employeeService.getEmployeeById(1L)).willReturn(Optional.of(
+                Employee.builder().id(1L).firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build()));
+
+        // when -  action or the behaviour that we are going test
+        mockMvc.perform(get("/api/employees/{id}", 1L).accept(MediaType.ALL))
+
+        // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.email", is("emre@gmail.com")));
+    }
+}
@@ -0,0 +1,169 @@
+package com.eemrezcn.education.controller;
+
+import com.eemrezcn.education.metrics.StatementCountInterceptor;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*This Test Class Starts The Whole Application On An Embedded H2 Database And Verifies That The Endpoint, Service, Repository And
+Statement Count Metrics Are Recorded And Published At /actuator/prometheus.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+@AutoConfigureObservability //"This Annotation Enables The Prometheus Registry, Which Spring Boot Switches Off In Tests By Default."
+public class EmployeeControllerMetricsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAllInBatch();
+        employee = employeeRepository.save(Employee.builder()
+                .firstName("Emre")
+                .lastName("Ozcan")
+                .email("emre@gmail.com")
+                .build());
+    }
+
+    /*This Test Reads One Employee Over Http And Verifies That The Request Is Recorded With Its Number Of Sql Statements,
+    The Duration Of The Service Method And The Duration Of The Repository Method.*/
+    @DisplayName("JUnit test for the metrics of GET /api/employees/{id}")
+    @Test
+    public void givenEmployee_whenGetEmployeeById_thenMetricsAreRecorded() throws Exception {
+        // given - precondition or setup
+        DistributionSummary before = meterRegistry.find(StatementCountInterceptor.METRIC_NAME).tags("method", "GET", "uri", "/api/employees/{id}").summary();
+        long requestsBefore = before != null ? before.count() : 0;
+
+        // when - action or the behaviour that we are going test
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk());
+
+        // then - verify the output
+        DistributionSummary statements = meterRegistry.get(StatementCountInterceptor.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/employees/{id}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(requestsBefore + 1);
+        assertThat(statements.max()).isGreaterThanOrEqualTo(1);
+
+        assertThat(meterRegistry.get("ems.employee.service").tag("method", "getEmployeeById").timer().count()).isPositive();
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "EmployeeRepository")
+                .tag("method", "findById")
+                .timer().count()).isPositive();
+    }
+
+    /*This Test Updates The Employee Over Http And Counts The Sql Statements Of Each Request. With The ETag In The If-Match Header The Update Is The
+    Only Statement. Without It, The Update Has No Version Condition And Only The New Version Is Read Afterwards, Because Mysql Does Not Return It
+    From The Update; It Is Sent As The New ETag. Neither Request Loads The Employee.*/
+    @DisplayName("JUnit test for the statement count of PUT /api/employees/{id}")
+    @Test
+    public void givenEmployee_whenUpdateEmployee_thenSingleUpdateStatementIsSent() throws Exception {
+        // given - precondition or setup
+        String body = "{\"firstName\":\"Ram\",\"lastName\":\"Jadhav\",\"email\":\"ram@gmail.com\"}";
+
+        // when - action or the behaviour that we are going test
+        double withIfMatch = statementsOf(put("/api/employees/{id}", employee.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body), status().isOk(), header().string(HttpHeaders.ETAG, "\"1\""));
+        double withoutIfMatch = statementsOf(put("/api/employees/{id}", employee.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body), status().isOk(), header().string(HttpHeaders.ETAG, "\"2\""));
+
+        // then - verify the output
+        assertThat(withIfMatch).isEqualTo(1);
+        assertThat(withoutIfMatch).isEqualTo(2);
+        Employee updatedEmployee = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
+        assertThat(updatedEmployee.getVersion()).isEqualTo(2);
+    }
+
+    /*This Test Updates An Employee That Does Not Exist Without An If-Match Header. The Update Changes No Row, Which Is Enough To Answer With 404
+    (Not Found), So It Is The Only Statement Of The Request.*/
+    @DisplayName("JUnit test for the statement count of PUT /api/employees/{id} for an unknown employee")
+    @Test
+    public void givenUnknownEmployee_whenUpdateEmployeeWithoutIfMatch_thenOnlyTheUpdateIsSent() throws Exception {
+        // given - precondition or setup
+        String body = "{\"firstName\":\"Ram\",\"lastName\":\"Jadhav\",\"email\":\"ram@gmail.com\"}";
+
+        // when - action or the behaviour that we are going test
+        double statements = statementsOf(put("/api/employees/{id}", employee.getId() + 1000)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body), status().isNotFound());
+
+        // then - verify the output
+        assertThat(statements).isEqualTo(1);
+    }
+
+    /*This Test Calls The Custom Jpql Query And Verifies That It Gets Its Own Repository Timer.*/
+    @DisplayName("JUnit test for the repository timer of a custom query")
+    @Test
+    public void givenEmployee_whenFindByJPQL_thenRepositoryTimerIsRecorded() {
+        // when - action or the behaviour that we are going test
+        employeeRepository.findByJPQL("Emre", "Ozcan");
+
+        // then - verify the output
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("method", "findByJPQL")
+                .timer().count()).isPositive();
+    }
+
+    /*This Test Verifies That The Prometheus Endpoint Publishes The Latency Histogram Of The Endpoints And The Statement Counts.*/
+    @DisplayName("JUnit test for the prometheus scrape endpoint")
+    @Test
+    public void givenRequest_whenScrapePrometheus_thenHistogramsArePublished() throws Exception {
+        // given - precondition or setup
+        mockMvc.perform(get("/api/employees/{id}", employee.getId()))
+                .andExpect(status().isOk());
+
+        // when - action or the behaviour that we are going test
+        mockMvc.perform(get("/actuator/prometheus"))
+                // then - verify the output
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("hibernate_statements_per_request_statements_count")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket")));
+    }
+
+    //Performs A Successful Put Request And Returns The Number Of Sql Statements It Sent, Which The StatementCountInterceptor Recorded.
+    private double statementsOf(MockHttpServletRequestBuilder request, ResultMatcher... expectations) throws Exception {
+        DistributionSummary before = meterRegistry.find(StatementCountInterceptor.METRIC_NAME).tags("method", "PUT", "uri", "/api/employees/{id}").summary();
+        double statementsBefore = before != null ? before.totalAmount() : 0;
+        mockMvc.perform(request)
+                .andExpectAll(expectations);
+        return meterRegistry.get(StatementCountInterceptor.METRIC_NAME).tags("method", "PUT", "uri", "/api/employees/{id}").summary().totalAmount()
+                - statementsBefore;
+    }
+}
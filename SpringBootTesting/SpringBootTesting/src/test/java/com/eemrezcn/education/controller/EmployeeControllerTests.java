@@ -74,6 +74,26 @@ public class EmployeeControllerTests {
 
     }
 
+    /*In This Test Method, A List Of Employee Objects Is Sent With An Http Post Request To The '/api/employees/batch' Endpoint,
+    And It Is Verified Whether All Employees Are Saved And Returned.*/
+    @Test
+    public void givenListOfEmployees_whenCreateEmployees_thenReturnSavedEmployees() throws Exception {
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        listOfEmployees.add(Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com").build());
+        given(employeeService.saveEmployees(anyList()))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        response.andExpect(status().isCreated())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[1].email", is("tony@gmail.com")));
+    }
+
     /*"In This Test Method, An Http Get Request Is Sent To The /api/employees Endpoint To Retrieve All Employees,
     And It Is Verified Whether The List Of Employees Is Returned Correctly.*/
     @Test
@@ -85,7 +105,7 @@ public class EmployeeControllerTests {
         given(employeeService.getAllEmployees()).willReturn(listOfEmployees);
 
 
-        ResultActions response = mockMvc.perform(get("/api/employees"));
+        ResultActions response = mockMvc.perform(get("/api/employees").param("all", "true"));
 
         response.andExpect(status().isOk())
                 .andDo(print())
@@ -94,6 +114,75 @@ public class EmployeeControllerTests {
 
     }
 
+    /*In This Test Method, An Http Get Request Is Sent To The /api/employees Endpoint With A Cursor And A Limit. It Is Verified That Only One Page
+    Is Read From The Service And That The Id Of The Last Employee Is Returned In The Next-Cursor Header Because The Page Is Full.*/
+    @Test
+    public void givenFullPageOfEmployees_whenGetAllEmployees_thenReturnPageWithNextCursor() throws Exception {
+        // given - precondition or setup
+        List<Employee> page = new ArrayList<>();
+        page.add(Employee.builder().id(11L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        page.add(Employee.builder().id(12L).firstName("Tony").lastName("Stark").email("tony@gmail.com").build());
+        given(employeeService.getEmployeesAfter(10L, 2)).willReturn(page);
+
+        ResultActions response = mockMvc.perform(get("/api/employees").param("after", "10").param("limit", "2"));
+
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(header().string(EmployeeController.NEXT_CURSOR_HEADER, "12"));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    /*In This Test Method, An Http Get Request Is Sent To The /api/employees Endpoint Without Parameters. It Is Verified That The Default Page Size
+    Is Used And That No Next-Cursor Header Is Returned Because The Last Page Is Not Full.*/
+    @Test
+    public void givenLastPageOfEmployees_whenGetAllEmployees_thenReturnPageWithoutNextCursor() throws Exception {
+        // given - precondition or setup
+        List<Employee> page = new ArrayList<>();
+        page.add(Employee.builder().id(1L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        given(employeeService.getEmployeesAfter(0L, EmployeeController.DEFAULT_PAGE_SIZE)).willReturn(page);
+
+        ResultActions response = mockMvc.perform(get("/api/employees"));
+
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(header().doesNotExist(EmployeeController.NEXT_CURSOR_HEADER));
+    }
+
+    /*In This Test Method, An Http Get Request Asks For A Page Larger Than The Maximum. It Is Verified That The Page Size Is Capped.*/
+    @Test
+    public void givenTooLargeLimit_whenGetAllEmployees_thenPageSizeIsCapped() throws Exception {
+        // given - precondition or setup
+        given(employeeService.getEmployeesAfter(0L, EmployeeController.MAX_PAGE_SIZE)).willReturn(new ArrayList<>());
+
+        ResultActions response = mockMvc.perform(get("/api/employees").param("limit", "1000000"));
+
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(0)));
+        verify(employeeService).getEmployeesAfter(0L, EmployeeController.MAX_PAGE_SIZE);
+    }
+
+
+    /*In This Test Method, An Http Get Request Is Sent To The '/api/employees/search' Endpoint With A Query And A Limit Above The Maximum.
+    It Is Verified That The Found Employees Are Returned In The Order Of The Service And That The Limit Is Capped.*/
+    @Test
+    public void givenSearchQuery_whenSearchEmployees_thenReturnRankedEmployees() throws Exception {
+        // given - precondition or setup
+        List<Employee> foundEmployees = List.of(
+                Employee.builder().id(2L).firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build(),
+                Employee.builder().id(1L).firstName("Emre Can").lastName("Ozkan").email("emrecan@gmail.com").build());
+        given(employeeService.searchEmployees("emre oz", EmployeeController.MAX_SEARCH_LIMIT)).willReturn(foundEmployees);
+
+        ResultActions response = mockMvc.perform(get("/api/employees/search").param("q", "emre oz").param("limit", "1000"));
+
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].lastName", is("Ozcan")))
+                .andExpect(jsonPath("$[1].lastName", is("Ozkan")));
+    }
 
     /*In This Test Method, An Http Get Request Is Sent To Retrieve The Information Of An Employee With A Specific Employee Id (Employeeid),
     And It Is Verified Whether The Details Of This Employee Are Returned Correctly.*/
@@ -155,9 +244,8 @@ public class EmployeeControllerTests {
                 .lastName("Jadhav")
                 .email("ram@gmail.com")
                 .build();
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
-        given(employeeService.updateEmployee(any(Employee.class)))
-                .willAnswer((invocation) -> invocation.getArgument(0));
+        given(employeeService.updateEmployee(eq(employeeId), any(Employee.class)))
+                .willAnswer((invocation) -> Optional.of(invocation.getArgument(1, Employee.class).toBuilder().id(employeeId).version(1).build()));
 
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -167,7 +255,9 @@ public class EmployeeControllerTests {
                 .andDo(print())
                 .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())))
                 .andExpect(jsonPath("$.lastName", is(updatedEmployee.getLastName())))
-                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())));
+                .andExpect(jsonPath("$.email", is(updatedEmployee.getEmail())))
+                .andExpect(header().string("ETag", "\"1\""));
+        verify(employeeService, never()).getEmployeeVersion(anyLong());
     }
 
     /*In this test method, an HTTP PUT request is sent with the updated employee information. However, a 404 Not Found status is expected as
@@ -187,9 +277,7 @@ public class EmployeeControllerTests {
                 .lastName("Jadhav")
                 .email("ram@gmail.com")
                 .build();
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.empty());
-        given(employeeService.updateEmployee(any(Employee.class)))
-                .willAnswer((invocation)-> invocation.getArgument(0));
+        given(employeeService.updateEmployee(eq(employeeId), any(Employee.class))).willReturn(Optional.empty());
 
         ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
                 .contentType(MediaType.APPLICATION_JSON)
@@ -197,6 +285,35 @@ public class EmployeeControllerTests {
 
         response.andExpect(status().isNotFound())
                 .andDo(print());
+        verify(employeeService, never()).updateEmployee(anyLong(), anyLong(), any(Employee.class));
+        verify(employeeService, never()).getEmployeeVersion(anyLong());
+    }
+
+    /*In this test method, an HTTP PUT request is sent with the ETag of the employee in the If-Match header. The version is taken from the header,
+    so the employee is updated without reading its current version first, and the new ETag is returned.*/
+    @Test
+    public void givenIfMatchHeader_whenUpdateEmployee_thenVersionIsNotRead() throws Exception{
+        // given - precondition or setup
+        long employeeId = 1L;
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@gmail.com")
+                .build();
+        given(employeeService.updateEmployee(eq(employeeId), eq(3L), any(Employee.class)))
+                .willAnswer((invocation) -> Optional.of(invocation.getArgument(2, Employee.class).toBuilder().id(employeeId).version(4).build()));
+
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())))
+                .andDo(print());
+        verify(employeeService, never()).getEmployeeVersion(anyLong());
+        verify(employeeService, never()).getEmployeeById(anyLong());
     }
 
     /*In this test method, an HTTP DELETE request is sent to delete an employee with a specified employee ID. The expected result is a 200 OK status.*/
@@ -204,7 +321,7 @@ public class EmployeeControllerTests {
     public void givenEmployeeId_whenDeleteEmployee_thenReturn200() throws Exception{
 
         long employeeId = 1L;
-        willDoNothing().given(employeeService).deleteEmployee(employeeId);
+        given(employeeService.deleteEmployee(employeeId)).willReturn(true);
 
         ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
 
@@ -212,4 +329,35 @@ public class EmployeeControllerTests {
                 .andDo(print());
     }
 
+    /*In this test method, an HTTP DELETE request is sent for an employee ID that does not exist. The expected result is a 404 Not Found status.*/
+    @Test
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception{
+
+        long employeeId = 1L;
+        given(employeeService.deleteEmployee(employeeId)).willReturn(false);
+
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
+
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+    }
+
+    /*In this test method, an HTTP DELETE request is sent with a list of employee IDs. The expected result is a 200 OK status with the number of
+    deleted employees, a 404 Not Found status when none of them exists and a 400 Bad Request status when no ID is given.*/
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception{
+
+        given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(2);
+        given(employeeService.deleteEmployees(List.of(4L))).willReturn(0);
+
+        mockMvc.perform(delete("/api/employees").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2 employees deleted successfully!."))
+                .andDo(print());
+        mockMvc.perform(delete("/api/employees").param("ids", "4"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/employees").param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+
 }
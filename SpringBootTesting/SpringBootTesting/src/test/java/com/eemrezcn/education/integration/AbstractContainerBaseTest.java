@@ -2,29 +2,50 @@ package com.eemrezcn.education.integration;
 
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.StringUtils;
 import org.testcontainers.containers.MySQLContainer;
 
+import java.util.Arrays;
+
 /*This AbstractContainerBaseTest class contains the necessary configuration for tests to run in a MySQL Docker container.
 The class creates a static MySQLContainer object, starts this container, and uses DynamicPropertySource to dynamically provide the database
- connection information for the Spring Boot application. This allows tests to run in a Docker container instead of a real MySQL database.*/
+ connection information for the Spring Boot application. This allows tests to run in a Docker container instead of a real MySQL database.
+ When the "embedded" Spring profile is active (mvn test -Pembedded), no container is started and the tests run on the H2 database of that profile.*/
 public abstract class AbstractContainerBaseTest
 {
     static final MySQLContainer MY_SQL_CONTAINER;
 
     static {
-        MY_SQL_CONTAINER=new MySQLContainer("mysql:latest")
-                .withUsername("root")
-                .withPassword("Eo198957")
-                .withDatabaseName("ems");
+        if (isEmbeddedProfileActive()) {
+            MY_SQL_CONTAINER = null;
+        } else {
+            MY_SQL_CONTAINER=new MySQLContainer("mysql:latest")
+                    .withUsername("root")
+                    .withPassword("Eo198957")
+                    .withDatabaseName("ems");
 
-        MY_SQL_CONTAINER.start();
+            MY_SQL_CONTAINER.start();
+        }
     }
 
     @DynamicPropertySource
     public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        if (MY_SQL_CONTAINER == null) {
+            return;
+        }
         registry.add("spring.datasource.url", MY_SQL_CONTAINER::getJdbcUrl);
         registry.add("spring.datasource.username", MY_SQL_CONTAINER::getUsername);
         registry.add("spring.datasource.password", MY_SQL_CONTAINER::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:mysql://" + MY_SQL_CONTAINER.getHost() + ":" + MY_SQL_CONTAINER.getMappedPort(MySQLContainer.MYSQL_PORT)
+                + "/" + MY_SQL_CONTAINER.getDatabaseName());
+        registry.add("spring.r2dbc.username", MY_SQL_CONTAINER::getUsername);
+        registry.add("spring.r2dbc.password", MY_SQL_CONTAINER::getPassword);
+    }
+
+    //The profiles are read the same way Spring Boot reads them: from the system property first, then from the environment variable.
+    static boolean isEmbeddedProfileActive() {
+        String profiles = System.getProperty("spring.profiles.active", System.getenv("SPRING_PROFILES_ACTIVE"));
+        return Arrays.asList(StringUtils.commaDelimitedListToStringArray(StringUtils.trimAllWhitespace(profiles))).contains("embedded");
     }
 
 
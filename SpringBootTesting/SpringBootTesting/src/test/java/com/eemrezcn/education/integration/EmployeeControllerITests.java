@@ -233,4 +233,25 @@ public class EmployeeControllerITests
         response.andExpect(status().isOk())
                 .andDo(print());
     }
+
+    /*This test method deletes two saved employees and one unknown ID with a single HTTP DELETE request and verifies that the response reports
+    two deleted employees. Deleting one of them again then returns 404 (Not Found), because no row is affected anymore.*/
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception{
+
+        List<Employee> savedEmployees = employeeRepository.saveAll(List.of(
+                Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build(),
+                Employee.builder().firstName("Tony").lastName("Stark").email("tony@gmail.com").build()));
+        long firstId = savedEmployees.get(0).getId();
+        long secondId = savedEmployees.get(1).getId();
+
+        ResultActions response = mockMvc.perform(delete("/api/employees")
+                .param("ids", firstId + "," + secondId + "," + (secondId + 1000)));
+
+        response.andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("2 employees deleted successfully!."))
+                .andDo(print());
+        mockMvc.perform(delete("/api/employees/{id}", firstId))
+                .andExpect(status().isNotFound());
+    }
 }
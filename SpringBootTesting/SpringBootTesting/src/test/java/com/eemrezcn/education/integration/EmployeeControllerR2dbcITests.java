@@ -0,0 +1,10 @@
+package com.eemrezcn.education.integration;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/*This Test Class Runs All Tests Of EmployeeControllerITests Again With The "r2dbc" Profile, So The Controller Reaches The Database Through The
+Non-Blocking Employee Service Instead Of Jpa And Has To Answer Every Request Exactly As Before. It Uses The H2 Database Of The "embedded" Profile.*/
+@ActiveProfiles({"embedded", "r2dbc"})
+public class EmployeeControllerR2dbcITests extends EmployeeControllerITests
+{
+}
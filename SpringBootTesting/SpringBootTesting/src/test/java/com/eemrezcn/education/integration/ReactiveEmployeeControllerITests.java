@@ -0,0 +1,118 @@
+package com.eemrezcn.education.integration;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*This Test Class Sends Requests To The ReactiveEmployeeController Of The "r2dbc" Profile On The H2 Database Of The "embedded" Profile. Every Request
+Is Handled Asynchronously: The First Dispatch Only Starts It And Releases The Request Thread, And The Response Is Written By The Async Dispatch.*/
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "r2dbc"})
+public class ReactiveEmployeeControllerITests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employee = employeeRepository.save(Employee.builder().firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+    }
+
+    //JUnit Test For Reading An Employee Without Holding The Request Thread
+    @DisplayName("JUnit test for getEmployeeById on the reactive controller")
+    @Test
+    public void givenSavedEmployee_whenGetEmployeeById_thenRequestIsAnsweredAsynchronously() throws Exception {
+        // when -  action or the behaviour that we are going test
+        MvcResult started = mockMvc.perform(get("/api/reactive/employees/{id}", employee.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then - verify the output
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(jsonPath("$.email", is("ramesh@gmail.com")));
+        perform(get("/api/reactive/employees/{id}", employee.getId() + 1000)).andExpect(status().isNotFound());
+    }
+
+    //JUnit Test For Updating And Deleting An Employee
+    @DisplayName("JUnit test for updateEmployee and deleteEmployee on the reactive controller")
+    @Test
+    public void givenSavedEmployee_whenUpdateAndDeleteEmployee_thenVersionsAreChecked() throws Exception {
+        // given - precondition or setup
+        String changes = objectMapper.writeValueAsString(Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build());
+
+        // when -  action or the behaviour that we are going test
+        perform(put("/api/reactive/employees/{id}", employee.getId()).contentType(MediaType.APPLICATION_JSON).content(changes)
+                .header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        perform(put("/api/reactive/employees/{id}", employee.getId()).contentType(MediaType.APPLICATION_JSON).content(changes)
+                .header(HttpHeaders.IF_MATCH, "\"0\""))
+                .andExpect(status().isPreconditionFailed());
+        perform(put("/api/reactive/employees/{id}", employee.getId()).contentType(MediaType.APPLICATION_JSON).content(changes))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+        perform(delete("/api/reactive/employees/{id}", employee.getId())).andExpect(status().isOk());
+
+        // then - verify the output
+        perform(delete("/api/reactive/employees/{id}", employee.getId())).andExpect(status().isNotFound());
+        assertThat(employeeRepository.count()).isZero();
+    }
+
+    //JUnit Test For Streaming All Employees
+    @DisplayName("JUnit test for streaming all employees as ndjson on the reactive controller")
+    @Test
+    public void givenSeveralEmployees_whenStreamEmployees_thenOneLineIsWrittenPerEmployee() throws Exception {
+        // given - precondition or setup
+        employeeRepository.saveAll(List.of(
+                Employee.builder().firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build(),
+                Employee.builder().firstName("Ali").lastName("Ozcan").email("ali@gmail.com").build()));
+
+        // when -  action or the behaviour that we are going test
+        MvcResult result = perform(get("/api/reactive/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then - verify the output
+        List<String> lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines.get(0), Employee.class).getEmail()).isEqualTo("ramesh@gmail.com");
+    }
+
+    //Sends The Request And Returns The Result Of Its Async Dispatch.
+    private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+}
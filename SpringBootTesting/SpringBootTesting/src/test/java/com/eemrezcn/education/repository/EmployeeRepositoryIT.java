@@ -1,6 +1,7 @@
 package com.eemrezcn.education.repository;
 
 
+import com.eemrezcn.education.config.IdSequenceAlignment;
 import com.eemrezcn.education.integration.AbstractContainerBaseTest;
 import com.eemrezcn.education.model.Employee;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,7 +10,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +24,19 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @DataJpaTest //"This Java Spring Boot Annotation Is Used To Test Database Operations Based On Jpa (Java Persistence Api)."
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE) //"This Java Spring Boot Annotation Is Used To Automatically Configure The Test Database Setup."
 
+@Import(IdSequenceAlignment.class) //"This Annotation Adds The IdSequenceAlignment, Which Is Not Part Of A Jpa Test Slice, To The Test Context."
 public class EmployeeRepositoryIT extends AbstractContainerBaseTest {
 
     //This code injects a Spring-managed EmployeeRepository component.
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private IdSequenceAlignment idSequenceAlignment;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Employee employee;
 
     @BeforeEach
@@ -243,4 +256,33 @@ public class EmployeeRepositoryIT extends AbstractContainerBaseTest {
         assertThat(savedEmployee).isNotNull();
     }
 
+    /*This test method covers an employees table that already holds an employee with a higher id than the sequence, like a table whose ids came
+    from the auto-increment column before the sequence was added. After the sequence is aligned, more employees than one block of ids are saved,
+    so Hibernate has to read the sequence again, and none of them may get an id that is already used. The test runs without a transaction,
+    because Hibernate reads the sequence on its own connection.*/
+    @DisplayName("JUnit test for align id sequence operation")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenEmployeeWithIdAboveSequence_whenAlignAndSaveEmployees_thenIdsDoNotCollide(){
+
+        //given - precondition or setup
+        jdbcTemplate.update("insert into employees (id, first_name, last_name, email, version) values (1000, 'Emre', 'Ozcan', 'eozcan@gmail.com', 0)");
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i <= Employee.ID_ALLOCATION_SIZE; i++) {
+            employees.add(Employee.builder().firstName("Emre" + i).lastName("Ozcan").email("eozcan" + i + "@gmail.com").build());
+        }
+
+        try {
+            //when -  action or the behaviour that we are going test
+            idSequenceAlignment.align("employees", "employees_seq", Employee.ID_ALLOCATION_SIZE);
+            List<Employee> savedEmployees = employeeRepository.saveAllAndFlush(employees);
+
+            //then - verify the output
+            assertThat(savedEmployees.stream().noneMatch(savedEmployee -> savedEmployee.getId() == 1000L)).isTrue();
+            assertThat(savedEmployees.stream().anyMatch(savedEmployee -> savedEmployee.getId() > 1000L)).isTrue();
+        } finally {
+            employeeRepository.deleteAllInBatch();
+        }
+    }
+
 }
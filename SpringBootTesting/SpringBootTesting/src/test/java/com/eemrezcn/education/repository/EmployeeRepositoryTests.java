@@ -2,11 +2,14 @@ package com.eemrezcn.education.repository;
 
 
 import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +22,10 @@ public class EmployeeRepositoryTests {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    //This code injects a JdbcTemplate, which is used to ask the H2 database for its query plans.
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Employee employee;
 
     /*The @BeforeEach annotated setUp method is used as a preparation method that runs before each test method, creating a specific Employee
@@ -78,6 +85,27 @@ public class EmployeeRepositoryTests {
 
     }
 
+    /*This JUnit test validates the keyset pagination query. It saves three employees and reads them in pages of two, passing the id of the last
+    employee of the first page as the cursor of the second page. The test checks that every employee is returned exactly once and in id order.*/
+    @DisplayName("JUnit test for keyset pagination operation")
+    @Test
+    public void givenEmployeesList_whenFindByIdGreaterThan_thenReturnPagesInIdOrder(){
+        Employee employee1 = Employee.builder().firstName("Ali").lastName("Ozcan").email("ali@gmail,com").build();
+        Employee employee2 = Employee.builder().firstName("Ayse").lastName("Ozcan").email("ayse@gmail,com").build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+        employeeRepository.save(employee2);
+
+        List<Employee> firstPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(2));
+        List<Employee> secondPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(firstPage.get(1).getId(), PageRequest.ofSize(2));
+
+        assertThat(firstPage.size()).isEqualTo(2);
+        assertThat(firstPage.get(0).getId()).isEqualTo(employee.getId());
+        assertThat(firstPage.get(1).getId()).isEqualTo(employee1.getId());
+        assertThat(secondPage.size()).isEqualTo(1);
+        assertThat(secondPage.get(0).getId()).isEqualTo(employee2.getId());
+    }
+
     /*This JUnit test verifies the "get employee by id" operation. It creates an employee object, saves it to the repository, and then retrieves
     the employee by its ID using the findById method. The test checks that the obtained employee object is not null, confirming the successful execution
     of the "get employee by id" operation.*/
@@ -154,6 +182,33 @@ public class EmployeeRepositoryTests {
         assertThat(employeeOptional).isEmpty();
     }
 
+    /*This JUnit test validates the direct delete operations. Each of them deletes the rows with a single delete statement and returns the number
+    of deleted rows, which is 0 for an employee that does not exist.*/
+    @DisplayName("JUnit test for direct delete employee operations")
+    @Test
+    public void givenEmployeeObjects_whenDeleteEmployeeById_thenReturnDeletedRows(){
+        // given - precondition or setup
+        Employee otherEmployee = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail,com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(otherEmployee);
+        employeeRepository.flush();
+
+        // when -  action or the behaviour that we are going test
+        int deletedRows = employeeRepository.deleteEmployeeById(employee.getId());
+        int deletedAgain = employeeRepository.deleteEmployeeById(employee.getId());
+        int deletedOthers = employeeRepository.deleteEmployeesByIdIn(List.of(employee.getId(), otherEmployee.getId()));
+
+        // then - verify the output
+        assertThat(deletedRows).isEqualTo(1);
+        assertThat(deletedAgain).isEqualTo(0);
+        assertThat(deletedOthers).isEqualTo(1);
+        assertThat(employeeRepository.count()).isEqualTo(0);
+    }
+
     /*This JUnit test examines the execution of a custom query using JPQL (Java Persistence Query Language) with an index. It creates an employee object,
     saves it to the repository, and then retrieves the employee using a specific first name and last name with a custom JPQL query.
     The test checks that the obtained employee object is not null, confirming the successful execution of the custom JPQL query with an index.*/
@@ -236,4 +291,66 @@ public class EmployeeRepositoryTests {
         assertThat(savedEmployee).isNotNull();
     }
 
-}
\ No newline at end of file
+    /*This JUnit test saves two employees with the same last name and reads their names with the projection query. It checks that only the
+    id, first name and last name are returned and that the employees are ordered by first name.*/
+    @DisplayName("JUnit test for name projection ordered by first name")
+    @Test
+    public void givenEmployeesWithSameLastName_whenFindNamesByLastName_thenReturnNamesOrderedByFirstName(){
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Ali")
+                .lastName("Fadatare")
+                .email("ali@gmail,com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        // when - action or the behaviour that we are going test
+        List<EmployeeNameView> names = employeeRepository.findNamesByLastNameOrderByFirstNameAsc("Fadatare");
+        List<EmployeeNameView> ramesh = employeeRepository.findNamesByFirstNameAndLastName("Ramesh", "Fadatare");
+
+        // then - verify the output
+        assertThat(names.size()).isEqualTo(2);
+        assertThat(names.get(0).getFirstName()).isEqualTo("Ali");
+        assertThat(names.get(1).getFirstName()).isEqualTo("Ramesh");
+        assertThat(ramesh.size()).isEqualTo(1);
+        assertThat(ramesh.get(0).getId()).isEqualTo(employee.getId());
+    }
+
+    /*This JUnit test searches employees by the beginning of their last name or email. A first name alone is not searched, and a '_' in a word
+    only matches itself. The plan of the last name condition shows that it is answered with the composite name index.*/
+    @DisplayName("JUnit test for prefix search on last name and email")
+    @Test
+    public void givenEmployees_whenFindByLastNameOrEmailStartingWith_thenOnlyIndexedPrefixesMatch(){
+        // given - precondition or setup
+        employeeRepository.save(employee);
+        employeeRepository.save(Employee.builder().firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build());
+        employeeRepository.save(Employee.builder().firstName("Ozan").lastName("Kaya").email("kaya@gmail.com").build());
+        employeeRepository.save(Employee.builder().firstName("Ali").lastName("Axb").email("a_b@gmail.com").build());
+
+        // when - action or the behaviour that we are going test
+        List<Employee> byLastName = employeeRepository.findByLastNameOrEmailStartingWith(List.of("oz"), 10);
+        List<Employee> byEmail = employeeRepository.findByLastNameOrEmailStartingWith(List.of("fada", "a_b"), 10);
+        String plan = jdbcTemplate.queryForObject("explain select * from employees e where e.last_name like 'Oz%'", String.class);
+
+        // then - verify the output
+        assertThat(byLastName.size()).isEqualTo(1);
+        assertThat(byLastName.get(0).getLastName()).isEqualTo("Ozcan");
+        assertThat(byEmail.stream().map(Employee::getLastName).sorted().toList()).isEqualTo(List.of("Axb", "Fadatare"));
+        assertThat(plan.toLowerCase()).contains(Employee.NAME_INDEX);
+    }
+
+    /*This JUnit test asks the database for the plan of the native first name and last name query and checks that it is answered with the
+    composite name index created from the entity mapping instead of a full table scan.*/
+    @DisplayName("JUnit test for name query using the composite index")
+    @Test
+    public void givenFirstNameAndLastName_whenExplainNativeQuery_thenNameIndexIsUsed(){
+        // when - action or the behaviour that we are going test
+        String plan = jdbcTemplate.queryForObject(
+                "explain select * from employees e where e.first_name = 'Ramesh' and e.last_name = 'Fadatare'", String.class);
+
+        // then - verify the output
+        assertThat(plan.toLowerCase()).contains(Employee.NAME_INDEX);
+    }
+
+}
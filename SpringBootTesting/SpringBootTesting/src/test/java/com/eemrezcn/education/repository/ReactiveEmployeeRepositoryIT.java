@@ -0,0 +1,59 @@
+package com.eemrezcn.education.repository;
+
+import com.eemrezcn.education.integration.AbstractContainerBaseTest;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This Test Class Starts The Application With The "r2dbc" Profile On The Mysql Docker Container Of The AbstractContainerBaseTest, So The Ids Of
+The ReactiveEmployeeRepository Are Reserved From The 'employees_seq' Table With The Mysql R2dbc Driver, Like In Production. The Profile Is Included
+Instead Of Activated, So With "mvn test -Pembedded" The Same Test Runs On H2.*/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "spring.profiles.include=r2dbc")
+public class ReactiveEmployeeRepositoryIT extends AbstractContainerBaseTest {
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    public void setUp() {
+        employeeRepository.deleteAllInBatch();
+    }
+
+    //JUnit Test For Reserving Several Blocks Of Ids
+    @DisplayName("JUnit test for save employees over more than one block of ids on r2dbc")
+    @Test
+    public void givenMoreEmployeesThanOneIdBlock_whenSaveEmployees_thenIdsAreUnique() {
+        // given - precondition or setup
+        Employee jpaEmployee = employeeRepository.save(Employee.builder().firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build());
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 2 * ReactiveEmployeeRepository.ID_ALLOCATION_SIZE + 1; i++) {
+            employees.add(Employee.builder().firstName("Employee").lastName("R2dbc").email("employee" + i + "@gmail.com").build());
+        }
+
+        // when -  action or the behaviour that we are going test
+        List<Employee> savedEmployees = reactiveEmployeeService.saveEmployees(employees).collectList().block();
+        Employee savedEmployee = reactiveEmployeeService.saveEmployee(
+                Employee.builder().firstName("Single").lastName("R2dbc").email("single@gmail.com").build()).block();
+        Employee nextJpaEmployee = employeeRepository.save(Employee.builder().firstName("Ali").lastName("Ozcan").email("ali@gmail.com").build());
+
+        // then - verify the output
+        List<Long> ids = new ArrayList<>(savedEmployees.stream().map(Employee::getId).toList());
+        ids.add(savedEmployee.getId());
+        ids.add(jpaEmployee.getId());
+        ids.add(nextJpaEmployee.getId());
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(employeeRepository.count()).isEqualTo(employees.size() + 3L);
+    }
+}
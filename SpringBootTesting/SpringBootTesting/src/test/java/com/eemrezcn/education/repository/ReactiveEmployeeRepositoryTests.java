@@ -0,0 +1,129 @@
+package com.eemrezcn.education.repository;
+
+import com.eemrezcn.education.exception.ResourceNotFoundException;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.model.EmployeeNameView;
+import com.eemrezcn.education.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This Test Class Starts The Application With The "r2dbc" Profile On The H2 Database Of The "embedded" Profile And Verifies The Queries Of The
+ReactiveEmployeeRepository Through The ReactiveEmployeeService. The Jpa EmployeeRepository Is Used To Prepare The Data, So The Tests Also Verify
+That Both Read And Write The Same Rows.*/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles({"embedded", "r2dbc"})
+public class ReactiveEmployeeRepositoryTests {
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setUp() {
+        employeeRepository.deleteAllInBatch();
+        employee = Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build();
+    }
+
+    //JUnit Test For Find By Email
+    @DisplayName("JUnit test for find by email operation on r2dbc")
+    @Test
+    public void givenSavedEmployee_whenGetEmployeeByEmail_thenReturnEmployeeObject() {
+        // given - precondition or setup
+        Employee savedEmployee = reactiveEmployeeService.saveEmployee(employee).block();
+
+        // when -  action or the behaviour that we are going test
+        StepVerifier.create(reactiveEmployeeService.getEmployeeByEmail("ramesh@gmail.com"))
+
+        // then - verify the output
+                .assertNext(foundEmployee -> {
+                    assertThat(foundEmployee).usingRecursiveComparison().isEqualTo(savedEmployee);
+                    assertThat(foundEmployee.getVersion()).isZero();
+                })
+                .verifyComplete();
+        assertThat(employeeRepository.findById(savedEmployee.getId()).orElseThrow()).usingRecursiveComparison().isEqualTo(savedEmployee);
+        StepVerifier.create(reactiveEmployeeService.getEmployeeByEmail("nobody@gmail.com")).verifyComplete();
+    }
+
+    //JUnit Test For The First And Last Name Lookups
+    @DisplayName("JUnit test for find names by first name and last name on r2dbc")
+    @Test
+    public void givenEmployeesWithSameLastName_whenGetEmployeeNames_thenReturnMatchingNames() {
+        // given - precondition or setup
+        employeeRepository.saveAll(List.of(employee,
+                Employee.builder().firstName("Ali").lastName("Fadatare").email("ali@gmail.com").build(),
+                Employee.builder().firstName("Ramesh").lastName("Ozcan").email("ozcan@gmail.com").build()));
+
+        // when -  action or the behaviour that we are going test
+        List<String> firstNames = reactiveEmployeeService.getEmployeeNamesByLastName("Fadatare").map(EmployeeNameView::getFirstName).collectList().block();
+        List<EmployeeNameView> names = reactiveEmployeeService.getEmployeeNames("Ramesh", "Fadatare").collectList().block();
+
+        // then - verify the output
+        assertThat(firstNames).containsExactly("Ali", "Ramesh");
+        assertThat(names).hasSize(1);
+        assertThat(names.get(0).getId()).isEqualTo(employee.getId());
+        assertThat(names.get(0).getLastName()).isEqualTo("Fadatare");
+    }
+
+    //JUnit Test For Saving Employees Next To Employees Saved By Hibernate
+    @DisplayName("JUnit test for save employees and duplicate emails on r2dbc")
+    @Test
+    public void givenEmployeesSavedByJpa_whenSaveEmployees_thenIdsAreUniqueAndDuplicateEmailsAreRejected() {
+        // given - precondition or setup
+        Employee jpaEmployee = employeeRepository.save(employee);
+
+        // when -  action or the behaviour that we are going test
+        List<Employee> savedEmployees = reactiveEmployeeService.saveEmployees(List.of(
+                Employee.builder().firstName("Ali").lastName("Ozcan").email("ali@gmail.com").build(),
+                Employee.builder().firstName("Ayse").lastName("Ozcan").email("ayse@gmail.com").build())).collectList().block();
+        Employee nextJpaEmployee = employeeRepository.save(Employee.builder().firstName("Emre").lastName("Ozcan").email("emre@gmail.com").build());
+
+        // then - verify the output
+        assertThat(savedEmployees).extracting(Employee::getId).doesNotContainNull().doesNotContain(jpaEmployee.getId(), nextJpaEmployee.getId());
+        assertThat(employeeRepository.count()).isEqualTo(4);
+        StepVerifier.create(reactiveEmployeeService.saveEmployee(Employee.builder().firstName("Copy").lastName("Copy").email("ali@gmail.com").build()))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        StepVerifier.create(reactiveEmployeeService.saveEmployees(List.of(
+                        Employee.builder().firstName("New").lastName("New").email("new@gmail.com").build(),
+                        Employee.builder().firstName("Copy").lastName("Copy").email("ayse@gmail.com").build())))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+        assertThat(employeeRepository.findByEmail("new@gmail.com")).isEmpty();
+    }
+
+    //JUnit Test For Updating An Outdated Copy
+    @DisplayName("JUnit test for update employee from an outdated copy on r2dbc")
+    @Test
+    public void givenOutdatedCopy_whenUpdateEmployee_thenFailsWithOptimisticLockingFailure() {
+        // given - precondition or setup
+        Employee savedEmployee = reactiveEmployeeService.saveEmployee(employee).block();
+        Employee updatedEmployee = reactiveEmployeeService.updateEmployee(savedEmployee.toBuilder().firstName("Ram").build()).block();
+
+        // when -  action or the behaviour that we are going test
+        StepVerifier.create(reactiveEmployeeService.updateEmployee(savedEmployee.toBuilder().firstName("Old").build()))
+
+        // then - verify the output
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        assertThat(updatedEmployee.getVersion()).isEqualTo(1);
+        assertThat(employeeRepository.findById(savedEmployee.getId()).orElseThrow()).usingRecursiveComparison().isEqualTo(updatedEmployee);
+    }
+}
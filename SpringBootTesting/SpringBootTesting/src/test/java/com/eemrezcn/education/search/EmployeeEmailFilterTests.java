@@ -0,0 +1,141 @@
+package com.eemrezcn.education.search;
+
+import com.eemrezcn.education.model.EmployeeEmail;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeEmailFilterTests {
+
+    //This Mock Stands For The Database, From Which The Filter Is Filled When The Application Is Ready.
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeEmailFilter employeeEmailFilter;
+
+    //Counts How Often The Filter Lets A Lookup Reach The Database, Which Knows The Emails Of The Employees 1 To 3000 In Any Case.
+    private final AtomicInteger databaseLookups = new AtomicInteger();
+
+    private final Function<String, Optional<String>> database = email -> {
+        databaseLookups.incrementAndGet();
+        return email.matches("(?i)employee([1-9]|[1-9][0-9]{1,2}|[12][0-9]{3}|3000)@gmail.com") ? Optional.of(email) : Optional.empty();
+    };
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeEmailFilter = new EmployeeEmailFilter(employeeRepository, meterRegistry);
+    }
+
+    //JUnit Test For Lookups Before The Filter Was Filled
+    @DisplayName("JUnit test for lookups before the email filter is filled")
+    @Test
+    public void givenUnfilledFilter_whenLookup_thenDatabaseIsAlwaysAsked() {
+        // when -  action or the behaviour that we are going test
+        Optional<String> unknown = employeeEmailFilter.lookup("nobody@gmail.com", database);
+
+        // then - verify the output
+        assertThat(unknown).isEmpty();
+        assertThat(databaseLookups).hasValue(1);
+        assertThat(meterRegistry.get(EmployeeEmailFilter.LOOKUPS_METRIC).tag("result", "skipped").counter().count()).isZero();
+    }
+
+    //JUnit Test For Filling The Filter In The Background
+    @DisplayName("JUnit test for filling the email filter when the application is ready")
+    @Test
+    public void givenSlowDatabase_whenApplicationReady_thenLookupsAskTheDatabaseUntilTheFilterIsFilled() throws InterruptedException {
+        // given - precondition or setup
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch databaseAnswers = new CountDownLatch(1);
+        given(employeeRepository.count()).willAnswer(invocation -> {
+            scanStarted.countDown();
+            databaseAnswers.await(10, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        // when -  action or the behaviour that we are going test
+        employeeEmailFilter.onApplicationEvent(null);
+
+        // then - verify the output
+        assertThat(scanStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(employeeEmailFilter.lookup("nobody@gmail.com", database)).isEmpty();
+        assertThat(databaseLookups).hasValue(1);
+        databaseAnswers.countDown();
+    }
+
+    //JUnit Test For Filling The Filter From The Database And Skipping The Lookups Of Unknown Emails
+    @DisplayName("JUnit test for rebuilding the email filter page by page")
+    @Test
+    public void givenMoreEmployeesThanOnePage_whenRebuild_thenOnlyKnownEmailsAreLookedUp() {
+        // given - precondition or setup
+        given(employeeRepository.count()).willReturn(3000L);
+        given(employeeRepository.findEmailsByIdGreaterThanOrderByIdAsc(anyLong(), any(PageRequest.class)))
+                .willReturn(page(1, EmployeeEmailFilter.LOAD_PAGE_SIZE), page(1001, EmployeeEmailFilter.LOAD_PAGE_SIZE),
+                        page(2001, EmployeeEmailFilter.LOAD_PAGE_SIZE), List.of());
+
+        // when -  action or the behaviour that we are going test
+        employeeEmailFilter.rebuild();
+
+        // then - verify the output
+        for (int id = 1; id <= 3000; id++) {
+            assertThat(employeeEmailFilter.lookup("Employee" + id + "@gmail.com", database)).isPresent();
+        }
+        databaseLookups.set(0);
+        for (int id = 3001; id <= 13000; id++) {
+            assertThat(employeeEmailFilter.lookup("employee" + id + "@gmail.com", database)).isEmpty();
+        }
+        double falsePositiveRatio = meterRegistry.get("ems.employee.email.filter.false.positive.ratio").gauge().value();
+        assertThat(databaseLookups.get()).isLessThan(300);
+        assertThat(falsePositiveRatio).isEqualTo(databaseLookups.get() / 10000.0);
+        assertThat(meterRegistry.get(EmployeeEmailFilter.LOOKUPS_METRIC).tag("result", "skipped").counter().count())
+                .isEqualTo(10000 - databaseLookups.get());
+        assertThat(meterRegistry.get(EmployeeEmailFilter.LOOKUPS_METRIC).tag("result", "found").counter().count()).isEqualTo(3000);
+    }
+
+    //JUnit Test For Adding The Emails Of Saved Employees
+    @DisplayName("JUnit test for add on the email filter")
+    @Test
+    public void givenSavedEmployee_whenAdd_thenItsEmailIsLookedUp() {
+        // given - precondition or setup
+        given(employeeRepository.count()).willReturn(0L);
+        given(employeeRepository.findEmailsByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(EmployeeEmailFilter.LOAD_PAGE_SIZE))).willReturn(List.of());
+        employeeEmailFilter.rebuild();
+
+        // when -  action or the behaviour that we are going test
+        employeeEmailFilter.add("employee7@gmail.com");
+
+        // then - verify the output
+        assertThat(employeeEmailFilter.lookup("employee7@gmail.com", database)).isPresent();
+        assertThat(databaseLookups).hasValue(1);
+    }
+
+    private static List<EmployeeEmail> page(long firstId, int size) {
+        List<EmployeeEmail> page = new ArrayList<>();
+        for (long id = firstId; id < firstId + size; id++) {
+            page.add(new EmployeeEmail(id, "employee" + id + "@gmail.com"));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,147 @@
+package com.eemrezcn.education.search;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSearchIndexTests {
+
+    //This Mock Stands For The Database, From Which The Index Is Filled When The Application Is Ready.
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @BeforeEach
+    public void setup() {
+        employeeSearchIndex = new EmployeeSearchIndex(employeeRepository);
+        employeeSearchIndex.rebuild();
+        employeeSearchIndex.put(employee(1L, "Emre", "Ozcan", "emre@gmail.com"));
+        employeeSearchIndex.put(employee(2L, "Emre Can", "Ozkan", "ecan@gmail.com"));
+        employeeSearchIndex.put(employee(3L, "Ayse", "Emrealp", "ayse@gmail.com"));
+        employeeSearchIndex.put(employee(4L, "Ali", "Veli", "emrah.veli@hotmail.com"));
+    }
+
+    //JUnit Test For The Ranking Of Exact And Prefix Matches
+    @DisplayName("JUnit test for search with exact and prefix matches")
+    @Test
+    public void givenIndexedEmployees_whenSearch_thenExactMatchesComeBeforePrefixMatches() {
+        // when -  action or the behaviour that we are going test
+        List<Employee> employees = employeeSearchIndex.search("emr", 10);
+        List<Employee> exactFirst = employeeSearchIndex.search("EMRE", 10);
+
+        // then - verify the output
+        assertThat(employees).extracting(Employee::getId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(exactFirst).extracting(Employee::getId).containsExactly(1L, 2L, 3L);
+        assertThat(exactFirst.get(0).getEmail()).isEqualTo("emre@gmail.com");
+    }
+
+    //JUnit Test For A Query With Several Words And A Typo
+    @DisplayName("JUnit test for search with several words and a typo")
+    @Test
+    public void givenQueryWithTypo_whenSearch_thenEveryWordMustMatchASimilarName() {
+        // when -  action or the behaviour that we are going test
+        List<Employee> employees = employeeSearchIndex.search("emre ozcen", 10);
+
+        // then - verify the output
+        assertThat(employees).extracting(Employee::getId).containsExactly(1L);
+        assertThat(employeeSearchIndex.search("emre oz", 10)).extracting(Employee::getId).containsExactly(1L, 2L);
+        assertThat(employeeSearchIndex.search("zzz", 10)).isEmpty();
+        assertThat(employeeSearchIndex.search("  ", 10)).isEmpty();
+    }
+
+    //JUnit Test For Keeping The Index Up To Date
+    @DisplayName("JUnit test for put and remove on the search index")
+    @Test
+    public void givenUpdatedAndDeletedEmployees_whenSearch_thenOnlyTheCurrentNamesAreFound() {
+        // given - precondition or setup
+        Employee renamed = employee(1L, "Yunus", "Ozcan", "yunus@gmail.com");
+        renamed.setVersion(1);
+        employeeSearchIndex.put(renamed);
+        employeeSearchIndex.put(employee(1L, "Outdated", "Copy", "outdated@gmail.com"));
+
+        // when -  action or the behaviour that we are going test
+        employeeSearchIndex.remove(2L);
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("emre", 10)).extracting(Employee::getId).containsExactly(3L);
+        assertThat(employeeSearchIndex.search("yunus@", 10)).extracting(Employee::getFirstName).containsExactly("Yunus");
+        assertThat(employeeSearchIndex.search("outdated", 10)).isEmpty();
+        assertThat(employeeSearchIndex.size()).isEqualTo(3);
+    }
+
+    //JUnit Test For A Save That Reaches The Index After The Delete Of The Same Employee
+    @DisplayName("JUnit test for put after remove on the search index")
+    @Test
+    public void givenRemovedEmployee_whenOutdatedCopyIsPut_thenEmployeeStaysRemoved() {
+        // given - precondition or setup
+        employeeSearchIndex.remove(1L);
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(EmployeeSearchIndex.LOAD_PAGE_SIZE)))
+                .willReturn(List.of(employee(1L, "Emre", "Ozcan", "emre@gmail.com")));
+
+        // when -  action or the behaviour that we are going test
+        employeeSearchIndex.put(employee(1L, "Emre", "Ozcan", "emre@gmail.com"));
+        employeeSearchIndex.rebuild();
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.search("ozcan", 10)).isEmpty();
+        assertThat(employeeSearchIndex.size()).isZero();
+    }
+
+    //JUnit Test For Searches Before The Index Was Filled
+    @DisplayName("JUnit test for search before the search index is filled")
+    @Test
+    public void givenUnfilledIndex_whenSearch_thenDatabaseIsSearched() {
+        // given - precondition or setup
+        EmployeeSearchIndex unfilledIndex = new EmployeeSearchIndex(employeeRepository);
+        given(employeeRepository.findByLastNameOrEmailStartingWith(List.of("em", "ozc"), EmployeeSearchIndex.MAX_CANDIDATES))
+                .willReturn(List.of(employee(1L, "Emre", "Ozcan", "emre@gmail.com"), employee(5L, "Ozcan", "Kaya", "ozcan@gmail.com")));
+
+        // when -  action or the behaviour that we are going test
+        List<Employee> employees = unfilledIndex.search("em ozc", 10);
+
+        // then - verify the output
+        assertThat(unfilledIndex.isReady()).isFalse();
+        assertThat(employees).extracting(Employee::getId).containsExactly(1L);
+    }
+
+    //JUnit Test For Filling The Index From The Database
+    @DisplayName("JUnit test for rebuilding the search index page by page")
+    @Test
+    public void givenMoreEmployeesThanOnePage_whenRebuild_thenAllEmployeesAreIndexed() {
+        // given - precondition or setup
+        List<Employee> firstPage = new ArrayList<>();
+        for (long id = 1; id <= EmployeeSearchIndex.LOAD_PAGE_SIZE; id++) {
+            firstPage.add(employee(id, "First" + id, "Last", "employee" + id + "@gmail.com"));
+        }
+        long lastId = EmployeeSearchIndex.LOAD_PAGE_SIZE;
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(EmployeeSearchIndex.LOAD_PAGE_SIZE))).willReturn(firstPage);
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(EmployeeSearchIndex.LOAD_PAGE_SIZE)))
+                .willReturn(List.of(employee(lastId + 1, "Emre", "Ozcan", "emre@gmail.com")));
+
+        // when -  action or the behaviour that we are going test
+        employeeSearchIndex.rebuild();
+
+        // then - verify the output
+        assertThat(employeeSearchIndex.size()).isEqualTo(EmployeeSearchIndex.LOAD_PAGE_SIZE + 1);
+        assertThat(employeeSearchIndex.search("emre", 10)).extracting(Employee::getId).containsExactly(lastId + 1);
+        assertThat(employeeSearchIndex.search("ayse", 10)).isEmpty();
+    }
+
+    private static Employee employee(long id, String firstName, String lastName, String email) {
+        return Employee.builder().id(id).firstName(firstName).lastName(lastName).email(email).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.eemrezcn.education.service;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This Test Class Measures How Fast Employees Are Inserted One By One Compared With The Batched saveEmployees Method, Using An Embedded H2 Database.
+Hibernate Statistics Are Enabled So That The Number Of Prepared Statements Of Both Paths Can Be Compared.*/
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+public class EmployeeServiceBatchTests {
+
+    private static final int EMPLOYEE_COUNT = 2_000;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /*This Test Saves The Same Number Of Employees Once With A Separate saveEmployee Call Per Row And Once With A Single saveEmployees Call.
+    The Rows Per Second Of Both Paths Are Printed, And The Batched Path Must Need Far Fewer Prepared Statements Than Rows.*/
+    @DisplayName("JUnit test for saveEmployees rows per second compared with single inserts")
+    @Test
+    public void givenThousandsOfEmployees_whenSaveEmployees_thenInsertsAreBatched() {
+        // given - precondition or setup
+        long singleStart = System.nanoTime();
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            employeeService.saveEmployee(newEmployee("single", i));
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+        long singleStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            employees.add(newEmployee("batch", i));
+        }
+
+        // when -  action or the behaviour that we are going test
+        long batchStart = System.nanoTime();
+        List<Employee> savedEmployees = employeeService.saveEmployees(employees);
+        long batchNanos = System.nanoTime() - batchStart;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("single inserts:  %d statements, %.0f rows/sec%n", singleStatements, rowsPerSecond(singleNanos));
+        System.out.printf("batched inserts: %d statements, %.0f rows/sec%n", batchStatements, rowsPerSecond(batchNanos));
+
+        // then - verify the output
+        assertThat(savedEmployees).hasSize(EMPLOYEE_COUNT);
+        assertThat(savedEmployees).allMatch(employee -> employee.getId() != null);
+        assertThat(employeeRepository.count()).isEqualTo(2L * EMPLOYEE_COUNT);
+        assertThat(batchStatements).isLessThan(EMPLOYEE_COUNT / 10);
+    }
+
+    private static Employee newEmployee(String prefix, int index) {
+        return Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email(prefix + index + "@gmail.com")
+                .build();
+    }
+
+    private static double rowsPerSecond(long nanos) {
+        return EMPLOYEE_COUNT / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,175 @@
+package com.eemrezcn.education.service;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This Test Class Runs The Real EmployeeService With The Second-Level Cache And The Query Cache Enabled Against An Embedded H2 Database.
+It Uses The Hibernate Statistics To Verify Which Reads Are Served From The Cache And Which Reach The Database.*/
+@SpringBootTest(properties = "employee.cache.enabled=true")
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+public class EmployeeServiceCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email("ramesh@gmail.com")
+                .build());
+        statistics.clear();
+    }
+
+    /*This Test Reads The Same Employee Twice And Verifies That Neither Read Runs A Select Statement, Because Saving The Employee Already Put It
+    Into The Cache, And That The Hit Ratio Metric Of The Employee Region Reflects The Hits.*/
+    @DisplayName("JUnit test for getEmployeeById served from the second-level cache")
+    @Test
+    public void givenSavedEmployee_whenGetEmployeeByIdTwice_thenNoSelectIsExecuted() {
+        // when -  action or the behaviour that we are going test
+        Optional<Employee> first = employeeService.getEmployeeById(employee.getId());
+        Optional<Employee> second = employeeService.getEmployeeById(employee.getId());
+
+        // then - verify the output
+        assertThat(first).isPresent();
+        assertThat(second.get().getEmail()).isEqualTo("ramesh@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("ems.employee.cache.hit.ratio").tag("region", Employee.CACHE_REGION).gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    /*This Test Reads A Cached Employee, Updates It And Reads It Again. The Second Read Must Return The Updated Employee.*/
+    @DisplayName("JUnit test for getEmployeeById after updateEmployee")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenNextReadReturnsUpdatedEmployee() {
+        // given - precondition or setup
+        Employee cached = employeeService.getEmployeeById(employee.getId()).get();
+        cached.setFirstName("Ram");
+
+        // when -  action or the behaviour that we are going test
+        employeeService.updateEmployee(cached);
+
+        // then - verify the output
+        assertThat(employeeService.getEmployeeById(employee.getId()).get().getFirstName()).isEqualTo("Ram");
+    }
+
+    /*This Test Reads A Cached Employee, Deletes It And Reads It Again. The Second Read Must Not Find The Employee.*/
+    @DisplayName("JUnit test for getEmployeeById after deleteEmployee")
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenNextReadReturnsEmpty() {
+        // given - precondition or setup
+        employeeService.getEmployeeById(employee.getId());
+
+        // when -  action or the behaviour that we are going test
+        employeeService.deleteEmployee(employee.getId());
+
+        // then - verify the output
+        assertThat(employeeService.getEmployeeById(employee.getId())).isEmpty();
+    }
+
+    /*This Test Caches Two Employees And Updates One Of Them By Its Id. Only The Updated Employee Leaves The Cache, So The Other One Is Still Read
+    Without A Select Statement, And The Cached Result Of The Lookup Of The Old Email Is No Longer Used.*/
+    @DisplayName("JUnit test for the second-level cache after updateEmployee by id")
+    @Test
+    public void givenTwoCachedEmployees_whenUpdateOneEmployeeById_thenTheOtherStaysCached() {
+        // given - precondition or setup
+        Employee other = employeeService.saveEmployee(Employee.builder()
+                .firstName("Ali")
+                .lastName("Ozcan")
+                .email("ali@gmail.com")
+                .build());
+        employeeService.getEmployeeById(employee.getId());
+        employeeService.getEmployeeById(other.getId());
+        employeeRepository.findByEmail("ramesh@gmail.com");
+        statistics.clear();
+
+        // when -  action or the behaviour that we are going test
+        employeeService.updateEmployee(employee.getId(), Employee.builder().firstName("Ram").lastName("Fadatare").email("ram@gmail.com").build());
+        Optional<Employee> cachedOther = employeeService.getEmployeeById(other.getId());
+
+        // then - verify the output
+        assertThat(cachedOther.get().getEmail()).isEqualTo("ali@gmail.com");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(employeeService.getEmployeeById(employee.getId()).get().getFirstName()).isEqualTo("Ram");
+        assertThat(employeeRepository.findByEmail("ramesh@gmail.com")).isEmpty();
+    }
+
+    /*This Test Caches Two Employees And Deletes One Of Them. Only The Deleted Employee Leaves The Cache, So The Other One Is Still Read Without
+    A Select Statement.*/
+    @DisplayName("JUnit test for the second-level cache after deleteEmployee of another employee")
+    @Test
+    public void givenTwoCachedEmployees_whenDeleteOneEmployee_thenTheOtherStaysCached() {
+        // given - precondition or setup
+        Employee other = employeeService.saveEmployee(Employee.builder()
+                .firstName("Ali")
+                .lastName("Ozcan")
+                .email("ali@gmail.com")
+                .build());
+        employeeService.getEmployeeById(employee.getId());
+        employeeService.getEmployeeById(other.getId());
+        statistics.clear();
+
+        // when -  action or the behaviour that we are going test
+        employeeService.deleteEmployee(employee.getId());
+        Optional<Employee> cachedOther = employeeService.getEmployeeById(other.getId());
+
+        // then - verify the output
+        assertThat(cachedOther.get().getEmail()).isEqualTo("ali@gmail.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(employeeService.getEmployeeById(employee.getId())).isEmpty();
+    }
+
+    /*This Test Looks Up The Same Email Twice And Verifies That The Second Lookup Is Answered By The Query Cache. After Another Employee Is Saved,
+    The Cached Result Is No Longer Used, So The Third Lookup Runs The Query Again.*/
+    @DisplayName("JUnit test for findByEmail served from the query cache")
+    @Test
+    public void givenEmail_whenFindByEmailTwice_thenSecondLookupIsCached() {
+        // when -  action or the behaviour that we are going test
+        employeeRepository.findByEmail("ramesh@gmail.com");
+        employeeRepository.findByEmail("ramesh@gmail.com");
+
+        // then - verify the output
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+
+        employeeService.saveEmployee(Employee.builder()
+                .firstName("Ali")
+                .lastName("Ozcan")
+                .email("ali@gmail.com")
+                .build());
+        assertThat(employeeRepository.findByEmail("ramesh@gmail.com")).isPresent();
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(2);
+    }
+}
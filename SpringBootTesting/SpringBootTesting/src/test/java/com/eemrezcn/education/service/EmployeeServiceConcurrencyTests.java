@@ -0,0 +1,135 @@
+package com.eemrezcn.education.service;
+
+import com.eemrezcn.education.exception.ResourceNotFoundException;
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/*This Test Class Runs The Real EmployeeService Against An Embedded H2 Database, Because The Behaviour Under Test (The Unique Index On The Email Column)
+Lives In The Database And Cannot Be Reproduced With Mocks. Hibernate Statistics Are Enabled So That The Number Of Sql Statements Can Be Verified.*/
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase //"This Annotation Replaces The Configured Mysql Datasource With An Embedded H2 Database For The Test."
+public class EmployeeServiceConcurrencyTests {
+
+    private static final int THREAD_COUNT = 16;
+
+    private static final int EMPLOYEE_COUNT = 500;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /*This Test Starts Several Threads At The Same Moment, All Saving An Employee With The Same Email. Exactly One Of Them Must Succeed,
+    All Others Must Receive A ResourceNotFoundException, And Only One Row Must End Up In The Database.*/
+    @DisplayName("JUnit test for concurrent saveEmployee calls with the same email")
+    @Test
+    public void givenConcurrentRequestsWithSameEmail_whenSaveEmployee_thenOnlyOneIsSaved() throws Exception {
+        // given - precondition or setup
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Employee>> results = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int index = i;
+            results.add(executor.submit(() -> {
+                start.await();
+                return employeeService.saveEmployee(Employee.builder()
+                        .firstName("Ramesh" + index)
+                        .lastName("Fadatare")
+                        .email("ramesh@gmail.com")
+                        .build());
+            }));
+        }
+
+        // when -  action or the behaviour that we are going test
+        start.countDown();
+        int saved = 0;
+        int rejected = 0;
+        for (Future<Employee> result : results) {
+            try {
+                result.get();
+                saved++;
+            } catch (java.util.concurrent.ExecutionException exception) {
+                assertThat(exception.getCause()).isInstanceOf(ResourceNotFoundException.class);
+                rejected++;
+            }
+        }
+        executor.shutdown();
+
+        // then - verify the output
+        assertThat(saved).isEqualTo(1);
+        assertThat(rejected).isEqualTo(THREAD_COUNT - 1);
+        assertThat(employeeRepository.count()).isEqualTo(1);
+    }
+
+    /*This Test Compares The Previous Two-Query Flow (findByEmail Followed By save) With The Single-Insert Flow Of saveEmployee. The Number Of
+    Executed Queries And Prepared Statements Proves That The Pre-Read Is Gone; How Much Faster That Makes A Save Is Measured By The
+    saveEmployee Benchmark Of The SpringBootBenchmarks Project.*/
+    @DisplayName("JUnit test for saveEmployee statements compared with the two-query flow")
+    @Test
+    public void givenManyEmployees_whenSaveEmployee_thenOneStatementPerEmployee() {
+        // given - precondition or setup
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            Employee employee = newEmployee("two-query", i);
+            if (employeeRepository.findByEmail(employee.getEmail()).isPresent()) {
+                throw new ResourceNotFoundException("Employee already exist with given email:" + employee.getEmail());
+            }
+            employeeRepository.save(employee);
+        }
+        long twoQueryStatements = statistics.getPrepareStatementCount();
+        long twoQueryLookups = statistics.getQueryExecutionCount();
+        statistics.clear();
+
+        // when -  action or the behaviour that we are going test
+        for (int i = 0; i < EMPLOYEE_COUNT; i++) {
+            employeeService.saveEmployee(newEmployee("single-insert", i));
+        }
+        long singleInsertStatements = statistics.getPrepareStatementCount();
+        long singleInsertLookups = statistics.getQueryExecutionCount();
+
+        // then - verify the output
+        assertThat(twoQueryLookups).isEqualTo(EMPLOYEE_COUNT);
+        assertThat(singleInsertLookups).isZero();
+        //The Pooled Sequence Fetches 50 Ids At A Time, So Depending On Where The Pool Starts One Flow May Need One Sequence Call More Than The Other.
+        assertThat(singleInsertStatements).isCloseTo(twoQueryStatements - EMPLOYEE_COUNT, within(1L));
+    }
+
+    private static Employee newEmployee(String prefix, int index) {
+        return Employee.builder()
+                .firstName("Ramesh")
+                .lastName("Fadatare")
+                .email(prefix + index + "@gmail.com")
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.eemrezcn.education.service;
+
+import com.eemrezcn.education.model.Employee;
+import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
+import com.eemrezcn.education.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/*This Test Class Verifies That Concurrent getEmployeeById Calls For The Same Id Share One Repository Lookup. The Mocked Repository Blocks Until The
+Test Releases It, So All Calls Are Guaranteed To Arrive While The First Lookup Is Still Running.*/
+@ExtendWith(MockitoExtension.class)
+public class EmployeeServiceSingleFlightTests {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeServiceImpl employeeService;
+
+    private ExecutorService executor;
+
+    private CountDownLatch lookupStarted;
+
+    private CountDownLatch releaseLookup;
+
+    @BeforeEach
+    public void setup() {
+        employeeService = new EmployeeServiceImpl(employeeRepository, new EmployeeSearchIndex(employeeRepository),
+                new EmployeeEmailFilter(employeeRepository, new SimpleMeterRegistry()));
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        lookupStarted = new CountDownLatch(1);
+        releaseLookup = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseLookup.countDown();
+        executor.shutdownNow();
+    }
+
+    /*This Test Lets Several Threads Ask For The Same Employee While The First Lookup Is Blocked. The Repository Must Be Called Once, And Every
+    Thread Must Receive The Employee In Its Own Instance, So Changing It In One Request Does Not Change It In Another.*/
+    @DisplayName("JUnit test for concurrent getEmployeeById calls with the same id")
+    @Test
+    public void givenConcurrentRequestsForSameId_whenGetEmployeeById_thenRepositoryIsCalledOnce() throws Exception {
+        // given - precondition or setup
+        given(employeeRepository.findById(1L)).willAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await();
+            return Optional.of(Employee.builder().id(1L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        });
+
+        // when -  action or the behaviour that we are going test
+        List<Future<Optional<Employee>>> results = startLookups(1L);
+        awaitWaitingThreads();
+        releaseLookup.countDown();
+
+        // then - verify the output
+        List<Employee> employees = new ArrayList<>();
+        for (Future<Optional<Employee>> result : results) {
+            employees.add(result.get(5, TimeUnit.SECONDS).get());
+        }
+        assertThat(employees).extracting(Employee::getEmail).containsOnly("ramesh@gmail.com");
+        assertThat(employees).doesNotHaveDuplicates();
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    /*This Test Lets The Shared Lookup Fail. Every Waiting Thread Must Receive The Same Exception, And The Next Call Must Run A New Lookup
+    Instead Of Remembering The Failure.*/
+    @DisplayName("JUnit test for a failing shared getEmployeeById lookup")
+    @Test
+    public void givenFailingLookup_whenGetEmployeeById_thenEveryCallerReceivesTheException() throws Exception {
+        // given - precondition or setup
+        given(employeeRepository.findById(1L)).willAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await();
+            throw new DataAccessResourceFailureException("database down");
+        }).willReturn(Optional.empty());
+
+        // when -  action or the behaviour that we are going test
+        List<Future<Optional<Employee>>> results = startLookups(1L);
+        awaitWaitingThreads();
+        releaseLookup.countDown();
+
+        // then - verify the output
+        for (Future<Optional<Employee>> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(DataAccessResourceFailureException.class);
+        }
+        assertThat(employeeService.getEmployeeById(1L)).isEmpty();
+        verify(employeeRepository, times(2)).findById(1L);
+    }
+
+    /*This Test Interrupts One Of The Waiting Threads. Only That Thread Stops Waiting, With A CancellationException; The Lookup Itself Goes On
+    And The Other Threads Still Receive The Employee.*/
+    @DisplayName("JUnit test for an interrupted caller of a shared getEmployeeById lookup")
+    @Test
+    public void givenInterruptedWaiter_whenGetEmployeeById_thenOnlyThatCallerIsCancelled() throws Exception {
+        // given - precondition or setup
+        given(employeeRepository.findById(1L)).willAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await();
+            return Optional.of(Employee.builder().id(1L).firstName("Ramesh").lastName("Fadatare").email("ramesh@gmail.com").build());
+        });
+        Future<Optional<Employee>> leader = executor.submit(() -> employeeService.getEmployeeById(1L));
+        lookupStarted.await(5, TimeUnit.SECONDS);
+        Future<Optional<Employee>> otherWaiter = executor.submit(() -> employeeService.getEmployeeById(1L));
+        AtomicReference<Throwable> interruptedFailure = new AtomicReference<>();
+        Thread interruptedWaiter = new Thread(() -> {
+            try {
+                employeeService.getEmployeeById(1L);
+            } catch (CancellationException exception) {
+                interruptedFailure.set(exception);
+            }
+        });
+        interruptedWaiter.start();
+        awaitWaitingThreads();
+
+        // when -  action or the behaviour that we are going test
+        interruptedWaiter.interrupt();
+        interruptedWaiter.join(5000);
+        releaseLookup.countDown();
+
+        // then - verify the output
+        assertThat(interruptedFailure.get()).isInstanceOf(CancellationException.class);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isPresent();
+        assertThat(otherWaiter.get(5, TimeUnit.SECONDS)).isPresent();
+        verify(employeeRepository, times(1)).findById(1L);
+    }
+
+    private List<Future<Optional<Employee>>> startLookups(long id) throws InterruptedException {
+        List<Future<Optional<Employee>>> results = new ArrayList<>();
+        results.add(executor.submit(() -> employeeService.getEmployeeById(id)));
+        lookupStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < THREAD_COUNT; i++) {
+            results.add(executor.submit(() -> employeeService.getEmployeeById(id)));
+        }
+        return results;
+    }
+
+    //The Waiting Threads Cannot Signal That They Are Waiting, So The Test Gives Them Time To Reach The Shared Lookup Before Releasing It.
+    private static void awaitWaitingThreads() throws InterruptedException {
+        Thread.sleep(200);
+    }
+}
@@ -3,24 +3,34 @@ package com.eemrezcn.education.service;
 import com.eemrezcn.education.exception.ResourceNotFoundException;
 import com.eemrezcn.education.model.Employee;
 import com.eemrezcn.education.repository.EmployeeRepository;
+import com.eemrezcn.education.search.EmployeeEmailFilter;
+import com.eemrezcn.education.search.EmployeeSearchIndex;
 import com.eemrezcn.education.service.impl.EmployeeServiceImpl;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +44,14 @@ public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    //This Mock Stands For The In-Memory Search Index, Which The Service Updates After Every Save, Update And Delete.
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    //This Mock Stands For The Filter Of The Known Emails; Unless A Test Says Otherwise, It Rules Every Email Out.
+    @Mock
+    private EmployeeEmailFilter employeeEmailFilter;
+
     /*The @InjectMocks annotation is a marker in Mockito that injects mock objects created using the Mockito library into the real objects (non-mocks)
     within the tested class. In this example, it injects the EmployeeRepository mock object, specified with @Mock within the class, into the real object
     employeeService of the EmployeeServiceImpl class.*/
@@ -59,10 +77,7 @@ public class EmployeeServiceTests {
     @Test
     public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject() {
         // given - precondition or setup
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
-
-        given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.saveAndFlush(employee)).willReturn(employee);
 
         System.out.println(employeeRepository);
         System.out.println(employeeService);
@@ -73,6 +88,9 @@ public class EmployeeServiceTests {
         System.out.println(savedEmployee);
         // then - verify the output
         assertThat(savedEmployee).isNotNull();
+        verify(employeeRepository, never()).findByEmail(any(String.class));
+        verify(employeeSearchIndex).put(savedEmployee);
+        verify(employeeEmailFilter).add(savedEmployee.getEmail());
     }
 
     // JUnit test for saveEmployee method
@@ -80,8 +98,9 @@ public class EmployeeServiceTests {
     @Test
     public void givenExistingEmail_whenSaveEmployee_thenThrowsException() {
         // given - precondition or setup
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.of(employee));
+        given(employeeRepository.saveAndFlush(employee))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry",
+                        new ConstraintViolationException("Duplicate entry", new SQLException(), "employees.uk_employees_email")));
 
         System.out.println(employeeRepository);
         System.out.println(employeeService);
@@ -92,9 +111,81 @@ public class EmployeeServiceTests {
         });
 
         // then
+        verify(employeeRepository, never()).findByEmail(any(String.class));
+    }
+
+    // JUnit test for saveEmployee method
+    @DisplayName("JUnit test for saveEmployee method which rethrows other constraint violations")
+    @Test
+    public void givenOtherConstraintViolation_whenSaveEmployee_thenRethrowsException() {
+        // given - precondition or setup
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("Column 'first_name' cannot be null",
+                new ConstraintViolationException("Column 'first_name' cannot be null", new SQLException(), null));
+        given(employeeRepository.saveAndFlush(employee)).willThrow(violation);
+
+        // when -  action or the behaviour that we are going test
+        DataIntegrityViolationException thrown = org.junit.jupiter.api.Assertions.assertThrows(DataIntegrityViolationException.class, () -> {
+            employeeService.saveEmployee(employee);
+        });
+
+        // then - verify the output
+        assertThat(thrown).isSameAs(violation);
+    }
+
+    // JUnit test for saveEmployee method
+    @DisplayName("JUnit test for saveEmployee method with an email found through the email filter")
+    @Test
+    public void givenEmailFoundThroughFilter_whenSaveEmployee_thenThrowsExceptionWithoutInsert() {
+        // given - precondition or setup
+        given(employeeEmailFilter.<Employee>lookup(eq(employee.getEmail()), any())).willReturn(Optional.of(employee));
+
+        // when -  action or the behaviour that we are going test
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.saveEmployee(employee);
+        });
+
+        // then - verify the output
+        verify(employeeRepository, never()).saveAndFlush(any(Employee.class));
+        verify(employeeEmailFilter, never()).add(any(String.class));
+    }
+
+    // JUnit test for saveEmployees method
+    @DisplayName("JUnit test for saveEmployees method")
+    @Test
+    public void givenEmployeesList_whenSaveEmployees_thenReturnSavedEmployees() {
+        // given - precondition or setup
+        Employee employee1 = Employee.builder()
+                .firstName("Tony")
+                .lastName("Stark")
+                .email("tony@gmail.com")
+                .build();
+        List<Employee> employees = List.of(employee, employee1);
+        given(employeeRepository.saveAllAndFlush(employees)).willReturn(employees);
+
+        // when -  action or the behaviour that we are going test
+        List<Employee> savedEmployees = employeeService.saveEmployees(employees);
+
+        // then - verify the output
+        assertThat(savedEmployees).hasSize(2);
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
+    // JUnit test for saveEmployees method
+    @DisplayName("JUnit test for saveEmployees method which throws exception")
+    @Test
+    public void givenExistingEmail_whenSaveEmployees_thenThrowsException() {
+        // given - precondition or setup
+        List<Employee> employees = List.of(employee);
+        given(employeeRepository.saveAllAndFlush(employees))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry",
+                        new ConstraintViolationException("Duplicate entry", new SQLException(), "employees.uk_employees_email")));
+
+        // when -  action or the behaviour that we are going test
+        org.junit.jupiter.api.Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+            employeeService.saveEmployees(employees);
+        });
+    }
+
     @DisplayName("JUnit test for getAllEmployees method")
     @Test
     public void givenEmployeesList_whenGetAllEmployees_thenReturnEmployeesList()
@@ -137,6 +228,19 @@ public class EmployeeServiceTests {
         Assertions.assertThat(employeeList).isEmpty();
         Assertions.assertThat(employeeList.size()).isEqualTo(0);
     }
+    // JUnit test for getEmployeesAfter method
+    @DisplayName("JUnit test for getEmployeesAfter method")
+    @Test
+    public void givenCursorAndLimit_whenGetEmployeesAfter_thenReturnOnePage()
+    {
+        given(employeeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).willReturn(List.of(employee));
+
+        List<Employee> employeeList = employeeService.getEmployeesAfter(0L, 20);
+
+        Assertions.assertThat(employeeList).containsExactly(employee);
+        verify(employeeRepository).findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(20));
+        verify(employeeRepository, never()).findAll();
+    }
     // JUnit test for getEmployeeById method
     @DisplayName("JUnit test for getEmployeeById method")
      @Test
@@ -163,6 +267,96 @@ public class EmployeeServiceTests {
         assertThat(updatedEmployee.getFirstName()).isEqualTo("Ram");
     }
 
+    // JUnit test for updateEmployee method with an expected version
+    @DisplayName("JUnit test for updateEmployee method with an expected version")
+    @Test
+    public void givenIdAndVersion_whenUpdateEmployee_thenSingleUpdateIsIssued(){
+        // given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build();
+        given(employeeRepository.updateEmployeeById(1L, 2L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(1);
+
+        // when -  action or the behaviour that we are going test
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(1L, 2L, changes);
+
+        // then - verify the output
+        assertThat(updatedEmployee).isPresent();
+        assertThat(updatedEmployee.get().getId()).isEqualTo(1L);
+        assertThat(updatedEmployee.get().getVersion()).isEqualTo(3L);
+        assertThat(updatedEmployee.get().getFirstName()).isEqualTo("Ram");
+        verify(employeeRepository, never()).findById(any(Long.class));
+        verify(employeeRepository, never()).findVersionById(any(Long.class));
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeSearchIndex).put(updatedEmployee.get());
+        verify(employeeEmailFilter).add("ram@gmail.com");
+    }
+
+    // JUnit test for updateEmployee method when no row is changed
+    @DisplayName("JUnit test for updateEmployee method when no row is changed")
+    @Test
+    public void givenUnknownIdOrOutdatedVersion_whenUpdateEmployee_thenReturnEmptyOrThrow(){
+        // given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build();
+        given(employeeRepository.updateEmployeeById(any(Long.class), any(Long.class), any(), any(), any())).willReturn(0);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.empty());
+        given(employeeRepository.findVersionById(2L)).willReturn(Optional.of(5L));
+
+        // when -  action or the behaviour that we are going test
+        Optional<Employee> unknownEmployee = employeeService.updateEmployee(1L, 0L, changes);
+
+        // then - verify the output
+        assertThat(unknownEmployee).isEmpty();
+        org.junit.jupiter.api.Assertions.assertThrows(OptimisticLockingFailureException.class, () -> {
+            employeeService.updateEmployee(2L, 4L, changes);
+        });
+        verifyNoInteractions(employeeSearchIndex, employeeEmailFilter);
+    }
+
+    // JUnit test for updateEmployee method without an expected version
+    @DisplayName("JUnit test for updateEmployee method without an expected version")
+    @Test
+    public void givenIdWithoutVersion_whenUpdateEmployee_thenUpdateIsIssuedBeforeVersionIsRead(){
+        // given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build();
+        given(employeeRepository.overwriteEmployeeById(1L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(1);
+        given(employeeRepository.overwriteEmployeeById(2L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(0);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(7L));
+
+        // when -  action or the behaviour that we are going test
+        Optional<Employee> updatedEmployee = employeeService.updateEmployee(1L, changes);
+        Optional<Employee> unknownEmployee = employeeService.updateEmployee(2L, changes);
+
+        // then - verify the output
+        assertThat(updatedEmployee).isPresent();
+        assertThat(updatedEmployee.get().getVersion()).isEqualTo(7L);
+        assertThat(unknownEmployee).isEmpty();
+        verify(employeeRepository, never()).findVersionById(2L);
+        verify(employeeRepository, never()).findById(any(Long.class));
+        verify(employeeSearchIndex).put(updatedEmployee.get());
+    }
+
+    // JUnit test for updateEmployee method without an expected version inside a transaction
+    @DisplayName("JUnit test for updateEmployee method without an expected version before the commit")
+    @Test
+    public void givenOpenTransaction_whenUpdateEmployeeWithoutVersion_thenIndexAndFilterWaitForTheCommit(){
+        // given - precondition or setup
+        Employee changes = Employee.builder().firstName("Ram").lastName("Jadhav").email("ram@gmail.com").build();
+        given(employeeRepository.overwriteEmployeeById(1L, "Ram", "Jadhav", "ram@gmail.com")).willReturn(1);
+        given(employeeRepository.findVersionById(1L)).willReturn(Optional.of(7L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when -  action or the behaviour that we are going test
+            Optional<Employee> updatedEmployee = employeeService.updateEmployee(1L, changes);
+
+            // then - verify the output
+            verifyNoInteractions(employeeSearchIndex, employeeEmailFilter);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(employeeSearchIndex).put(updatedEmployee.get());
+            verify(employeeEmailFilter).add("ram@gmail.com");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     // JUnit test for deleteEmployee method
     @DisplayName("JUnit test for deleteEmployee method")
     @Test
@@ -170,13 +364,54 @@ public class EmployeeServiceTests {
         // given - precondition or setup
         long employeeId = 1L;
 
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(1);
+
+        // when -  action or the behaviour that we are going test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        // then - verify the output
+        assertThat(deleted).isTrue();
+        verify(employeeRepository, times(1)).deleteEmployeeById(employeeId);
+        verify(employeeRepository, never()).findById(employeeId);
+        verify(employeeSearchIndex).remove(employeeId);
+        verify(employeeEmailFilter).removed(1);
+    }
+
+    // JUnit test for deleteEmployee method with an unknown id
+    @DisplayName("JUnit test for deleteEmployee method with an unknown id")
+    @Test
+    public void givenUnknownEmployeeId_whenDeleteEmployee_thenReturnFalse(){
+        // given - precondition or setup
+        long employeeId = 1L;
+
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(0);
+
+        // when -  action or the behaviour that we are going test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        // then - verify the output
+        assertThat(deleted).isFalse();
+        verifyNoInteractions(employeeSearchIndex, employeeEmailFilter);
+    }
+
+    // JUnit test for deleteEmployees method
+    @DisplayName("JUnit test for deleteEmployees method")
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount(){
+        // given - precondition or setup
+        List<Long> employeeIds = List.of(1L, 2L, 3L);
+
+        given(employeeRepository.deleteEmployeesByIdIn(employeeIds)).willReturn(2);
 
         // when -  action or the behaviour that we are going test
-        employeeService.deleteEmployee(employeeId);
+        int deletedEmployees = employeeService.deleteEmployees(employeeIds);
 
         // then - verify the output
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        assertThat(deletedEmployees).isEqualTo(2);
+        verify(employeeSearchIndex).remove(1L);
+        verify(employeeSearchIndex).remove(2L);
+        verify(employeeSearchIndex).remove(3L);
+        verify(employeeEmailFilter).removed(2);
     }
 
 }
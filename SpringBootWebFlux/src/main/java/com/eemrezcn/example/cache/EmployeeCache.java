@@ -0,0 +1,54 @@
+package com.eemrezcn.example.cache;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/*This class is a non-blocking read-through cache for employees, keyed by employee id. The number of cached employees is limited by
+"employee.cache.maximum-size" and every entry expires "employee.cache.ttl" after it was loaded. When several requests miss the same id at the
+same time, only the first one goes to the database and all others wait for its result. Employees that do not exist are not cached.
+The hit, miss and eviction counters are published to Micrometer as the "cache.*" metrics with the tag cache=employees.*/
+@Component
+public class EmployeeCache {
+
+    //The name under which the cache metrics are published.
+    public static final String CACHE_NAME = "employees";
+
+    private final AsyncCache<String, EmployeeDto> cache;
+
+    public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${employee.cache.ttl:PT5M}") Duration ttl,
+                         MeterRegistry meterRegistry) {
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, EmployeeDto>buildAsync(), CACHE_NAME);
+    }
+
+    /*This method returns the cached employee with the given id. On a miss the loader is subscribed once and its result is stored in the cache;
+    requests for the same id that arrive while the loader is running share its result. If a caller cancels, only that caller stops waiting:
+    the shared load keeps running for the others.*/
+    public Mono<EmployeeDto> get(String employeeId, Function<String, Mono<EmployeeDto>> loader) {
+        return Mono.fromFuture(() -> cache.get(employeeId, (id, executor) -> loader.apply(id).toFuture()).copy());
+    }
+
+    /*This method removes the employee with the given id from the cache. A load that is still running for this id is not stored when it completes.*/
+    public void invalidate(String employeeId) {
+        cache.synchronous().invalidate(employeeId);
+    }
+
+    //This method returns a snapshot of the hit, miss, load and eviction counters.
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+}
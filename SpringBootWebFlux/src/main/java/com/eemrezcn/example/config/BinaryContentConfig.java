@@ -0,0 +1,79 @@
+package com.eemrezcn.example.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/*This configuration class lets the controller read and write the binary CBOR (application/cbor) and Smile (application/x-jackson-smile) formats
+next to JSON. Which format is used is decided by the Content-Type and Accept headers of the request; JSON stays the default when the client
+accepts any format. Both formats use a copy of the ObjectMapper of Spring Boot, so the objects are written with the same settings as in JSON.
+A Flux is written as one array in both formats. In CBOR that array has no length up front, so every element is written as soon as it is emitted
+and nothing is buffered; Smile writes the whole array at once, and with application/stream+x-jackson-smile element by element instead.*/
+@Configuration
+public class BinaryContentConfig {
+
+    private static final MimeType[] SMILE_MIME_TYPES = {
+            new MimeType("application", "x-jackson-smile"),
+            new MimeType("application", "stream+x-jackson-smile")
+    };
+
+    @Bean
+    public CodecCustomizer binaryCodecsCustomizer(ObjectMapper objectMapper) {
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+        //The mime types must be given explicitly, without them the codecs would also claim application/json. Custom writers are placed before
+        //the default ones, so the JSON encoder is registered again in front of the CBOR encoder to stay the first choice for */*.
+        return (configurer) -> {
+            configurer.customCodecs().register(new Jackson2JsonEncoder(objectMapper));
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper, SMILE_MIME_TYPES));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, SMILE_MIME_TYPES));
+            configurer.customCodecs().register(new StreamingCborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        };
+    }
+
+    /*The CBOR encoder of Spring can only write single values. This encoder writes a Flux as an indefinite-length CBOR array instead: the start
+    byte of the array, then every element as a complete CBOR value as soon as it is emitted, then the break byte that ends the array. Decoders
+    read it like any other array, and an empty Flux becomes an empty array.*/
+    static class StreamingCborEncoder extends Jackson2CborEncoder {
+
+        //The start of an array of indefinite length (major type 4, additional information 31).
+        private static final byte START_INDEFINITE_ARRAY = (byte) 0x9F;
+
+        private static final byte BREAK = (byte) 0xFF;
+
+        StreamingCborEncoder(ObjectMapper cborMapper) {
+            super(cborMapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                       MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map((value) -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return Flux.concat(
+                    Mono.fromSupplier(() -> bufferFactory.wrap(new byte[]{START_INDEFINITE_ARRAY})),
+                    Flux.from(inputStream).map((value) -> encodeValue(value, bufferFactory, elementType, mimeType, hints)),
+                    Mono.fromSupplier(() -> bufferFactory.wrap(new byte[]{BREAK})));
+        }
+    }
+}
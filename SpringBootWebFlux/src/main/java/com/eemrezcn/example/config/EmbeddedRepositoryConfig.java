@@ -0,0 +1,20 @@
+package com.eemrezcn.example.config;
+
+import com.eemrezcn.example.repository.EmployeeRepository;
+import com.eemrezcn.example.repository.InMemoryEmployeeRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/*This configuration class replaces MongoDB with the InMemoryEmployeeRepository when the "embedded" profile is active, so the application can be
+started without a database, for example for load tests. The MongoDB auto-configuration is switched off in application-embedded.properties.*/
+@Configuration
+@Profile("embedded")
+public class EmbeddedRepositoryConfig {
+
+    //This bean keeps the employees in memory. They are lost when the application stops.
+    @Bean
+    public EmployeeRepository employeeRepository() {
+        return new InMemoryEmployeeRepository();
+    }
+}
@@ -0,0 +1,33 @@
+package com.eemrezcn.example.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/*This configuration class sizes the event loops of the Reactor Netty server. The selector threads accept new connections and the worker threads
+run all request handling, so the worker count limits how many requests are processed at the same time. Both counts can be set with the
+"netty.event-loop.select-count" and "netty.event-loop.worker-count" properties. A worker count of 0 keeps the Reactor Netty default,
+which is the number of available processors (at least 4).*/
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE) //The event loops are only needed when the application runs on Netty.
+public class NettyServerConfig {
+
+    /*This bean creates the event loop threads used by the server. They are named "ems-http-..." so they can be recognized in thread dumps,
+    and they are shut down together with the application context.*/
+    @Bean(destroyMethod = "dispose")
+    public LoopResources serverLoopResources(@Value("${netty.event-loop.select-count:1}") int selectCount,
+                                             @Value("${netty.event-loop.worker-count:0}") int workerCount) {
+        int workers = workerCount > 0 ? workerCount : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        return LoopResources.create("ems-http", selectCount, workers, true);
+    }
+
+    /*This bean tells the Netty web server created by Spring Boot to run on the event loops defined above instead of the shared default ones.*/
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyEventLoopCustomizer(LoopResources serverLoopResources) {
+        return factory -> factory.addServerCustomizers(httpServer -> httpServer.runOn(serverLoopResources));
+    }
+}
@@ -0,0 +1,23 @@
+package com.eemrezcn.example.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/*This listener stops the WebFlux application as soon as it is ready when startup.training-run=true, so the JVM can write the classes loaded
+until then, most of them Netty and Reactor classes, to a class-data sharing archive when it exits (-XX:ArchiveClassesAtExit=app-cds.jsa).
+The archive belongs to the profiles of the training run: one made with the "embedded" profile has none of the MongoDB driver classes.
+The property is read when the event arrives, because the conditions of an AOT-processed application are fixed when it is built.*/
+@Component
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    public static final String PROPERTY = "startup.training-run";
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getEnvironment().getProperty(PROPERTY, Boolean.class, false)) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
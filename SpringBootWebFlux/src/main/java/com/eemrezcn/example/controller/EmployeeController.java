@@ -1,13 +1,25 @@
 package com.eemrezcn.example.controller;
 
 import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeEvent;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.service.EmployeeIngestService;
 import com.eemrezcn.example.service.EmployeeService;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController /*It Is Used To Define A Controller Class In The Spring Framework*/
 @RequestMapping("/api/employees") //This code indicates that in a Java web application developed using the Spring Framework, a method is defined to handle HTTP requests at the "/api/employees" endpoint.
 @AllArgsConstructor //@AllArgsConstructor is a Java annotation provided by the Lombok library, and it generates a constructor for all fields in the class.
@@ -15,6 +27,10 @@ public class EmployeeController {
 
     private EmployeeService employeeService;
 
+    private EmployeeIngestService employeeIngestService;
+
+    private EmployeeEventPublisher employeeEventPublisher;
+
    /*This code snippet represents a controller method in a Java web application developed with the Spring Framework.
    The method handles HTTP POST requests, saves an employee using the provided EmployeeDto data,
    and sets the HTTP response status to 201 Created upon successful registration.*/
@@ -24,12 +40,23 @@ public class EmployeeController {
         return employeeService.saveEmployee(employeeDto);
     }
 
+    /*This method handles HTTP POST requests to "/api/employees/stream" for uploading many employees at once. The request body is
+    newline-delimited JSON (application/x-ndjson) with one EmployeeDto per line, and it is read while it arrives, so it can be arbitrarily large.
+    The response is also newline-delimited JSON with one EmployeeIngestResult per employee, streamed back while the upload is still running.*/
+    @PostMapping(value = "stream", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EmployeeIngestResult> ingestEmployees(@RequestBody Flux<EmployeeDto> employeeDtos){
+        return employeeIngestService.ingestEmployees(employeeDtos);
+    }
+
     /*This code snippet represents a controller method in a Java web application developed with the Spring Framework.
     The method, annotated with @GetMapping, handles HTTP GET requests corresponding to the specified "id" path variable and calls
-    the employeeService.getEmployee(employeeId) method to retrieve information about the relevant employee.*/
+    the employeeService.getEmployee(employeeId) method to retrieve information about the relevant employee.
+    The version of the employee is sent as its ETag. When the If-None-Match header of the request still matches it, Spring answers with
+    304 Not Modified instead of writing the body; the employee itself usually comes from the employee cache, not from MongoDB.*/
     @GetMapping("{id}")
-    public Mono<EmployeeDto> getEmployee(@PathVariable("id") String employeeId){
-        return employeeService.getEmployee(employeeId);
+    public Mono<ResponseEntity<EmployeeDto>> getEmployee(@PathVariable("id") String employeeId){
+        return employeeService.getEmployee(employeeId)
+                .map(EmployeeController::withETag);
     }
 
     /*This code defines a controller method in a Java web application using the Spring Framework. The method, annotated with @GetMapping,
@@ -41,14 +68,54 @@ public class EmployeeController {
         return employeeService.getAllEmployees();
     }
 
+    /*This method handles HTTP GET requests to "/api/employees/events" and keeps the response open as a server-sent event stream (text/event-stream),
+    in which every created, updated and deleted employee is pushed as it happens. The id of each event is the epoch of this run and its sequence,
+    so a client that reconnects sends it back in the Last-Event-ID header and receives the events it missed, or a RESYNC event after a restart. The event name is the type of the change.
+    The stream starts with a comment, so the response is sent right away and the client knows that every change from then on will be in it.*/
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<EmployeeEvent>> streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
+        return employeeEventPublisher.events(lastEventId)
+                .map((event) -> ServerSentEvent.builder(event)
+                        .id(employeeEventPublisher.eventId(event))
+                        .event(event.getType().name())
+                        .build())
+                .startWith(ServerSentEvent.<EmployeeEvent>builder().comment("subscribed").build());
+    }
+
     /*This code represents a controller method in a Java web application using the Spring Framework. The method, annotated with @PutMapping,
     handles HTTP PUT requests for updating an employee with a specific "id" path variable. It takes in an EmployeeDto object from the request
     body and the employee ID from the path, and then calls employeeService.updateEmployee(employeeDto, employeeId) to perform the update operation.
-    The method returns a Mono<EmployeeDto>, indicating that it handles the operation asynchronously.*/
+    The method returns a Mono<EmployeeDto>, indicating that it handles the operation asynchronously.
+    With an If-Match header, which may list several ETags separated by commas, the employee is only updated if one of them is still its current
+    version; otherwise, or if the header has no strong ETag, the response is 412 Precondition Failed. Weak ETags never match. A version in the
+    request body is ignored. An employee that does not exist is answered with 404 Not Found, or with 412 if the request had an If-Match header
+    (including "*"), because no current version can match it.*/
     @PutMapping("{id}")
-    public Mono<EmployeeDto> updateEmployee(@RequestBody EmployeeDto employeeDto,
-                                            @PathVariable("id") String employeeId){
-        return employeeService.updateEmployee(employeeDto, employeeId);
+    public Mono<ResponseEntity<EmployeeDto>> updateEmployee(@RequestBody EmployeeDto employeeDto,
+                                                            @PathVariable("id") String employeeId,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch){
+        List<Long> expectedVersions = null;
+        if (ifMatch != null && !ifMatch.trim().equals("*")) {
+            expectedVersions = versionsOf(ifMatch);
+            if (expectedVersions.isEmpty()) {
+                return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+            }
+        }
+        HttpStatus missingStatus = ifMatch == null ? HttpStatus.NOT_FOUND : HttpStatus.PRECONDITION_FAILED;
+        return employeeService.updateEmployee(employeeDto, employeeId, expectedVersions)
+                .map(EmployeeController::withETag)
+                .defaultIfEmpty(ResponseEntity.status(missingStatus).build())
+                .onErrorResume(OptimisticLockingFailureException.class,
+                        (exception) -> Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build()));
+    }
+
+    /*This code represents a controller method that handles HTTP PATCH requests for a partial update of an employee with a specific "id"
+    path variable. Only the fields that are present in the request body are changed, the others keep their current value.
+    It calls employeeService.patchEmployee(employeeDto, employeeId) and returns the employee as it is after the update.*/
+    @PatchMapping("{id}")
+    public Mono<EmployeeDto> patchEmployee(@RequestBody EmployeeDto employeeDto,
+                                           @PathVariable("id") String employeeId){
+        return employeeService.patchEmployee(employeeDto, employeeId);
     }
 
     /*This code defines a controller method in a Java web application using the Spring Framework. The method, annotated with @DeleteMapping,
@@ -60,4 +127,37 @@ public class EmployeeController {
     public Mono<Void> deleteEmployee(@PathVariable("id") String employeeId){
         return employeeService.deleteEmployee(employeeId);
     }
+
+    //The ETag of an employee is its version in quotes; employees saved before versions were introduced are sent without one.
+    private static ResponseEntity<EmployeeDto> withETag(EmployeeDto employeeDto){
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (employeeDto.getVersion() != null) {
+            response.eTag("\"" + employeeDto.getVersion() + "\"");
+        }
+        return response.body(employeeDto);
+    }
+
+    //Returns the versions of the strong ETags in a comma-separated If-Match header like "3", "4"; weak and malformed ETags are left out.
+    private static List<Long> versionsOf(String ifMatch){
+        List<Long> versions = new ArrayList<>();
+        for (String eTag : ifMatch.split(",")) {
+            Long version = versionOf(eTag.trim());
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        return versions;
+    }
+
+    //Returns the version of a strong ETag like "3", or null if the value is anything else.
+    private static Long versionOf(String eTag){
+        if (eTag.length() < 3 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+            return null;
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
 }
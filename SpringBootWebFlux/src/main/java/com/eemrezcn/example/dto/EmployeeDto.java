@@ -14,4 +14,9 @@ public class EmployeeDto {
     private String firstName;
     private String lastName;
     private String email;
+    private Long version;
+
+    public EmployeeDto(String id, String firstName, String lastName, String email) {
+        this(id, firstName, lastName, email, null);
+    }
 }
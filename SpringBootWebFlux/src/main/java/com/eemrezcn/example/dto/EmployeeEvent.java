@@ -0,0 +1,26 @@
+package com.eemrezcn.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*This class is one change of the employee collection, as it is pushed to the subscribers of the change feed. The sequence numbers the events
+of this application instance, starting at 1 in every run, and is sent with the epoch of the run as the id of the server-sent event, so a client
+that reconnects can continue after the last event it received. A created or updated event contains the employee as it is after the change; a deleted event only has the id.
+A RESYNC event tells the client that some events are no longer available and it should read all employees again.*/
+@Getter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
+@Setter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
+@NoArgsConstructor /*It Is An Annotation From The Lombok Library And Adds A Parameterless Constructor (Constructor Method) To A Class.*/
+@AllArgsConstructor /*It Is An Annotation That Comes From The Lombok Library And Adds A Constructor (Constructor Method) To A Class That Includes All Fields.*/
+@JsonInclude(JsonInclude.Include.NON_NULL) //The employee of a deleted or resync event and the id of a resync event are left out of the JSON.
+public class EmployeeEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, RESYNC }
+
+    private long sequence;
+    private Type type;
+    private String employeeId;
+    private EmployeeDto employee;
+}
@@ -0,0 +1,33 @@
+package com.eemrezcn.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*This class is the result of one employee of a streaming upload. The index is the position of the employee in the upload, starting at 0,
+so the client can match every result to the line it sent. A created employee has the id it was stored with; a failed one has the error
+instead and can be sent again.*/
+@Getter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
+@Setter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
+@NoArgsConstructor /*It Is An Annotation From The Lombok Library And Adds A Parameterless Constructor (Constructor Method) To A Class.*/
+@AllArgsConstructor /*It Is An Annotation That Comes From The Lombok Library And Adds A Constructor (Constructor Method) To A Class That Includes All Fields.*/
+@JsonInclude(JsonInclude.Include.NON_NULL) //The id of a failed employee and the error of a created one are left out of the JSON.
+public class EmployeeIngestResult {
+
+    public enum Status { CREATED, FAILED }
+
+    private long index;
+    private Status status;
+    private String id;
+    private String error;
+
+    public static EmployeeIngestResult created(long index, String id) {
+        return new EmployeeIngestResult(index, Status.CREATED, id, null);
+    }
+
+    public static EmployeeIngestResult failed(long index, String error) {
+        return new EmployeeIngestResult(index, Status.FAILED, null, error);
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Getter /*These Annotations, Which Come From The Lombok Library, Automatically Add Setter And Getter Methods To The Class.*/
@@ -23,4 +24,13 @@ public class Employee
 
     private String email;
 
+    /*The version starts at 0 when the employee is inserted and is increased by every update. Updates can be made conditional on it,
+    and the controller sends it as the ETag of the employee. Employees saved before this field existed have no version.*/
+    @Version
+    private Long version;
+
+    /*This constructor creates an employee that has not been stored yet, so it has no version.*/
+    public Employee(String id, String firstName, String lastName, String email) {
+        this(id, firstName, lastName, email, null);
+    }
 }
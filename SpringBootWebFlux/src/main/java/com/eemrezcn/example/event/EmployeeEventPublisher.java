@@ -0,0 +1,107 @@
+package com.eemrezcn.example.event;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/*This class is the in-process change feed of the employees. The services publish every employee they create, update or delete, and every
+subscriber receives these events in the order they happened. The last "employee.events.history-size" events are kept, so a subscriber that
+reconnects with the id of the last event it received gets the events it missed. Each subscriber has its own buffer of
+"employee.events.subscriber-buffer-size" events: a subscriber that reads slower than the events arrive has its feed ended with an error
+once the buffer is full, instead of holding back the others or using more and more memory, and can reconnect to continue.
+Only the changes made through this application instance are published; MongoDB change streams are not used because they need a replica set.*/
+@Component
+public class EmployeeEventPublisher {
+
+    private final Sinks.Many<EmployeeEvent> sink;
+
+    private final int historySize;
+
+    private final int subscriberBufferSize;
+
+    private final Counter overflows;
+
+    private long sequence;
+
+    //Identifies this run of the application in the event ids. It never contains a dash, so it ends where the sequence begins.
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36) + Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE), 36);
+
+    public EmployeeEventPublisher(@Value("${employee.events.history-size:1000}") int historySize,
+                                  @Value("${employee.events.subscriber-buffer-size:256}") int subscriberBufferSize,
+                                  MeterRegistry meterRegistry) {
+        this.sink = Sinks.many().replay().limit(historySize);
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.overflows = Counter.builder("ems.employees.events.overflows")
+                .description("The number of event feeds that were ended because the subscriber could not keep up")
+                .register(meterRegistry);
+        Gauge.builder("ems.employees.events.subscribers", sink, Sinks.Many::currentSubscriberCount)
+                .description("The number of subscribers of the employee change feed")
+                .register(meterRegistry);
+    }
+
+    public void created(EmployeeDto employee) {
+        publish(EmployeeEvent.Type.CREATED, employee.getId(), employee);
+    }
+
+    public void updated(EmployeeDto employee) {
+        publish(EmployeeEvent.Type.UPDATED, employee.getId(), employee);
+    }
+
+    public void deleted(String employeeId) {
+        publish(EmployeeEvent.Type.DELETED, employeeId, null);
+    }
+
+    /*This method returns the id of the server-sent event of the given event: the epoch of this run and the sequence, separated by a dash.
+    The sequence starts at 1 again in every run, so without the epoch an id of an earlier run could not be told apart from a current one.*/
+    public String eventId(EmployeeEvent event) {
+        return epoch + "-" + event.getSequence();
+    }
+
+    /*This method returns the events that are published after the event with the given id, or after the current one if it is null, followed by all
+    future events. If the events right after the given event are no longer kept, or the id was issued by an earlier run of the application (its epoch
+    is another one) or cannot be read, the feed starts with a RESYNC event instead and continues with the events that are published from then on.*/
+    public Flux<EmployeeEvent> events(String lastEventId) {
+        return Flux.defer(() -> {
+            long current = currentSequence();
+            Long lastSequence = sequenceOf(lastEventId);
+            boolean resumable = lastSequence != null && lastSequence <= current && current - lastSequence <= historySize;
+            long from = resumable ? lastSequence : current;
+            Flux<EmployeeEvent> events = sink.asFlux().filter((event) -> event.getSequence() > from);
+            if (lastEventId != null && !resumable) {
+                events = events.startWith(new EmployeeEvent(current, EmployeeEvent.Type.RESYNC, null, null));
+            }
+            return events.onBackpressureBuffer(subscriberBufferSize, (event) -> overflows.increment());
+        });
+    }
+
+    /*The sequence is assigned and the event is emitted under the same lock, so the events are emitted in the order of their sequence and the sink
+    is never called from two threads at the same time. Emitting only adds the event to the history and hands it to the subscriber buffers.*/
+    private synchronized void publish(EmployeeEvent.Type type, String employeeId, EmployeeDto employee) {
+        sink.emitNext(new EmployeeEvent(++sequence, type, employeeId, employee), Sinks.EmitFailureHandler.FAIL_FAST);
+    }
+
+    //Returns the sequence of an event id of this run, and null for an id of another run or an id in another format.
+    private Long sequenceOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + "-")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private synchronized long currentSequence() {
+        return sequence;
+    }
+}
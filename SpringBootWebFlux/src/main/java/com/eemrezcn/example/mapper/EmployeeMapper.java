@@ -5,7 +5,8 @@ import com.eemrezcn.example.entity.Employee;
 
 /*This code defines an EmployeeMapper class capable of performing conversion between Employee and EmployeeDto classes.
  The mapToEmployeeDto method converts an Employee object to an EmployeeDto, while the mapToEmployee method converts
- an EmployeeDto object to an Employee.*/
+ an EmployeeDto object to an Employee. The version is only copied to the EmployeeDto, because it is managed by the database:
+ an Employee created from an EmployeeDto is always a new employee.*/
 public class EmployeeMapper {
 
     public static EmployeeDto mapToEmployeeDto(Employee employee){
@@ -13,7 +14,8 @@ public class EmployeeMapper {
                 employee.getId(),
                 employee.getFirstName(),
                 employee.getLastName(),
-                employee.getEmail()
+                employee.getEmail(),
+                employee.getVersion()
         );
     }
 
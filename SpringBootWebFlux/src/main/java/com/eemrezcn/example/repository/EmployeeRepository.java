@@ -4,6 +4,7 @@ import com.eemrezcn.example.entity.Employee;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
 /*This code snippet defines an interface named EmployeeRepository derived from the ReactiveCrudRepository interface,
-which is used to interact with a specific collection representing the Employee class.*/
-public interface EmployeeRepository extends ReactiveCrudRepository<Employee, String> {
+which is used to interact with a specific collection representing the Employee class.
+The single-command field updates come from the EmployeeRepositoryCustom fragment.*/
+public interface EmployeeRepository extends ReactiveCrudRepository<Employee, String>, EmployeeRepositoryCustom {
 }
@@ -0,0 +1,33 @@
+package com.eemrezcn.example.repository;
+
+import com.eemrezcn.example.entity.Employee;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/*This interface defines the employee operations that can not be derived by Spring Data from a method name.
+It is combined with the EmployeeRepository, so these methods are available on the same repository bean.*/
+public interface EmployeeRepositoryCustom {
+
+    /*This method sets the first name, last name and email of the employee with the given id in a single findAndModify command and returns
+    the employee as it is after the update. Null values are stored as null, like a full replacement of these fields. The version of the employee
+    is increased by one. When expected versions are given, the employee is only updated if it still has one of these versions. If no employee has
+    the given id (and version), the returned Mono is empty.*/
+    Mono<Employee> replaceFields(String employeeId, String firstName, String lastName, String email, List<Long> expectedVersions);
+
+    /*This method sets the given first name, last name and email on the employee with the given id in a single findAndModify command
+    and returns the employee as it is after the update. Fields that are null are left unchanged, and the version is increased by one unless
+    no field is given. If no employee has the given id, the returned Mono is empty.*/
+    Mono<Employee> updateFields(String employeeId, String firstName, String lastName, String email);
+
+    /*This method deletes the employee with the given id with a single delete command and emits whether an employee was deleted, which
+    deleteById of Spring Data does not report.*/
+    Mono<Boolean> removeById(String employeeId);
+
+    /*This method inserts all given employees with a single unordered insertMany command. Employees without an id get a new one before they
+    are sent, so the id of every inserted employee is known afterwards, and every employee is inserted with version 0. One rejected employee (for example because its id already exists)
+    does not stop the others. The returned map contains the reason for every rejected employee, keyed by its position in the list;
+    it is empty when all employees were inserted.*/
+    Mono<Map<Integer, String>> insertAll(List<Employee> employees);
+}
@@ -0,0 +1,111 @@
+package com.eemrezcn.example.repository;
+
+import com.eemrezcn.example.entity.Employee;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.AllArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*This class implements the EmployeeRepositoryCustom operations with the ReactiveMongoTemplate. Spring Data finds it by the "Impl" suffix
+and uses it for the custom methods of the EmployeeRepository.*/
+@AllArgsConstructor //@AllArgsConstructor is a Java annotation provided by the Lombok library, and it generates a constructor for all fields in the class.
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String VERSION = "version";
+
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    /*This method sets all three fields with one $set update. The expected versions become part of the filter, so checking the version and
+    updating the employee is a single atomic step in MongoDB. See findAndModify below.*/
+    @Override
+    public Mono<Employee> replaceFields(String employeeId, String firstName, String lastName, String email, List<Long> expectedVersions) {
+        Update update = new Update()
+                .set("firstName", firstName)
+                .set("lastName", lastName)
+                .set("email", email)
+                .inc(VERSION, 1);
+        Query query = byId(employeeId);
+        if (expectedVersions != null) {
+            query.addCriteria(Criteria.where(VERSION).in(expectedVersions));
+        }
+        return findAndModify(query, update);
+    }
+
+    /*This method builds a $set update that only contains the fields which are not null. When no field is given, the employee is only read.*/
+    @Override
+    public Mono<Employee> updateFields(String employeeId, String firstName, String lastName, String email) {
+        Update update = new Update();
+        setIfPresent(update, "firstName", firstName);
+        setIfPresent(update, "lastName", lastName);
+        setIfPresent(update, "email", email);
+
+        if (update.getUpdateObject().isEmpty()) {
+            return reactiveMongoTemplate.findOne(byId(employeeId), Employee.class);
+        }
+        return findAndModify(byId(employeeId), update.inc(VERSION, 1));
+    }
+
+    /*This method reads the number of deleted documents from the result of the delete command.*/
+    @Override
+    public Mono<Boolean> removeById(String employeeId) {
+        return reactiveMongoTemplate.remove(byId(employeeId), Employee.class)
+                .map(result -> result.getDeletedCount() > 0);
+    }
+
+    /*This method sends all employees in one unordered bulk write, which the driver sends as insertMany. When some of them are rejected,
+    MongoDB still inserts the others and reports one write error per rejected document with its position in the batch.*/
+    @Override
+    public Mono<Map<Integer, String>> insertAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        employees.stream()
+                .filter(employee -> employee.getId() == null)
+                .forEach(employee -> employee.setId(new ObjectId().toHexString()));
+        employees.stream()
+                .filter(employee -> employee.getVersion() == null)
+                .forEach(employee -> employee.setVersion(0L));
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class)
+                .insert(employees)
+                .execute()
+                .<Map<Integer, String>>map(result -> Collections.emptyMap())
+                .onErrorResume(BulkOperationException.class, exception -> Mono.just(byIndex(exception.getErrors())))
+                .onErrorResume(MongoBulkWriteException.class, exception -> Mono.just(byIndex(exception.getWriteErrors())));
+    }
+
+    private static Map<Integer, String> byIndex(List<BulkWriteError> errors) {
+        Map<Integer, String> messages = new TreeMap<>();
+        errors.forEach(error -> messages.put(error.getIndex(), error.getMessage()));
+        return messages;
+    }
+
+    /*This method sends the update with findAndModify, so the document is matched, changed and returned by MongoDB in one round trip.
+    Because the update is applied by the database, two concurrent updates of different fields of the same employee can not overwrite
+    each other. The returned employee is the state after the update (returnNew).*/
+    private Mono<Employee> findAndModify(Query query, Update update) {
+        return reactiveMongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Employee.class);
+    }
+
+    private static Query byId(String employeeId) {
+        return Query.query(Criteria.where("id").is(employeeId));
+    }
+
+    private static void setIfPresent(Update update, String field, String value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+}
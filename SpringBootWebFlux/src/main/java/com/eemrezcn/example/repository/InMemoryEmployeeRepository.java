@@ -0,0 +1,186 @@
+package com.eemrezcn.example.repository;
+
+import com.eemrezcn.example.entity.Employee;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*This class is an EmployeeRepository that keeps the employees in a map instead of MongoDB. It is not a Spring bean; it is used where the
+services should run without a database, for example in benchmarks. Employees without an id get a random UUID when they are saved,
+like the ids MongoDB generates. The stored employees are copies, so changing an object after saving it does not change the repository.
+Versions are handled like Spring Data does: a saved employee without a version is inserted with version 0, and every update increases it.*/
+public class InMemoryEmployeeRepository implements EmployeeRepository {
+
+    private final Map<String, Employee> employees = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends Employee> Mono<S> save(S entity) {
+        return Mono.fromSupplier(() -> {
+            if (entity.getId() == null) {
+                entity.setId(UUID.randomUUID().toString());
+            }
+            entity.setVersion(entity.getVersion() == null ? 0L : entity.getVersion() + 1);
+            employees.put(entity.getId(), copy(entity));
+            return entity;
+        });
+    }
+
+    @Override
+    public <S extends Employee> Flux<S> saveAll(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends Employee> Flux<S> saveAll(Publisher<S> entityStream) {
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<Employee> findById(String id) {
+        return Mono.fromSupplier(() -> copyOrNull(employees.get(id)));
+    }
+
+    @Override
+    public Mono<Employee> findById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return Mono.fromSupplier(() -> employees.containsKey(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<Employee> findAll() {
+        return Flux.defer(() -> Flux.fromIterable(employees.values()).map(InMemoryEmployeeRepository::copy));
+    }
+
+    @Override
+    public Flux<Employee> findAllById(Iterable<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Flux<Employee> findAllById(Publisher<String> idStream) {
+        return Flux.from(idStream).concatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromSupplier(() -> (long) employees.size());
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.fromRunnable(() -> employees.remove(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(Employee entity) {
+        return deleteById(entity.getId());
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends String> ids) {
+        return Mono.fromRunnable(() -> ids.forEach(employees::remove));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends Employee> entities) {
+        return Mono.fromRunnable(() -> entities.forEach(employee -> employees.remove(employee.getId())));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends Employee> entityStream) {
+        return Flux.from(entityStream).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.fromRunnable(employees::clear);
+    }
+
+    @Override
+    public Mono<Boolean> removeById(String employeeId) {
+        return Mono.fromSupplier(() -> employees.remove(employeeId) != null);
+    }
+
+    /*This method replaces the three fields of the stored employee in one atomic step of the map, like the findAndModify command does in MongoDB.
+    An employee whose version is not one of the expected ones is left unchanged and not returned.*/
+    @Override
+    public Mono<Employee> replaceFields(String employeeId, String firstName, String lastName, String email, List<Long> expectedVersions) {
+        return Mono.fromSupplier(() -> {
+            AtomicReference<Employee> replaced = new AtomicReference<>();
+            employees.computeIfPresent(employeeId, (id, existing) -> {
+                if (expectedVersions != null && !expectedVersions.contains(existing.getVersion())) {
+                    return existing;
+                }
+                replaced.set(new Employee(id, firstName, lastName, email, nextVersion(existing)));
+                return replaced.get();
+            });
+            return copyOrNull(replaced.get());
+        });
+    }
+
+    /*This method changes only the fields that are not null, in one atomic step of the map.*/
+    @Override
+    public Mono<Employee> updateFields(String employeeId, String firstName, String lastName, String email) {
+        return Mono.fromSupplier(() -> copyOrNull(employees.computeIfPresent(employeeId, (id, existing) -> new Employee(id,
+                firstName != null ? firstName : existing.getFirstName(),
+                lastName != null ? lastName : existing.getLastName(),
+                email != null ? email : existing.getEmail(),
+                firstName == null && lastName == null && email == null ? existing.getVersion() : nextVersion(existing)))));
+    }
+
+    /*This method inserts the employees one after the other. Like an unordered insertMany, an employee whose id already exists is rejected
+    without stopping the others.*/
+    @Override
+    public Mono<Map<Integer, String>> insertAll(List<Employee> employees) {
+        return Mono.fromSupplier(() -> {
+            Map<Integer, String> errors = new TreeMap<>();
+            for (int index = 0; index < employees.size(); index++) {
+                Employee employee = employees.get(index);
+                if (employee.getId() == null) {
+                    employee.setId(UUID.randomUUID().toString());
+                }
+                if (employee.getVersion() == null) {
+                    employee.setVersion(0L);
+                }
+                if (this.employees.putIfAbsent(employee.getId(), copy(employee)) != null) {
+                    errors.put(index, "Duplicate id " + employee.getId());
+                }
+            }
+            return errors;
+        });
+    }
+
+    private static Employee copy(Employee employee) {
+        return new Employee(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(), employee.getVersion());
+    }
+
+    //Like $inc in MongoDB, an employee without a version gets version 1.
+    private static Long nextVersion(Employee employee) {
+        return employee.getVersion() == null ? 1L : employee.getVersion() + 1;
+    }
+
+    private static Employee copyOrNull(Employee employee) {
+        return employee != null ? copy(employee) : null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.eemrezcn.example.service;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
+import reactor.core.publisher.Flux;
+
+public interface EmployeeIngestService {
+
+    //This method represents an operation that saves a stream of employees in batches and returns one EmployeeIngestResult per employee as a Flux.
+    Flux<EmployeeIngestResult> ingestEmployees(Flux<EmployeeDto> employeeDtos);
+
+}
@@ -4,6 +4,8 @@ import com.eemrezcn.example.dto.EmployeeDto;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface EmployeeService {
 
     //This method represents an operation that takes an EmployeeDto object, saves the employee, and returns the result as a Mono<EmployeeDto>.
@@ -16,8 +18,16 @@ public interface EmployeeService {
     Flux<EmployeeDto> getAllEmployees();
 
     //This method represents an operation that updates an employee based on a specific ID using the information from an EmployeeDto and returns the result as a Mono<EmployeeDto>.
+    //If the EmployeeDto has a version, the employee is only updated when it still has this version; otherwise the Mono fails with an OptimisticLockingFailureException.
     Mono<EmployeeDto> updateEmployee(EmployeeDto employeeDto, String employeeId);
 
+    //This method works like updateEmployee, but the employee is only updated when it still has one of the expected versions (for example the
+    //versions of the ETags of an If-Match header). The version of the EmployeeDto is ignored, and null expected versions update the employee unconditionally.
+    Mono<EmployeeDto> updateEmployee(EmployeeDto employeeDto, String employeeId, List<Long> expectedVersions);
+
+    //This method represents an operation that updates only the fields of an employee that are set in the EmployeeDto and returns the result as a Mono<EmployeeDto>.
+    Mono<EmployeeDto> patchEmployee(EmployeeDto employeeDto, String employeeId);
+
     //This method represents an operation that deletes an employee based on a specific ID and returns the result as a Mono<Void>.
     Mono<Void> deleteEmployee(String employeeId);
 
@@ -0,0 +1,99 @@
+package com.eemrezcn.example.service.impl;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
+import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.mapper.EmployeeMapper;
+import com.eemrezcn.example.repository.EmployeeRepository;
+import com.eemrezcn.example.service.EmployeeIngestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*This service saves large uploads of employees. The employees are grouped into batches of at most "employee.ingest.batch-size" employees, and every
+batch is stored with one insertMany command. A batch is also sent when it is not full but "employee.ingest.max-wait" has passed since its first
+employee arrived, so a slow upload still gets its results early. Only one batch is written at a time and the next employees are only requested
+from the upload when there is room for them, so the memory used stays the same no matter how large the upload is.*/
+@Service //This code snippet defines a class representing a service in the Spring Framework, typically responsible for executing business logic operations
+public class EmployeeIngestServiceImpl implements EmployeeIngestService {
+
+    private final EmployeeRepository employeeRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final EmployeeEventPublisher employeeEventPublisher;
+
+    private final int batchSize;
+
+    private final Duration maxWait;
+
+    public EmployeeIngestServiceImpl(EmployeeRepository employeeRepository,
+                                     MeterRegistry meterRegistry,
+                                     EmployeeEventPublisher employeeEventPublisher,
+                                     @Value("${employee.ingest.batch-size:500}") int batchSize,
+                                     @Value("${employee.ingest.max-wait:PT0.2S}") Duration maxWait) {
+        this.employeeRepository = employeeRepository;
+        this.meterRegistry = meterRegistry;
+        this.employeeEventPublisher = employeeEventPublisher;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+    }
+
+    /*This method numbers the employees in the order they arrive, groups them into batches and writes the batches one after the other.
+    The results of a batch are emitted as soon as it has been written, in the order of the upload.*/
+    @Override
+    public Flux<EmployeeIngestResult> ingestEmployees(Flux<EmployeeDto> employeeDtos) {
+        return employeeDtos
+                .index()
+                .bufferTimeout(batchSize, maxWait, true)
+                .concatMap(this::insertBatch, 1)
+                .name(EmployeeServiceImpl.METRIC_NAME)
+                .tag("operation", "ingest")
+                .tap(Micrometer.metrics(meterRegistry));
+    }
+
+    /*This method writes one batch and turns the write errors reported for single employees into failed results. If the whole batch could not
+    be written, for example because the database is not reachable, every employee of the batch gets a failed result, so the client can send
+    exactly these employees again. A CREATED event is published for every employee that was stored.*/
+    private Flux<EmployeeIngestResult> insertBatch(List<Tuple2<Long, EmployeeDto>> batch) {
+        List<Employee> employees = new ArrayList<>(batch.size());
+        batch.forEach(record -> employees.add(EmployeeMapper.mapToEmployee(record.getT2())));
+
+        return employeeRepository.insertAll(employees)
+                .onErrorResume(exception -> Mono.just(IntStream.range(0, batch.size()).boxed()
+                        .collect(Collectors.toMap(Function.identity(), index -> String.valueOf(exception.getMessage())))))
+                .doOnNext(errors -> publishCreated(employees, errors))
+                .flatMapIterable(errors -> results(batch, employees, errors));
+    }
+
+    private void publishCreated(List<Employee> employees, Map<Integer, String> errors) {
+        for (int i = 0; i < employees.size(); i++) {
+            if (!errors.containsKey(i)) {
+                employeeEventPublisher.created(EmployeeMapper.mapToEmployeeDto(employees.get(i)));
+            }
+        }
+    }
+
+    private static List<EmployeeIngestResult> results(List<Tuple2<Long, EmployeeDto>> batch, List<Employee> employees, Map<Integer, String> errors) {
+        List<EmployeeIngestResult> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            long index = batch.get(i).getT1();
+            String error = errors.get(i);
+            results.add(error == null ? EmployeeIngestResult.created(index, employees.get(i).getId()) : EmployeeIngestResult.failed(index, error));
+        }
+        return results;
+    }
+}
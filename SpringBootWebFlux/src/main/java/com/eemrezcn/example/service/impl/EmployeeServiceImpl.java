@@ -1,41 +1,58 @@
 package com.eemrezcn.example.service.impl;
 
+import com.eemrezcn.example.cache.EmployeeCache;
 import com.eemrezcn.example.dto.EmployeeDto;
 import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
 import com.eemrezcn.example.mapper.EmployeeMapper;
 import com.eemrezcn.example.repository.EmployeeRepository;
 import com.eemrezcn.example.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Service //This code snippet defines a class representing a service in the Spring Framework, typically responsible for executing business logic operations
 @AllArgsConstructor //@AllArgsConstructor is a Java annotation provided by the Lombok library, and it generates a constructor for all fields in the class.
 public class EmployeeServiceImpl implements EmployeeService {
 
+    /*The name of the metrics recorded for every pipeline of this service. Reactor publishes them as "ems.employees.flow.duration" (the time from
+    subscription until the pipeline completes, fails or is cancelled), "ems.employees.subscribed" and "ems.employees.requested",
+    each tagged with the operation and, for the duration, with the status of the pipeline.*/
+    public static final String METRIC_NAME = "ems.employees";
+
     private EmployeeRepository employeeRepository;
 
+    private EmployeeCache employeeCache;
+
+    private MeterRegistry meterRegistry;
+
+    private EmployeeEventPublisher employeeEventPublisher;
+
     /*This code snippet comprises the implementation of a method that takes an EmployeeDto object, converts it into an Employee entity,
     saves this entity using employeeRepository.save, and, along with the resulting Mono<Employee>, t
-    ransforms the saved employee back into an EmployeeDto.*/
+    ransforms the saved employee back into an EmployeeDto. A CREATED event is published once the employee has been saved.*/
     @Override
     public Mono<EmployeeDto> saveEmployee(EmployeeDto employeeDto) {
         // convert EmployeeDTO into Employee Entity
         Employee employee = EmployeeMapper.mapToEmployee(employeeDto);
         Mono<Employee> savedEmployee = employeeRepository.save(employee);
-        return savedEmployee
-                .map((employeeEntity) -> EmployeeMapper.mapToEmployeeDto(employeeEntity));
+        return measured(savedEmployee
+                .map((employeeEntity) -> EmployeeMapper.mapToEmployeeDto(employeeEntity))
+                .doOnNext(employeeEventPublisher::created), "save");
     }
 
-    /*This method retrieves a specific employee by their ID using employeeRepository.findById(employeeId), then transforms the resulting
-    Mono<Employee> by applying the EmployeeMapper.mapToEmployeeDto method to convert the retrieved employee into a Mono<EmployeeDto>,
-    and finally returns it.*/
+    /*This method retrieves a specific employee by their ID through the employee cache. Only when the employee is not cached, it is read using
+    employeeRepository.findById(employeeId), converted into an EmployeeDto with the EmployeeMapper.mapToEmployeeDto method and stored in the cache.*/
     @Override
     public Mono<EmployeeDto> getEmployee(String employeeId) {
-        Mono<Employee> savedEmployee = employeeRepository.findById(employeeId);
-        return savedEmployee
-                .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee));
+        return measured(employeeCache.get(employeeId, (id) -> employeeRepository.findById(id)
+                .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee))), "get");
     }
 
     /*This method retrieves all employees using employeeRepository.findAll(), transforms each employee by applying the EmployeeMapper.mapToEmployeeDto
@@ -47,31 +64,75 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         return employeeFlux
                 .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee))
-                .switchIfEmpty(Flux.empty());
+                .switchIfEmpty(Flux.empty())
+                .name(METRIC_NAME)
+                .tag("operation", "getAll")
+                .tap(Micrometer.metrics(meterRegistry));
     }
 
-    /*This method retrieves an existing employee by their ID using employeeRepository.findById(employeeId). Subsequently,
-    it updates the information of the existing employee, saves it using employeeRepository.save, and then returns
-    the resulting updated Mono<Employee> transformed into a Mono<EmployeeDto> using the EmployeeMapper.mapToEmployeeDto method.*/
+    /*This method updates the first name, last name and email of an existing employee with employeeRepository.replaceFields, which changes
+    the document and returns the updated version in a single MongoDB command. The resulting Mono<Employee> is transformed into
+    a Mono<EmployeeDto> using the EmployeeMapper.mapToEmployeeDto method. If the employee does not exist, the result is empty.
+    The cached copy of the employee is removed once the update has finished, and an UPDATED event is published if the employee existed.
+    When the EmployeeDto has a version, MongoDB only updates the employee if it still has this version. If nothing was updated although
+    the employee exists, it has been changed in the meantime, and the Mono fails with an OptimisticLockingFailureException.*/
     @Override
     public Mono<EmployeeDto> updateEmployee(EmployeeDto employeeDto, String employeeId) {
+        return updateEmployee(employeeDto, employeeId, employeeDto.getVersion() == null ? null : List.of(employeeDto.getVersion()));
+    }
 
-        Mono<Employee> employeeMono = employeeRepository.findById(employeeId);
-
-        Mono<Employee> updatedEmployee = employeeMono.flatMap((existingEmployee) -> {
-            existingEmployee.setFirstName(employeeDto.getFirstName());
-            existingEmployee.setLastName(employeeDto.getLastName());
-            existingEmployee.setEmail(employeeDto.getEmail());
+    /*This method is the updateEmployee above with a list of versions, of which the employee must still have one.*/
+    @Override
+    public Mono<EmployeeDto> updateEmployee(EmployeeDto employeeDto, String employeeId, List<Long> expectedVersions) {
+        return measured(employeeRepository.replaceFields(employeeId, employeeDto.getFirstName(), employeeDto.getLastName(), employeeDto.getEmail(), expectedVersions)
+                .switchIfEmpty(Mono.defer(() -> expectedVersions == null ? Mono.empty() : employeeRepository.existsById(employeeId)
+                        .flatMap((exists) -> exists
+                                ? Mono.error(new OptimisticLockingFailureException("Employee " + employeeId + " has none of the versions " + expectedVersions))
+                                : Mono.empty())))
+                .transform((update) -> invalidatingCache(update, employeeId))
+                .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee))
+                .doOnNext(employeeEventPublisher::updated), "update");
+    }
 
-            return employeeRepository.save(existingEmployee);
-        });
-        return updatedEmployee
-                .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee));
+    /*This method works like updateEmployee, but only the fields that are not null in the EmployeeDto are changed,
+    using employeeRepository.updateFields.*/
+    @Override
+    public Mono<EmployeeDto> patchEmployee(EmployeeDto employeeDto, String employeeId) {
+        return measured(employeeRepository.updateFields(employeeId, employeeDto.getFirstName(), employeeDto.getLastName(), employeeDto.getEmail())
+                .transform((update) -> invalidatingCache(update, employeeId))
+                .map((employee) -> EmployeeMapper.mapToEmployeeDto(employee))
+                .doOnNext(employeeEventPublisher::updated), "patch");
     }
 
-    /*This method deletes an employee with a specific ID using employeeRepository.deleteById(employeeId) and returns a result of type Mono<Void>.*/
+    /*This method deletes an employee with a specific ID using employeeRepository.removeById(employeeId) and returns a result of type Mono<Void>.
+    The cached copy of the employee is removed once the deletion has finished, and a DELETED event is published only when an employee was
+    actually deleted, so subscribers never get events for employees that did not exist.*/
     @Override
     public Mono<Void> deleteEmployee(String employeeId) {
-        return employeeRepository.deleteById(employeeId);
+        return measured(employeeRepository.removeById(employeeId)
+                .transform((deletion) -> invalidatingCache(deletion, employeeId))
+                .doOnNext((deleted) -> {
+                    if (deleted) {
+                        employeeEventPublisher.deleted(employeeId);
+                    }
+                })
+                .then(), "delete");
+    }
+
+    /*This method removes the cached copy of the employee when the given change emits its result, completes, fails or is cancelled. The cache is
+    cleared before the signal is passed on, so a client that reads the employee right after the response of the change never gets the old copy.*/
+    private <T> Mono<T> invalidatingCache(Mono<T> change, String employeeId) {
+        return change
+                .doOnEach((signal) -> employeeCache.invalidate(employeeId))
+                .doOnCancel(() -> employeeCache.invalidate(employeeId));
+    }
+
+    /*This method records the metrics of the given pipeline under METRIC_NAME, tagged with the name of the operation. The metrics are only
+    recorded when the returned Mono is subscribed, so a pipeline that is built but never subscribed does not show up.*/
+    private <T> Mono<T> measured(Mono<T> pipeline, String operation) {
+        return pipeline
+                .name(METRIC_NAME)
+                .tag("operation", operation)
+                .tap(Micrometer.metrics(meterRegistry));
     }
 }
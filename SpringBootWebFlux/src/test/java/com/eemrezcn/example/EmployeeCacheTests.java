@@ -0,0 +1,153 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.cache.EmployeeCache;
+import com.eemrezcn.example.dto.EmployeeDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This test class verifies the read-through behaviour of the EmployeeCache without a Spring context: hits, coalesced misses, invalidation,
+not caching missing employees and the published hit and miss metrics.*/
+public class EmployeeCacheTests {
+
+    private MeterRegistry meterRegistry;
+
+    private EmployeeCache employeeCache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeCache = new EmployeeCache(100, Duration.ofMinutes(5), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    /*This test method reads the same employee twice and verifies that the loader is only called for the first read.*/
+    @Test
+    public void givenCachedEmployee_whenGet_thenLoaderIsNotCalledAgain() {
+
+        StepVerifier.create(employeeCache.get("1", this::load))
+                .assertNext(employeeDto -> assertThat(employeeDto.getFirstName()).isEqualTo("Emre"))
+                .verifyComplete();
+        StepVerifier.create(employeeCache.get("1", this::load))
+                .assertNext(employeeDto -> assertThat(employeeDto.getId()).isEqualTo("1"))
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(employeeCache.stats().hitCount()).isEqualTo(1);
+        assertThat(employeeCache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", EmployeeCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    /*This test method starts two reads of the same employee while the first load has not finished yet, and verifies that both reads
+    receive the employee from a single load. Cancelling one of the readers must not cancel the shared load.*/
+    @Test
+    public void givenConcurrentMisses_whenGet_thenLoaderIsCalledOnce() {
+
+        Sinks.One<EmployeeDto> pendingLoad = Sinks.one();
+        Mono<EmployeeDto> first = employeeCache.get("1", (id) -> {
+            loads.incrementAndGet();
+            return pendingLoad.asMono();
+        });
+        Mono<EmployeeDto> second = employeeCache.get("1", this::load);
+        Mono<EmployeeDto> cancelled = employeeCache.get("1", this::load);
+
+        StepVerifier.create(cancelled).thenCancel().verify();
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pendingLoad.tryEmitValue(new EmployeeDto("1", "Emre", "Ozcan", "emre@gmail.com")))
+                .assertNext(both -> assertThat(both.getT1()).isSameAs(both.getT2()))
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    /*This test method lets a shared load fail while two reads are waiting for it. Both reads must receive the error, and the failure must not be
+    cached, so the next read loads the employee again.*/
+    @Test
+    public void givenFailingSharedLoad_whenGet_thenEveryReaderReceivesTheErrorAndNothingIsCached() {
+
+        Sinks.One<EmployeeDto> pendingLoad = Sinks.one();
+        Mono<EmployeeDto> first = employeeCache.get("1", (id) -> {
+            loads.incrementAndGet();
+            return pendingLoad.asMono();
+        });
+        Mono<EmployeeDto> second = employeeCache.get("1", this::load);
+
+        StepVerifier.create(Mono.zipDelayError(first.onErrorResume(error -> Mono.just(new EmployeeDto(null, null, null, error.getMessage()))),
+                        second.onErrorResume(error -> Mono.just(new EmployeeDto(null, null, null, error.getMessage())))))
+                .then(() -> pendingLoad.tryEmitError(new IllegalStateException("database down")))
+                .assertNext(both -> {
+                    assertThat(both.getT1().getEmail()).isEqualTo("database down");
+                    assertThat(both.getT2().getEmail()).isEqualTo("database down");
+                })
+                .verifyComplete();
+        StepVerifier.create(employeeCache.get("1", this::load))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    /*This test method invalidates a cached employee and verifies that the next read loads it again.*/
+    @Test
+    public void givenInvalidatedEmployee_whenGet_thenLoaderIsCalledAgain() {
+
+        employeeCache.get("1", this::load).block();
+        employeeCache.invalidate("1");
+        employeeCache.get("1", this::load).block();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    /*This test method invalidates an employee while its load is still running and verifies that the result of that load is not cached.*/
+    @Test
+    public void givenLoadInProgress_whenInvalidate_thenResultIsNotCached() {
+
+        Sinks.One<EmployeeDto> pendingLoad = Sinks.one();
+        StepVerifier.create(employeeCache.get("1", (id) -> pendingLoad.asMono()))
+                .then(() -> employeeCache.invalidate("1"))
+                .then(() -> pendingLoad.tryEmitValue(new EmployeeDto("1", "Old", "Ozcan", "old@gmail.com")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(employeeCache.get("1", this::load))
+                .assertNext(employeeDto -> assertThat(employeeDto.getFirstName()).isEqualTo("Emre"))
+                .verifyComplete();
+    }
+
+    /*This test method reads an employee that does not exist twice and verifies that the empty result is not cached.*/
+    @Test
+    public void givenMissingEmployee_whenGet_thenEmptyResultIsNotCached() {
+
+        StepVerifier.create(employeeCache.get("2", (id) -> {
+                    loads.incrementAndGet();
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+        StepVerifier.create(employeeCache.get("2", (id) -> {
+                    loads.incrementAndGet();
+                    return Mono.empty();
+                }))
+                .verifyComplete();
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private Mono<EmployeeDto> load(String id) {
+        return Mono.fromSupplier(() -> {
+            loads.incrementAndGet();
+            return new EmployeeDto(id, "Emre", "Ozcan", "emre@gmail.com");
+        });
+    }
+}
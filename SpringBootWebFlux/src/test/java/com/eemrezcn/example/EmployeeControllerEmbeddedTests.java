@@ -0,0 +1,247 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeEvent;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
+import com.eemrezcn.example.repository.EmployeeRepository;
+import com.eemrezcn.example.repository.InMemoryEmployeeRepository;
+import com.eemrezcn.example.service.EmployeeService;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This test class starts the whole application with the "embedded" profile, so it runs without MongoDB,
+and verifies that the employees are saved, read, patched and deleted through the in-memory repository.*/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+public class EmployeeControllerEmbeddedTests {
+
+    //This code snippet automatically injects the component of type WebTestClient to be used for Spring WebFlux tests.
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    /*This test method verifies that the embedded profile uses the in-memory repository instead of MongoDB.*/
+    @Test
+    public void givenEmbeddedProfile_whenContextStarts_thenInMemoryRepositoryIsUsed() {
+        assertThat(employeeRepository).isInstanceOf(InMemoryEmployeeRepository.class);
+    }
+
+    /*This test method saves an employee over HTTP, changes its email with a PATCH request, reads it back and finally deletes it.*/
+    @Test
+    public void givenSavedEmployee_whenPatchAndDelete_thenChangesAreVisible() {
+
+        EmployeeDto savedEmployee = webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeDto(null, "Emre", "Ozcan", "emre@gmail.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeDto.class)
+                .returnResult().getResponseBody();
+
+        webTestClient.patch().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"new@gmail.com\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Emre")
+                .jsonPath("$.email").isEqualTo("new@gmail.com");
+
+        webTestClient.delete().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .exchange()
+                .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .exchange()
+                .expectBody().isEmpty();
+    }
+
+    /*This test method uploads 1200 employees as newline-delimited JSON, which is more than two batches, and verifies that one result per employee
+    is streamed back in the order of the upload and that the created employees can be read.*/
+    @Test
+    public void givenNdjsonUpload_whenIngestEmployees_thenOneResultPerEmployee() {
+
+        Flux<EmployeeDto> employees = Flux.range(0, 1200)
+                .map(i -> new EmployeeDto(null, "Emre", "Ozcan", "emre" + i + "@gmail.com"));
+
+        List<EmployeeIngestResult> results = webTestClient.post().uri("/api/employees/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(employees, EmployeeDto.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EmployeeIngestResult.class)
+                .returnResult().getResponseBody();
+
+        assertThat(results).hasSize(1200);
+        assertThat(results).extracting(EmployeeIngestResult::getIndex).isSorted();
+        assertThat(results).allMatch(result -> result.getStatus() == EmployeeIngestResult.Status.CREATED);
+
+        webTestClient.get().uri("/api/employees/{id}", Collections.singletonMap("id", results.get(1199).getId()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("emre1199@gmail.com");
+    }
+
+    /*This test method opens the change feed, saves an employee once the feed has started and verifies that the employee is pushed as a CREATED
+    server-sent event whose id is the epoch of this run and the sequence of the event.*/
+    @Test
+    public void givenOpenEventStream_whenSaveEmployee_thenCreatedEventIsPushed() {
+
+        Flux<ServerSentEvent<EmployeeEvent>> events = webTestClient.get().uri("/api/employees/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<EmployeeEvent>>() {})
+                .getResponseBody();
+
+        StepVerifier.create(events)
+                .expectNextMatches(event -> "subscribed".equals(event.comment()))
+                .then(() -> employeeService.saveEmployee(new EmployeeDto(null, "Emre", "Ozcan", "events@gmail.com")).subscribe())
+                .expectNextMatches(event -> "CREATED".equals(event.event())
+                        && event.data().getEmployee().getEmail().equals("events@gmail.com")
+                        && event.id().matches("[0-9a-z]+-" + event.data().getSequence()))
+                .thenCancel()
+                .verify();
+    }
+
+    /*This test method reads an employee with the ETag of the previous response and gets 304 Not Modified, then updates it with If-Match:
+    the update with the current ETag succeeds and changes the ETag, a second update with the old ETag is rejected with 412.*/
+    @Test
+    public void givenETag_whenConditionalGetAndPut_thenVersionIsChecked() {
+
+        EmployeeDto savedEmployee = employeeService.saveEmployee(new EmployeeDto(null, "Emre", "Ozcan", "etag@gmail.com")).block();
+        Map<String, String> id = Collections.singletonMap("id", savedEmployee.getId());
+
+        webTestClient.get().uri("/api/employees/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"");
+        webTestClient.get().uri("/api/employees/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        webTestClient.put().uri("/api/employees/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(new EmployeeDto(null, "Ayse", "Ozcan", "etag@gmail.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Ayse");
+        webTestClient.put().uri("/api/employees/{id}", id)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(new EmployeeDto(null, "Old", "Copy", "etag@gmail.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        webTestClient.get().uri("/api/employees/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo("Ayse")
+                .jsonPath("$.version").isEqualTo(1);
+    }
+
+    /*This test method updates an employee with an If-Match header that lists the current ETag among others, which succeeds, and then updates
+    an employee that does not exist: with If-Match the response is 412, without it 404, and neither response has a body.*/
+    @Test
+    public void givenETagList_whenConditionalPut_thenAnyMatchingETagIsAccepted() {
+
+        EmployeeDto savedEmployee = employeeService.saveEmployee(new EmployeeDto(null, "Emre", "Ozcan", "etags@gmail.com")).block();
+
+        webTestClient.put().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .header(HttpHeaders.IF_MATCH, "W/\"0\", \"7\", \"0\"")
+                .bodyValue(new EmployeeDto(null, "Ayse", "Ozcan", "etags@gmail.com"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        webTestClient.put().uri("/api/employees/{id}", Collections.singletonMap("id", "missing"))
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(new EmployeeDto(null, "Ayse", "Ozcan", "missing@gmail.com"))
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+                .expectBody().isEmpty();
+        webTestClient.put().uri("/api/employees/{id}", Collections.singletonMap("id", "missing"))
+                .bodyValue(new EmployeeDto(null, "Ayse", "Ozcan", "missing@gmail.com"))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().isEmpty();
+    }
+
+    /*This test method saves an employee sent as Smile, reads it back as Smile and reads all employees as CBOR, decoding the bytes with the
+    Jackson mappers of the two formats. A client that accepts any format still gets JSON.*/
+    @Test
+    public void givenBinaryContentTypes_whenSaveAndGetEmployees_thenBodiesAreEncodedAccordingly() throws IOException {
+
+        SmileMapper smileMapper = new SmileMapper();
+        CBORMapper cborMapper = new CBORMapper();
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] savedSmile = webTestClient.post().uri("/api/employees")
+                .contentType(smile)
+                .accept(smile)
+                .bodyValue(smileMapper.writeValueAsBytes(new EmployeeDto(null, "Emre", "Ozcan", "smile@gmail.com")))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().contentType(smile)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+        EmployeeDto savedEmployee = smileMapper.readValue(savedSmile, EmployeeDto.class);
+        assertThat(savedEmployee.getId()).isNotNull();
+
+        byte[] allCbor = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult().getResponseBody();
+        assertThat(cborMapper.readValue(allCbor, EmployeeDto[].class))
+                .extracting(EmployeeDto::getEmail)
+                .contains("smile@gmail.com");
+        //The employees are streamed in an array of indefinite length, which starts with 0x9F and ends with the break byte 0xFF.
+        assertThat(allCbor[0]).isEqualTo((byte) 0x9F);
+        assertThat(allCbor[allCbor.length - 1]).isEqualTo((byte) 0xFF);
+
+        webTestClient.get().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .accept(MediaType.ALL)
+                .exchange()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("smile@gmail.com");
+    }
+}
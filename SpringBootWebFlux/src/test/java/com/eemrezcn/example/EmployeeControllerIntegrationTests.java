@@ -1,6 +1,7 @@
 package com.eemrezcn.example;
 
 import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
 import com.eemrezcn.example.repository.EmployeeRepository;
 import com.eemrezcn.example.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +10,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /*This annotation is used to ensure that a Spring Boot application runs on a random port during a test. The @SpringBootTest annotation, along with
 the webEnvironment parameter set to SpringBootTest.WebEnvironment.RANDOM_PORT, indicates that the application runs on a randomly chosen available port.
 This is commonly used in integration tests to allow the application to run on a different port for each test, preventing interference between different tests.*/
@@ -142,6 +146,31 @@ public class EmployeeControllerIntegrationTests {
                 .jsonPath("$.email").isEqualTo(updatedEmployee.getEmail());
     }
 
+    /*This test method, after saving an employee, sends an HTTP PATCH request that only contains a new email to the "/api/employees/{id}" URI.
+    It then verifies that the email is changed while the first and last name keep their saved values.*/
+    @Test
+    public void testPatchEmployee(){
+
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setFirstName("Deniz");
+        employeeDto.setLastName("Ozcan");
+        employeeDto.setEmail("dozcan@gmail.com");
+
+        EmployeeDto savedEmployee = employeeService.saveEmployee(employeeDto).block();
+
+        webTestClient.patch().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"deniz.ozcan@gmail.com\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.firstName").isEqualTo(employeeDto.getFirstName())
+                .jsonPath("$.lastName").isEqualTo(employeeDto.getLastName())
+                .jsonPath("$.email").isEqualTo("deniz.ozcan@gmail.com");
+    }
+
     /*This test method, after saving an employee, sends an HTTP DELETE request to the "/api/employees/{id}" URI using WebTestClient.
     It then verifies receiving the expected No Content response and deletes the employee in the process.*/
     @Test
@@ -161,4 +190,29 @@ public class EmployeeControllerIntegrationTests {
                 .consumeWith(System.out::println);
 
     }
+
+    /*This test method uploads three employees as newline-delimited JSON to the "/api/employees/stream" URI, where the third one reuses the id
+    of the first. It verifies that MongoDB stores the first two and reports the duplicate id only for the third one.*/
+    @Test
+    public void testIngestEmployees(){
+
+        String id = "65f000000000000000000001";
+        Flux<EmployeeDto> employees = Flux.just(
+                new EmployeeDto(id, "Emre", "Ozcan", "emre@gmail.com"),
+                new EmployeeDto(null, "Ali", "Ozcan", "ali@gmail.com"),
+                new EmployeeDto(id, "Ayse", "Ozcan", "ayse@gmail.com"));
+
+        webTestClient.post().uri("/api/employees/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .body(employees, EmployeeDto.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EmployeeIngestResult.class)
+                .value(results -> {
+                    assertThat(results).extracting(EmployeeIngestResult::getStatus).containsExactly(
+                            EmployeeIngestResult.Status.CREATED, EmployeeIngestResult.Status.CREATED, EmployeeIngestResult.Status.FAILED);
+                    assertThat(results.get(0).getId()).isEqualTo(id);
+                });
+    }
 }
@@ -0,0 +1,74 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This test class starts the whole application with the "embedded" profile and the metrics enabled, and verifies that requests are recorded
+by the http.server.requests timer and by the Reactor metrics of the service pipelines, and that they can be scraped by Prometheus.*/
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+@AutoConfigureObservability //Test contexts use a no-op registry by default; this annotation keeps the real metrics and the Prometheus endpoint.
+public class EmployeeControllerMetricsTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /*This test method saves and reads an employee and verifies that both service pipelines were timed with their operation tag.*/
+    @Test
+    public void givenSavedEmployee_whenGetEmployee_thenServicePipelinesAreTimed() {
+
+        EmployeeDto savedEmployee = webTestClient.post().uri("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmployeeDto(null, "Emre", "Ozcan", "emre@gmail.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EmployeeDto.class)
+                .returnResult().getResponseBody();
+
+        webTestClient.get().uri("/api/employees/{id}", Collections.singletonMap("id", savedEmployee.getId()))
+                .exchange()
+                .expectStatus().isOk();
+
+        Timer getTimer = meterRegistry.get(EmployeeServiceImpl.METRIC_NAME + ".flow.duration")
+                .tag("operation", "get").tag("status", "completed").timer();
+        Timer saveTimer = meterRegistry.get(EmployeeServiceImpl.METRIC_NAME + ".flow.duration")
+                .tag("operation", "save").tag("status", "completed").timer();
+        assertThat(getTimer.count()).isGreaterThanOrEqualTo(1);
+        assertThat(saveTimer.count()).isGreaterThanOrEqualTo(1);
+    }
+
+    /*This test method reads all employees and verifies that the Prometheus endpoint publishes the endpoint histogram and the pipeline timer.*/
+    @Test
+    public void givenRequest_whenScrapePrometheus_thenHistogramsArePublished() {
+
+        webTestClient.get().uri("/api/employees")
+                .exchange()
+                .expectStatus().isOk();
+
+        String scrape = webTestClient.get().uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertThat(scrape).contains("http_server_requests_seconds_bucket");
+        assertThat(scrape).contains("ems_employees_flow_duration_seconds_bucket");
+        assertThat(scrape).contains("operation=\"getAll\"");
+    }
+}
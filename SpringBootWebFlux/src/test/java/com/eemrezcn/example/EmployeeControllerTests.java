@@ -2,6 +2,8 @@ package com.eemrezcn.example;
 
 import com.eemrezcn.example.controller.EmployeeController;
 import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.service.EmployeeIngestService;
 import com.eemrezcn.example.service.EmployeeService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +38,13 @@ public class EmployeeControllerTests {
     @MockBean
     private EmployeeService employeeService;
 
+    //The controller also needs the EmployeeIngestService and the EmployeeEventPublisher, which are mocked as well.
+    @MockBean
+    private EmployeeIngestService employeeIngestService;
+
+    @MockBean
+    private EmployeeEventPublisher employeeEventPublisher;
+
 
     /*This test method expects to save an employee object and return the saved employee object.
     It uses BDDMockito to simulate the behavior of the saveEmployee method, and then sends an HTTP POST request to save the employee.
@@ -115,7 +124,7 @@ public class EmployeeControllerTests {
         employeeDto.setEmail("ayseozcan@gmail.com");
 
         BDDMockito.given(employeeService.updateEmployee(ArgumentMatchers.any(EmployeeDto.class),
-                        ArgumentMatchers.any(String.class)))
+                        ArgumentMatchers.any(String.class), ArgumentMatchers.isNull()))
                 .willReturn(Mono.just(employeeDto));
 
         WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", Collections.singletonMap("id", employeeId))
@@ -132,6 +141,32 @@ public class EmployeeControllerTests {
                 .jsonPath("$.email").isEqualTo(employeeDto.getEmail());
     }
 
+    /*This test method sends an HTTP PATCH request that only contains the email of an employee and verifies that
+    the employee returned by the service is sent back with HTTP 200 OK.*/
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenReturnPatchedEmployeeObject(){
+
+        String employeeId = "123";
+
+        EmployeeDto patchedEmployee = new EmployeeDto(employeeId, "Emre", "Ozcan", "new@gmail.com");
+
+        BDDMockito.given(employeeService.patchEmployee(ArgumentMatchers.argThat(employeeDto -> employeeDto.getFirstName() == null
+                                && "new@gmail.com".equals(employeeDto.getEmail())), ArgumentMatchers.eq(employeeId)))
+                .willReturn(Mono.just(patchedEmployee));
+
+        WebTestClient.ResponseSpec response = webTestClient.patch().uri("/api/employees/{id}", Collections.singletonMap("id", employeeId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"email\":\"new@gmail.com\"}")
+                .exchange();
+
+        response.expectStatus().isOk()
+                .expectBody()
+                .consumeWith(System.out::println)
+                .jsonPath("$.firstName").isEqualTo("Emre")
+                .jsonPath("$.email").isEqualTo("new@gmail.com");
+    }
+
     /*This test method, given an employee ID, expects to perform the employee deletion operation with no return value.
     It simulates the behavior of the deleteEmployee method using BDDMockito. Then, it sends an HTTP DELETE request to the "/api/employees/{id}" URI
     and verifies receiving the expected  No Content response, printing that there is no return value to the console.*/
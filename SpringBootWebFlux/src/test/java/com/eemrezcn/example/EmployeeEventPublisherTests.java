@@ -0,0 +1,131 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeEvent;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This test class verifies the change feed of the EmployeeEventPublisher: resuming after a sequence, the RESYNC event when the missed events
+are no longer kept or the event id is from an earlier run, and that a subscriber that does not read is disconnected without holding back the others.*/
+public class EmployeeEventPublisherTests {
+
+    private static final int HISTORY_SIZE = 5;
+
+    private static final int SUBSCRIBER_BUFFER_SIZE = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EmployeeEventPublisher employeeEventPublisher;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        employeeEventPublisher = new EmployeeEventPublisher(HISTORY_SIZE, SUBSCRIBER_BUFFER_SIZE, meterRegistry);
+    }
+
+    /*This test method publishes three events and subscribes with the sequence of the first one. The subscriber must receive the two events it
+    missed and then the events that are published after it subscribed.*/
+    @Test
+    public void givenLastSequence_whenSubscribe_thenMissedEventsAreReplayed() {
+
+        employeeEventPublisher.created(new EmployeeDto("1", "Emre", "Ozcan", "emre@gmail.com"));
+        employeeEventPublisher.updated(new EmployeeDto("1", "Emre", "Ozcan", "new@gmail.com"));
+        employeeEventPublisher.deleted("1");
+
+        StepVerifier.create(employeeEventPublisher.events(idOf(1)))
+                .expectNextMatches(event -> event.getSequence() == 2 && event.getType() == EmployeeEvent.Type.UPDATED
+                        && event.getEmployee().getEmail().equals("new@gmail.com"))
+                .expectNextMatches(event -> event.getSequence() == 3 && event.getType() == EmployeeEvent.Type.DELETED
+                        && event.getEmployeeId().equals("1") && event.getEmployee() == null)
+                .then(() -> employeeEventPublisher.created(new EmployeeDto("2", "Ali", "Ozcan", "ali@gmail.com")))
+                .expectNextMatches(event -> event.getSequence() == 4 && event.getEmployeeId().equals("2"))
+                .thenCancel()
+                .verify();
+    }
+
+    /*This test method subscribes without a sequence and verifies that the events published before are not sent again.*/
+    @Test
+    public void givenNoLastSequence_whenSubscribe_thenOnlyNewEventsAreSent() {
+
+        employeeEventPublisher.deleted("1");
+
+        StepVerifier.create(employeeEventPublisher.events(null))
+                .then(() -> employeeEventPublisher.deleted("2"))
+                .expectNextMatches(event -> event.getSequence() == 2 && event.getEmployeeId().equals("2"))
+                .thenCancel()
+                .verify();
+    }
+
+    /*This test method publishes more events than are kept and subscribes with a sequence whose following events were dropped. The subscriber
+    must get a RESYNC event first, so it knows that it has to read all employees again.*/
+    @Test
+    public void givenLastSequenceOlderThanHistory_whenSubscribe_thenResyncIsSentFirst() {
+
+        for (int i = 0; i < HISTORY_SIZE + 2; i++) {
+            employeeEventPublisher.deleted(String.valueOf(i));
+        }
+
+        StepVerifier.create(employeeEventPublisher.events(idOf(1)))
+                .expectNextMatches(event -> event.getType() == EmployeeEvent.Type.RESYNC && event.getSequence() == HISTORY_SIZE + 2)
+                .then(() -> employeeEventPublisher.deleted("next"))
+                .expectNextMatches(event -> event.getSequence() == HISTORY_SIZE + 3)
+                .thenCancel()
+                .verify();
+    }
+
+    /*This test method subscribes with the id of an event of an earlier run, whose sequence is not greater than the current one, and with an id in
+    another format. Both subscribers must get a RESYNC event first instead of resuming after the wrong event.*/
+    @Test
+    public void givenEventIdOfEarlierRun_whenSubscribe_thenResyncIsSentFirst() {
+
+        employeeEventPublisher.deleted("1");
+        employeeEventPublisher.deleted("2");
+        EmployeeEventPublisher earlierRun = new EmployeeEventPublisher(HISTORY_SIZE, SUBSCRIBER_BUFFER_SIZE, new SimpleMeterRegistry());
+        String earlierEventId = earlierRun.eventId(new EmployeeEvent(1, EmployeeEvent.Type.DELETED, "1", null));
+
+        StepVerifier.create(employeeEventPublisher.events(earlierEventId))
+                .expectNextMatches(event -> event.getType() == EmployeeEvent.Type.RESYNC && event.getSequence() == 2)
+                .thenCancel()
+                .verify();
+        StepVerifier.create(employeeEventPublisher.events("1"))
+                .expectNextMatches(event -> event.getType() == EmployeeEvent.Type.RESYNC && event.getSequence() == 2)
+                .thenCancel()
+                .verify();
+    }
+
+    /*This test method lets one subscriber request nothing while more events are published than its buffer can hold. When it reads again, it gets
+    the buffered events and then an overflow error, while a subscriber that reads all events still receives every one of them.*/
+    @Test
+    public void givenSubscriberThatDoesNotRead_whenBufferIsFull_thenOnlyThatFeedIsEnded() {
+
+        StepVerifier fastSubscriber = StepVerifier.create(employeeEventPublisher.events(null))
+                .expectNextCount(SUBSCRIBER_BUFFER_SIZE + 1)
+                .thenCancel()
+                .verifyLater();
+
+        StepVerifier.create(employeeEventPublisher.events(null), 0)
+                .then(() -> {
+                    for (int i = 0; i <= SUBSCRIBER_BUFFER_SIZE; i++) {
+                        employeeEventPublisher.deleted(String.valueOf(i));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(SUBSCRIBER_BUFFER_SIZE)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify();
+
+        fastSubscriber.verify();
+        assertThat(meterRegistry.get("ems.employees.events.overflows").counter().count()).isEqualTo(1.0);
+    }
+
+    //Returns the id of the server-sent event with the given sequence in this run.
+    private String idOf(long sequence) {
+        return employeeEventPublisher.eventId(new EmployeeEvent(sequence, EmployeeEvent.Type.DELETED, null, null));
+    }
+}
@@ -0,0 +1,113 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeIngestResult;
+import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.repository.InMemoryEmployeeRepository;
+import com.eemrezcn.example.service.impl.EmployeeIngestServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*This test class verifies the batching of the EmployeeIngestServiceImpl against a spied InMemoryEmployeeRepository, so it can be checked
+how many insertAll calls are made, how much of the upload is requested ahead and which results are returned.*/
+public class EmployeeIngestServiceTests {
+
+    private static final int BATCH_SIZE = 100;
+
+    private InMemoryEmployeeRepository employeeRepository;
+
+    private EmployeeIngestServiceImpl employeeIngestService;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository = Mockito.spy(new InMemoryEmployeeRepository());
+        employeeIngestService = new EmployeeIngestServiceImpl(employeeRepository, new SimpleMeterRegistry(),
+                new EmployeeEventPublisher(100, 100, new SimpleMeterRegistry()), BATCH_SIZE, Duration.ofSeconds(1));
+    }
+
+    /*This test method uploads 250 employees and verifies that they are written in three batches and that every employee gets a created result
+    with its id, in the order of the upload.*/
+    @Test
+    public void givenUploadLargerThanBatch_whenIngestEmployees_thenEmployeesAreWrittenInBatches() {
+
+        StepVerifier.create(employeeIngestService.ingestEmployees(employees(250)).collectList())
+                .assertNext(results -> {
+                    assertThat(results).hasSize(250);
+                    assertThat(results).extracting(EmployeeIngestResult::getIndex).isSorted();
+                    assertThat(results).allMatch(result -> result.getStatus() == EmployeeIngestResult.Status.CREATED && result.getId() != null);
+                })
+                .verifyComplete();
+
+        Mockito.verify(employeeRepository, Mockito.times(3)).insertAll(ArgumentMatchers.anyList());
+        StepVerifier.create(employeeRepository.count()).expectNext(250L).verifyComplete();
+    }
+
+    /*This test method uploads an employee whose id already exists and verifies that only this employee fails, while the rest of its batch is stored.*/
+    @Test
+    public void givenDuplicateId_whenIngestEmployees_thenOnlyThatEmployeeFails() {
+
+        employeeRepository.save(new Employee("1", "Emre", "Ozcan", "emre@gmail.com")).block();
+        Flux<EmployeeDto> upload = Flux.just(
+                new EmployeeDto(null, "Ali", "Ozcan", "ali@gmail.com"),
+                new EmployeeDto("1", "Ayse", "Ozcan", "ayse@gmail.com"),
+                new EmployeeDto(null, "Can", "Ozcan", "can@gmail.com"));
+
+        StepVerifier.create(employeeIngestService.ingestEmployees(upload))
+                .expectNextMatches(result -> result.getIndex() == 0 && result.getStatus() == EmployeeIngestResult.Status.CREATED)
+                .expectNextMatches(result -> result.getIndex() == 1 && result.getStatus() == EmployeeIngestResult.Status.FAILED)
+                .expectNextMatches(result -> result.getIndex() == 2 && result.getStatus() == EmployeeIngestResult.Status.CREATED)
+                .verifyComplete();
+    }
+
+    /*This test method lets the whole write of a batch fail and verifies that every employee of that batch gets a failed result.*/
+    @Test
+    public void givenBatchWriteFails_whenIngestEmployees_thenEveryEmployeeOfTheBatchFails() {
+
+        Mockito.doReturn(Mono.error(new IllegalStateException("database down"))).when(employeeRepository).insertAll(ArgumentMatchers.anyList());
+
+        StepVerifier.create(employeeIngestService.ingestEmployees(employees(3)))
+                .expectNextCount(3)
+                .verifyComplete();
+        StepVerifier.create(employeeIngestService.ingestEmployees(employees(1)))
+                .expectNextMatches(result -> result.getStatus() == EmployeeIngestResult.Status.FAILED && result.getError().equals("database down"))
+                .verifyComplete();
+    }
+
+    /*This test method reads the results of a large upload one at a time and verifies that the service never requests much more of the upload
+    than a few batches, so the memory used does not grow with the size of the upload.*/
+    @Test
+    public void givenSlowConsumer_whenIngestEmployees_thenUploadIsRequestedInBoundedAmounts() {
+
+        AtomicLong requested = new AtomicLong();
+        AtomicLong emitted = new AtomicLong();
+        AtomicLong maxAhead = new AtomicLong();
+        Flux<EmployeeDto> upload = employees(10_000)
+                .doOnRequest(requested::addAndGet)
+                .doOnNext(employee -> emitted.incrementAndGet());
+
+        StepVerifier.create(employeeIngestService.ingestEmployees(upload)
+                        .doOnNext(result -> maxAhead.accumulateAndGet(requested.get() - result.getIndex(), Math::max))
+                        .limitRate(1))
+                .expectNextCount(10_000)
+                .verifyComplete();
+
+        assertThat(emitted.get()).isEqualTo(10_000);
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(4L * BATCH_SIZE);
+    }
+
+    private static Flux<EmployeeDto> employees(int count) {
+        return Flux.range(0, count).map(i -> new EmployeeDto(null, "Emre", "Ozcan", "emre" + i + "@gmail.com"));
+    }
+}
@@ -0,0 +1,161 @@
+package com.eemrezcn.example;
+
+import com.eemrezcn.example.cache.EmployeeCache;
+import com.eemrezcn.example.dto.EmployeeDto;
+import com.eemrezcn.example.dto.EmployeeEvent;
+import com.eemrezcn.example.entity.Employee;
+import com.eemrezcn.example.event.EmployeeEventPublisher;
+import com.eemrezcn.example.repository.EmployeeRepository;
+import com.eemrezcn.example.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+/*This test class verifies the EmployeeServiceImpl with a mocked EmployeeRepository and a real EmployeeCache,
+so that it can be checked how often the repository is called.*/
+@ExtendWith(MockitoExtension.class)
+public class EmployeeServiceTests {
+
+    //This code snippet creates a mock EmployeeRepository, so no MongoDB database is needed.
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeServiceImpl employeeService;
+
+    private EmployeeEventPublisher employeeEventPublisher;
+
+    private Employee employee;
+
+    @BeforeEach
+    public void setup() {
+        EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        employeeEventPublisher = new EmployeeEventPublisher(100, 100, new SimpleMeterRegistry());
+        employeeService = new EmployeeServiceImpl(employeeRepository, employeeCache, new SimpleMeterRegistry(), employeeEventPublisher);
+        employee = new Employee("123", "Emre", "Ozcan", "emre@gmail.com");
+    }
+
+    /*This test method reads the same employee twice and verifies that only the first read goes to the repository.*/
+    @Test
+    public void givenEmployeeId_whenGetEmployeeTwice_thenRepositoryIsCalledOnce() {
+
+        BDDMockito.given(employeeRepository.findById("123")).willReturn(Mono.just(employee));
+
+        StepVerifier.create(employeeService.getEmployee("123"))
+                .expectNextMatches(employeeDto -> employeeDto.getFirstName().equals("Emre"))
+                .verifyComplete();
+        StepVerifier.create(employeeService.getEmployee("123"))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(employeeRepository, Mockito.times(1)).findById("123");
+    }
+
+    /*This test method updates a cached employee and verifies that the next read returns the updated employee from the repository.*/
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenNextReadIsNotStale() {
+
+        Employee updated = new Employee("123", "Ayse", "Ozcan", "ayse@gmail.com");
+        BDDMockito.given(employeeRepository.findById("123")).willReturn(Mono.just(employee), Mono.just(updated));
+        BDDMockito.given(employeeRepository.replaceFields("123", "Ayse", "Ozcan", "ayse@gmail.com", null)).willReturn(Mono.just(updated));
+
+        employeeService.getEmployee("123").block();
+        employeeService.updateEmployee(new EmployeeDto(null, "Ayse", "Ozcan", "ayse@gmail.com"), "123").block();
+
+        StepVerifier.create(employeeService.getEmployee("123"))
+                .expectNextMatches(employeeDto -> employeeDto.getFirstName().equals("Ayse"))
+                .verifyComplete();
+    }
+
+    /*This test method updates an employee and verifies that it is changed with a single repository call, without reading it first.*/
+    @Test
+    public void givenEmployeeDto_whenUpdateEmployee_thenFieldsAreReplacedInOneCall() {
+
+        Employee updated = new Employee("123", "Ayse", null, "ayse@gmail.com");
+        BDDMockito.given(employeeRepository.replaceFields("123", "Ayse", null, "ayse@gmail.com", null)).willReturn(Mono.just(updated));
+
+        StepVerifier.create(employeeService.updateEmployee(new EmployeeDto(null, "Ayse", null, "ayse@gmail.com"), "123"))
+                .expectNextMatches(employeeDto -> employeeDto.getLastName() == null)
+                .verifyComplete();
+
+        Mockito.verify(employeeRepository, Mockito.never()).findById(ArgumentMatchers.anyString());
+        Mockito.verify(employeeRepository, Mockito.never()).save(ArgumentMatchers.any(Employee.class));
+    }
+
+    /*This test method updates an employee with an outdated version. The repository does not update it, and because the employee exists,
+    the update fails with an OptimisticLockingFailureException instead of completing empty.*/
+    @Test
+    public void givenOutdatedVersion_whenUpdateEmployee_thenOptimisticLockingFailure() {
+
+        BDDMockito.given(employeeRepository.replaceFields("123", "Ayse", "Ozcan", "ayse@gmail.com", List.of(3L))).willReturn(Mono.empty());
+        BDDMockito.given(employeeRepository.existsById("123")).willReturn(Mono.just(true));
+
+        StepVerifier.create(employeeService.updateEmployee(new EmployeeDto(null, "Ayse", "Ozcan", "ayse@gmail.com", 3L), "123"))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+    }
+
+    /*This test method patches only the email of an employee and verifies that only the email is passed to the repository.*/
+    @Test
+    public void givenOnlyEmail_whenPatchEmployee_thenOnlyEmailIsUpdated() {
+
+        Employee patched = new Employee("123", "Emre", "Ozcan", "new@gmail.com");
+        BDDMockito.given(employeeRepository.updateFields("123", null, null, "new@gmail.com")).willReturn(Mono.just(patched));
+
+        StepVerifier.create(employeeService.patchEmployee(new EmployeeDto(null, null, null, "new@gmail.com"), "123"))
+                .expectNextMatches(employeeDto -> employeeDto.getFirstName().equals("Emre") && employeeDto.getEmail().equals("new@gmail.com"))
+                .verifyComplete();
+    }
+
+    /*This test method patches an employee that does not exist and verifies that the result is empty.*/
+    @Test
+    public void givenMissingEmployee_whenPatchEmployee_thenReturnEmpty() {
+
+        BDDMockito.given(employeeRepository.updateFields("999", "Ayse", null, null)).willReturn(Mono.empty());
+
+        StepVerifier.create(employeeService.patchEmployee(new EmployeeDto(null, "Ayse", null, null), "999"))
+                .verifyComplete();
+    }
+
+    /*This test method deletes a cached employee and verifies that the next read goes to the repository again.*/
+    @Test
+    public void givenCachedEmployee_whenDeleteEmployee_thenNextReadGoesToRepository() {
+
+        BDDMockito.given(employeeRepository.findById("123")).willReturn(Mono.just(employee), Mono.empty());
+        BDDMockito.given(employeeRepository.removeById("123")).willReturn(Mono.just(true));
+
+        employeeService.getEmployee("123").block();
+        employeeService.deleteEmployee("123").block();
+
+        StepVerifier.create(employeeService.getEmployee("123"))
+                .verifyComplete();
+        Mockito.verify(employeeRepository, Mockito.times(2)).findById("123");
+    }
+
+    /*This test method deletes an employee that does not exist and then one that exists, and verifies that only the second deletion is published.*/
+    @Test
+    public void givenMissingEmployee_whenDeleteEmployee_thenNoDeletedEventIsPublished() {
+
+        BDDMockito.given(employeeRepository.removeById("999")).willReturn(Mono.just(false));
+        BDDMockito.given(employeeRepository.removeById("123")).willReturn(Mono.just(true));
+        String idBeforeDeletions = employeeEventPublisher.eventId(new EmployeeEvent(0, EmployeeEvent.Type.DELETED, null, null));
+
+        employeeService.deleteEmployee("999").block();
+        employeeService.deleteEmployee("123").block();
+
+        StepVerifier.create(employeeEventPublisher.events(idBeforeDeletions).take(1))
+                .expectNextMatches(event -> event.getSequence() == 1 && event.getEmployeeId().equals("123"))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,114 @@
+package com.eemrezcn.example.loadtest;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*This class is a load-test harness that opens many concurrent clients against a running instance of the application and reports how many
+connections were opened, how many were open at the same time, the request latency percentiles and the throughput. It is started by hand,
+once against the Netty stack ("mvn spring-boot:run") and once against the servlet stack ("mvn spring-boot:run -Pservlet"), so the two
+results can be compared.
+
+Arguments (all optional): label, base url, path, number of concurrent clients, requests per client. For example:
+    java ... ConcurrentClientsLoadHarness netty http://localhost:8080 /api/employees 10000 10
+
+With 10000 clients both the client and the server need a high open-file limit (for example "ulimit -n 65535").*/
+public final class ConcurrentClientsLoadHarness {
+
+    private ConcurrentClientsLoadHarness() {
+    }
+
+    public static void main(String[] args) {
+        String label = argument(args, 0, "server");
+        String baseUrl = argument(args, 1, "http://localhost:8080");
+        String path = argument(args, 2, "/api/employees");
+        int clients = Integer.parseInt(argument(args, 3, "10000"));
+        int requestsPerClient = Integer.parseInt(argument(args, 4, "10"));
+
+        AtomicInteger openConnections = new AtomicInteger();
+        AtomicInteger peakConnections = new AtomicInteger();
+        AtomicLong openedConnections = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLongArray latencies = new AtomicLongArray(clients * requestsPerClient);
+        AtomicInteger recorded = new AtomicInteger();
+
+        //Every client gets its own connection, so the number of concurrent connections equals the number of clients.
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test")
+                .maxConnections(clients)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .baseUrl(baseUrl)
+                .responseTimeout(Duration.ofSeconds(30))
+                //This callback runs once for every new TCP connection (not for connections reused from the pool).
+                .doOnChannelInit((observer, channel, remoteAddress) -> {
+                    openedConnections.incrementAndGet();
+                    peakConnections.accumulateAndGet(openConnections.incrementAndGet(), Math::max);
+                    channel.closeFuture().addListener(future -> openConnections.decrementAndGet());
+                });
+
+        long start = System.nanoTime();
+        Flux.range(0, clients)
+                .flatMap(client -> Flux.range(0, requestsPerClient)
+                        .concatMap(request -> timedRequest(httpClient, path)
+                                .doOnNext(nanos -> latencies.set(recorded.getAndIncrement(), nanos))
+                                .onErrorResume(error -> {
+                                    errors.incrementAndGet();
+                                    return Mono.empty();
+                                })), clients)
+                .blockLast();
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = new long[recorded.get()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+
+        System.out.printf("[%s] %d clients x %d requests against %s%s%n", label, clients, requestsPerClient, baseUrl, path);
+        System.out.printf("[%s] connections opened: %d, peak concurrent connections: %d%n", label, openedConnections.get(), peakConnections.get());
+        System.out.printf("[%s] successful requests: %d, errors: %d, throughput: %.0f req/sec%n",
+                label, sorted.length, errors.get(), sorted.length / (elapsed / 1_000_000_000.0));
+        System.out.printf("[%s] latency ms p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n", label,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9), percentile(sorted, 100));
+
+        connectionProvider.disposeLater().block();
+    }
+
+    //Sends one GET request, reads the whole response body and returns the time it took in nanoseconds. Error responses count as errors, but their
+    //body is still read so that the connection goes back to the pool.
+    private static Mono<Long> timedRequest(HttpClient httpClient, String path) {
+        return Mono.defer(() -> {
+            long requestStart = System.nanoTime();
+            return httpClient.get()
+                    .uri(path)
+                    .responseSingle((response, body) -> body.asByteArray()
+                            .defaultIfEmpty(new byte[0])
+                            .map(bytes -> response.status().code()))
+                    .flatMap(status -> status >= 400
+                            ? Mono.error(new IllegalStateException("HTTP " + status))
+                            : Mono.just(System.nanoTime() - requestStart));
+        });
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    private static String argument(String[] args, int index, String defaultValue) {
+        return args.length > index ? args[index] : defaultValue;
+    }
+}